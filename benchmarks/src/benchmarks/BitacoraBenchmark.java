@@ -0,0 +1,118 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import listas_genericas.ListaSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import persistencia.BitacoraCanciones;
+
+/**
+ * Latencia de escritura y tiempo de recuperacion de {@link BitacoraCanciones}.
+ *
+ * Los casos de escritura usan {@link Mode#SampleTime}, por lo que JMH reporta
+ * los percentiles p50 y p99 de cada insercion durable. Con varios hilos se ve
+ * el efecto del commit en grupo: un solo force confirma las inserciones de
+ * todos los hilos que esperaban. La recuperacion reproduce una bitacora de un
+ * millon de operaciones (inserciones, eliminaciones y actualizaciones).
+ *
+ * @author Carlos Álvarez
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BitacoraBenchmark {
+
+    private static final int OPERACIONES_RECUPERACION = 1_000_000;
+
+    @State(Scope.Benchmark)
+    public static class Escritura {
+
+        Path archivo;
+        BitacoraCanciones bitacora;
+        final AtomicInteger contador = new AtomicInteger();
+
+        @Setup(Level.Iteration)
+        public void preparar() throws IOException {
+            archivo = Files.createTempFile("canciones", ".wal");
+            bitacora = BitacoraCanciones.abrir(archivo, new ListaSimple<>(Cancion::getTitulo));
+        }
+
+        @TearDown(Level.Iteration)
+        public void limpiar() throws IOException {
+            bitacora.close();
+            Files.deleteIfExists(archivo);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Recuperacion {
+
+        Path archivo;
+
+        @Setup(Level.Trial)
+        public void preparar() throws IOException {
+            archivo = Files.createTempFile("canciones", ".wal");
+            ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+            lista.activarIndice();
+            try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, lista)) {
+                bitacora.setEsperarDurabilidad(false);
+                bitacora.setUmbralCompactacion(Long.MAX_VALUE);
+                for (int i = 0; i < OPERACIONES_RECUPERACION; i++) {
+                    if (i % 10 == 9) {
+                        bitacora.eliminar(Datos.cancion(i - 5));
+                    } else {
+                        bitacora.insertarFrente(Datos.cancion(i));
+                    }
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void limpiar() throws IOException {
+            Files.deleteIfExists(archivo);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Threads(1)
+    public void insertarDurable(Escritura estado) throws IOException {
+        estado.bitacora.insertarFrente(Datos.cancion(estado.contador.getAndIncrement()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Threads(8)
+    public void insertarDurableOchoHilos(Escritura estado) throws IOException {
+        estado.bitacora.insertarFrente(Datos.cancion(estado.contador.getAndIncrement()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ListaSimple<Cancion> recuperar(Recuperacion estado) throws IOException {
+        ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+        lista.activarIndice();
+        BitacoraCanciones.abrir(estado.archivo, lista).close();
+        return lista;
+    }
+
+}
@@ -0,0 +1,155 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.CacheLista;
+import listas_genericas.PoliticaDesalojo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reproduce sobre una {@link CacheLista} una traza de consultas con
+ * distribucion Zipf sobre {@code canciones} canciones: la cancion de rango
+ * {@code k} se consulta con probabilidad proporcional a {@code 1 / k^s}. Cada
+ * fallo carga la cancion y la agrega a la cache.
+ *
+ * El tiempo por operacion mide el costo de la politica; la tasa de aciertos
+ * de cada politica se imprime al terminar cada iteracion.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CacheListaBenchmark {
+
+    private static final int LARGO_TRAZA = 1 << 20;
+
+    @Param({"100000"})
+    int canciones;
+
+    @Param({"1000"})
+    int capacidad;
+
+    @Param({"0.8", "1.0"})
+    double s;
+
+    @Param({"lru", "transposicion", "lfu", "tinylfu"})
+    String politica;
+
+    Cancion[] catalogo;
+    String[] titulos;
+    int[] traza;
+    int siguiente;
+    CacheLista<Cancion> cache;
+
+    @Setup
+    public void preparar() {
+        catalogo = new Cancion[canciones];
+        titulos = new String[canciones];
+        for (int i = 0; i < canciones; i++) {
+            catalogo[i] = Datos.cancion(i);
+            titulos[i] = catalogo[i].getTitulo();
+        }
+        traza = trazaZipf(canciones, s, LARGO_TRAZA, new Random(42));
+        cache = new CacheLista<>(capacidad, Cancion::getTitulo, politica(politica, capacidad));
+        // Llena la cache antes de medir.
+        for (int i = 0; i < LARGO_TRAZA; i++) {
+            consultar(traza[i]);
+        }
+        cache.reiniciarEstadisticas();
+    }
+
+    @TearDown(Level.Iteration)
+    public void informar() {
+        System.out.println(politica + ": " + cache);
+        cache.reiniciarEstadisticas();
+    }
+
+    @Benchmark
+    public Cancion consultar() {
+        int cancion = traza[siguiente];
+        siguiente = (siguiente + 1) & (LARGO_TRAZA - 1);
+        return consultar(cancion);
+    }
+
+    private Cancion consultar(int cancion) {
+        Cancion encontrada = cache.obtener(titulos[cancion]);
+        if (encontrada == null) {
+            encontrada = catalogo[cancion];
+            cache.poner(encontrada);
+        }
+        return encontrada;
+    }
+
+    private static PoliticaDesalojo<Cancion> politica(String nombre, int capacidad) {
+        switch (nombre) {
+            case "lru":
+                return PoliticaDesalojo.lru();
+            case "transposicion":
+                return PoliticaDesalojo.transposicion();
+            case "lfu":
+                return PoliticaDesalojo.lfu();
+            case "tinylfu":
+                return PoliticaDesalojo.tinyLfu(capacidad);
+            default:
+                throw new IllegalArgumentException("Politica desconocida: " + nombre);
+        }
+    }
+
+    /**
+     * Genera la traza invirtiendo la distribucion acumulada con una busqueda
+     * binaria. El rango de cada cancion se mezcla con su numero para que las
+     * mas consultadas no sean las primeras insertadas.
+     */
+    private static int[] trazaZipf(int canciones, double s, int largo, Random aleatorio) {
+        double[] acumulada = new double[canciones];
+        double suma = 0;
+        for (int k = 0; k < canciones; k++) {
+            suma += 1 / Math.pow(k + 1, s);
+            acumulada[k] = suma;
+        }
+        int[] permutacion = new int[canciones];
+        for (int i = 0; i < canciones; i++) {
+            permutacion[i] = i;
+        }
+        for (int i = canciones - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int aux = permutacion[i];
+            permutacion[i] = permutacion[j];
+            permutacion[j] = aux;
+        }
+        int[] traza = new int[largo];
+        for (int i = 0; i < largo; i++) {
+            double u = aleatorio.nextDouble() * suma;
+            int bajo = 0;
+            int alto = canciones - 1;
+            while (bajo < alto) {
+                int medio = (bajo + alto) >>> 1;
+                if (acumulada[medio] < u) {
+                    bajo = medio + 1;
+                } else {
+                    alto = medio;
+                }
+            }
+            traza[i] = permutacion[bajo];
+        }
+        return traza;
+    }
+
+}
@@ -0,0 +1,113 @@
+package benchmarks;
+
+import entidades.Cancion;
+import entidades.CancionCodificada;
+import entidades.CodificadorCanciones;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import listas_genericas.ListaSimple;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara {@link Cancion} contra {@link CancionCodificada} en memoria
+ * retenida y en el filtro por genero.
+ *
+ * {@code memoria} carga {@code tamanio} canciones cuyos artistas y generos
+ * son cadenas distintas por fila, como las que crea el cargador de CSV, e
+ * informa en el contador {@code bytesPorCancion} el heap que queda ocupado
+ * despues de una recoleccion completa, dividido por la cantidad de
+ * canciones. {@code filtrarGenero} cuenta en paralelo las canciones de un
+ * genero con el predicado de {@link CodificadorCanciones#delGenero}.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class CancionCodificadaBenchmark {
+
+    @Param({"1000000"})
+    int tamanio;
+
+    @Param({"cadenas", "codificada"})
+    String almacenamiento;
+
+    CodificadorCanciones codificador;
+    ListaSimple<Cancion> lista;
+    Predicate<Cancion> rock;
+
+    /**
+     * Contadores auxiliares que JMH informa junto con el tiempo.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Memoria {
+
+        public long bytesPorCancion;
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        codificador = new CodificadorCanciones();
+        lista = cargar();
+        rock = codificador.delGenero("Rock");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 5)
+    public ListaSimple<Cancion> memoria(Memoria memoria) {
+        lista = null;
+        long antes = heapUsadoTrasRecolectar();
+        ListaSimple<Cancion> cargada = cargar();
+        memoria.bytesPorCancion = (heapUsadoTrasRecolectar() - antes) / tamanio;
+        lista = cargada;
+        return cargada;
+    }
+
+    @Benchmark
+    public long filtrarGenero() {
+        return lista.contar(rock);
+    }
+
+    private ListaSimple<Cancion> cargar() {
+        ListaSimple<Cancion> nueva = new ListaSimple<>(Cancion::getTitulo);
+        boolean codificada = almacenamiento.equals("codificada");
+        for (int i = 0; i < tamanio; i++) {
+            String titulo = "Cancion " + i;
+            String artista = new String("Artista " + (i % 1000));
+            String genero = new String(Datos.GENEROS[i % Datos.GENEROS.length]);
+            float duracion = 2.0f + (i % 600) / 100.0f;
+            nueva.insertarFrente(codificada
+                    ? codificador.nueva(titulo, artista, duracion, genero)
+                    : new Cancion(titulo, artista, duracion, genero));
+        }
+        return nueva;
+    }
+
+    private static long heapUsadoTrasRecolectar() {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoria.getHeapMemoryUsage().getUsed();
+    }
+
+}
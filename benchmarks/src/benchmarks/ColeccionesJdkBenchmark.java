@@ -0,0 +1,113 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Las mismas operaciones de {@link ListaSimpleBenchmark} sobre
+ * {@link LinkedList} y {@link ArrayList}, como referencia.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ColeccionesJdkBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    int tamanio;
+
+    @Param({"LinkedList", "ArrayList"})
+    String coleccion;
+
+    List<Cancion> lista;
+    String tituloDelMedio;
+    String tituloUltima;
+    Cancion nueva;
+
+    @Setup
+    public void preparar() {
+        lista = coleccion.equals("LinkedList") ? new LinkedList<>() : new ArrayList<>(tamanio + 1);
+        for (int i = tamanio - 1; i >= 0; i--) {
+            lista.add(Datos.cancion(i));
+        }
+        tituloDelMedio = Datos.cancion(tamanio / 2).getTitulo();
+        tituloUltima = Datos.cancion(0).getTitulo();
+        nueva = Datos.cancion(tamanio);
+    }
+
+    @Benchmark
+    public Cancion insertarFrente() {
+        lista.add(0, nueva);
+        return lista.remove(0);
+    }
+
+    @Benchmark
+    public Cancion buscarAcierto() {
+        return buscar(tituloDelMedio);
+    }
+
+    @Benchmark
+    public Cancion buscarFallo() {
+        return buscar(Datos.TITULO_INEXISTENTE);
+    }
+
+    @Benchmark
+    public Cancion eliminarCabeza() {
+        Cancion eliminada = lista.remove(0);
+        lista.add(0, eliminada);
+        return eliminada;
+    }
+
+    @Benchmark
+    public Cancion eliminarCola() {
+        Cancion eliminada = null;
+        Iterator<Cancion> it = lista.iterator();
+        while (it.hasNext() && eliminada == null) {
+            Cancion actual = it.next();
+            if (tituloUltima.equals(actual.getTitulo())) {
+                it.remove();
+                eliminada = actual;
+            }
+        }
+        lista.add(eliminada);
+        return eliminada;
+    }
+
+    @Benchmark
+    public double recorrer() {
+        double total = 0;
+        for (Cancion cancion : lista) {
+            total += cancion.getDuracion();
+        }
+        return total;
+    }
+
+    private Cancion buscar(String titulo) {
+        for (Cancion cancion : lista) {
+            if (titulo.equals(cancion.getTitulo())) {
+                return cancion;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,100 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ColumnasCanciones;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consultas que recorren todas las canciones: contar las de menos de 5
+ * minutos, sumar duraciones y promediar la duracion de un genero, sobre la
+ * cadena de nodos de {@link ListaSimple} contra {@link ColumnasCanciones}.
+ *
+ * {@code recorrido} elige la fuente: {@code nodos} sigue los enlaces de la
+ * lista, {@code columnas} usa la Vector API (el fork agrega
+ * {@code jdk.incubator.vector}) y {@code escalar} fuerza los bucles escalares
+ * de las columnas.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ColumnasCancionesBenchmark {
+
+    @Param({"1000000"})
+    int tamanio;
+
+    @Param({"nodos", "columnas", "escalar"})
+    String recorrido;
+
+    ListaSimple<Cancion> lista;
+    ColumnasCanciones columnas;
+
+    @Setup
+    public void preparar() {
+        if (recorrido.equals("escalar")) {
+            System.setProperty("listas_genericas.escaneo", "escalar");
+        }
+        lista = Datos.lista(tamanio);
+        columnas = ColumnasCanciones.de(lista);
+    }
+
+    @Benchmark
+    public int contarMenoresQue5() {
+        if (recorrido.equals("nodos")) {
+            int total = 0;
+            for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+                if (p.getDato().getDuracion() < 5.0f) {
+                    total++;
+                }
+            }
+            return total;
+        }
+        return columnas.contarDuracionEntre(Float.NEGATIVE_INFINITY, Math.nextDown(5.0f));
+    }
+
+    @Benchmark
+    public double sumarDuraciones() {
+        if (recorrido.equals("nodos")) {
+            double total = 0;
+            for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+                total += p.getDato().getDuracion();
+            }
+            return total;
+        }
+        return columnas.sumarDuraciones();
+    }
+
+    @Benchmark
+    public double promedioRock() {
+        if (recorrido.equals("nodos")) {
+            double total = 0;
+            int cantidad = 0;
+            for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+                if (p.getDato().getGenero().equals("Rock")) {
+                    total += p.getDato().getDuracion();
+                    cantidad++;
+                }
+            }
+            return cantidad == 0 ? 0 : total / cantidad;
+        }
+        return columnas.promedioDuracionGenero("Rock");
+    }
+
+}
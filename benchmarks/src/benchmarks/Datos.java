@@ -0,0 +1,43 @@
+package benchmarks;
+
+import entidades.Cancion;
+import listas_genericas.ListaSimple;
+
+/**
+ * Generador de datos de prueba compartido por los benchmarks.
+ *
+ * @author Carlos Álvarez
+ */
+final class Datos {
+
+    static final String[] GENEROS = {"Rock", "Trash", "Vals", "Neo-Classical Rock", "Baroque", "Jazz", "Tango", "Pop"};
+
+    static final String TITULO_INEXISTENTE = "Titulo que no esta en la lista";
+
+    private Datos() {
+    }
+
+    /**
+     * @param i numero de cancion.
+     * @return una cancion determinista para el numero dado.
+     */
+    static Cancion cancion(int i) {
+        return new Cancion("Cancion " + i, "Artista " + (i % 1000), 2.0f + (i % 600) / 100.0f, GENEROS[i % GENEROS.length]);
+    }
+
+    /**
+     * Construye una lista con {@code tamanio} canciones. La cancion 0 queda
+     * al final y la cancion {@code tamanio - 1} al frente.
+     *
+     * @param tamanio cantidad de canciones.
+     * @return la lista cargada.
+     */
+    static ListaSimple<Cancion> lista(int tamanio) {
+        ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+        for (int i = 0; i < tamanio; i++) {
+            lista.insertarFrente(cancion(i));
+        }
+        return lista;
+    }
+
+}
@@ -0,0 +1,79 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaCanciones;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consulta de las canciones con duracion entre dos valores: recorrido
+ * completo de la lista contra el indice de rango de {@link ListaCanciones}.
+ * Las duraciones van de 2.00 a 7.99 en pasos de 0.01, asi que un rango de
+ * {@code ancho} centesimas devuelve alrededor de
+ * {@code tamanio * ancho / 600} canciones.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class IndiceRangoBenchmark {
+
+    @Param({"1000000", "5000000"})
+    int tamanio;
+
+    @Param({"1", "60"})
+    int ancho;
+
+    ListaCanciones lista;
+    float minima;
+    float maxima;
+
+    @Setup
+    public void preparar() {
+        lista = new ListaCanciones();
+        for (int i = 0; i < tamanio; i++) {
+            lista.insertarFrente(Datos.cancion(i));
+        }
+        lista.activarIndiceDuracion();
+        minima = 4.00f;
+        maxima = minima + (ancho - 0.5f) / 100.0f;
+    }
+
+    @Benchmark
+    public float recorrido() {
+        float total = 0;
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            float duracion = p.getDato().getDuracion();
+            if (duracion >= minima && duracion <= maxima) {
+                total += duracion;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public float indiceRango() {
+        float total = 0;
+        for (Iterator<Cancion> canciones = lista.entre(minima, maxima); canciones.hasNext();) {
+            total += canciones.next().getDuracion();
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaCanciones;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consulta de todas las canciones de un artista: recorrido completo de la
+ * lista contra el indice secundario de {@link ListaCanciones}. Cada artista
+ * tiene {@code tamanio / 1000} canciones.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class IndiceSecundarioBenchmark {
+
+    private static final String ARTISTA = "Artista 500";
+
+    @Param({"10000", "1000000"})
+    int tamanio;
+
+    ListaCanciones lista;
+
+    @Setup
+    public void preparar() {
+        lista = new ListaCanciones();
+        for (int i = 0; i < tamanio; i++) {
+            lista.insertarFrente(Datos.cancion(i));
+        }
+        lista.activarIndicesSecundarios();
+    }
+
+    @Benchmark
+    public float recorrido() {
+        float total = 0;
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            if (ARTISTA.equals(p.getDato().getArtista())) {
+                total += p.getDato().getDuracion();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public float indiceSecundario() {
+        float total = 0;
+        for (Iterator<Cancion> canciones = lista.porArtista(ARTISTA); canciones.hasNext();) {
+            total += canciones.next().getDuracion();
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara la busqueda y eliminacion por titulo con y sin el indice de
+ * {@link ListaSimple}, en tamanios chicos, para ubicar el punto a partir del
+ * cual el indice conviene frente al recorrido.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndiceTitulosBenchmark {
+
+    @Param({"1", "4", "8", "16", "32", "64", "256", "1024", "16384"})
+    int tamanio;
+
+    @Param({"false", "true"})
+    boolean indexada;
+
+    ListaSimple<Cancion> lista;
+    Cancion[] buscadas;
+    SplittableRandom azar;
+
+    @Setup
+    public void preparar() {
+        lista = Datos.lista(tamanio);
+        if (indexada) {
+            lista.activarIndice();
+        }
+        buscadas = new Cancion[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            buscadas[i] = Datos.cancion(i);
+        }
+        azar = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> buscar() {
+        return lista.buscar(buscadas[azar.nextInt(tamanio)]);
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> eliminarYReinsertar() {
+        NodoSimple<Cancion> eliminado = lista.eliminar(buscadas[azar.nextInt(tamanio)]);
+        lista.insertarFrente(eliminado);
+        return eliminado;
+    }
+
+}
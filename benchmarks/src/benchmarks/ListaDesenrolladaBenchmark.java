@@ -0,0 +1,74 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaDesenrollada;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Barrido del tamaño de nodo de {@link ListaDesenrollada}. Los resultados de
+ * {@code buscarFallo} y {@code recorrer} se comparan con los de
+ * {@link ListaSimpleBenchmark} para el mismo tamaño de lista, y los de
+ * {@code insertarYEliminarFrente} muestran el costo de abrir y llenar nodos al
+ * frente.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ListaDesenrolladaBenchmark {
+
+    @Param({"1000000"})
+    int tamanio;
+
+    @Param({"8", "16", "32", "64", "128"})
+    int tamanioNodo;
+
+    ListaDesenrollada<Cancion> lista;
+    Cancion inexistente;
+    Cancion nueva;
+
+    @Setup
+    public void preparar() {
+        lista = new ListaDesenrollada<>(Cancion::getTitulo, tamanioNodo);
+        for (int i = 0; i < tamanio; i++) {
+            lista.insertarFrente(Datos.cancion(i));
+        }
+        inexistente = new Cancion(Datos.TITULO_INEXISTENTE, "", 1.0f, "");
+        nueva = Datos.cancion(tamanio);
+    }
+
+    @Benchmark
+    public Cancion buscarFallo() {
+        return lista.buscar(inexistente);
+    }
+
+    @Benchmark
+    public double recorrer() {
+        double[] total = new double[1];
+        lista.paraCada(cancion -> total[0] += cancion.getDuracion());
+        return total[0];
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Cancion insertarYEliminarFrente() {
+        lista.insertarFrente(nueva);
+        return lista.eliminar(nueva);
+    }
+
+}
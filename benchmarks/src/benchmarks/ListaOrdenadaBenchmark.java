@@ -0,0 +1,75 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaOrdenada;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Busqueda, eliminacion y consultas por rango de titulos en
+ * {@link ListaOrdenada}. Comparar {@code buscar} con
+ * {@code ListaSimpleBenchmark.buscarAcierto} para el mismo tamaño.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ListaOrdenadaBenchmark {
+
+    @Param({"1000", "1000000"})
+    int tamanio;
+
+    ListaOrdenada<Cancion> lista;
+    Cancion[] canciones;
+    Cancion desde;
+    Cancion hasta;
+    SplittableRandom azar;
+
+    @Setup
+    public void preparar() {
+        lista = new ListaOrdenada<>();
+        canciones = new Cancion[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            canciones[i] = Datos.cancion(i);
+            lista.insertar(canciones[i]);
+        }
+        desde = new Cancion("Cancion 1", "", 1.0f, "");
+        hasta = new Cancion("Cancion 11", "", 1.0f, "");
+        azar = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> buscar() {
+        return lista.buscar(canciones[azar.nextInt(tamanio)]);
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> eliminarEInsertar() {
+        Cancion cancion = canciones[azar.nextInt(tamanio)];
+        lista.eliminar(cancion);
+        return lista.insertar(cancion);
+    }
+
+    @Benchmark
+    public List<Cancion> rango() {
+        return lista.rango(desde, hasta);
+    }
+
+}
@@ -0,0 +1,119 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Operaciones basicas de {@link ListaSimple} sin indice.
+ *
+ * Cada operacion que modifica la lista la deja como estaba al terminar, para
+ * que el tamanio se mantenga constante durante toda la medicion.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ListaSimpleBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    int tamanio;
+
+    ListaSimple<Cancion> lista;
+    Cancion primera;
+    Cancion delMedio;
+    Cancion ultima;
+    Cancion inexistente;
+    Cancion nueva;
+
+    @Setup
+    public void preparar() {
+        lista = Datos.lista(tamanio);
+        primera = lista.getPrimero().getDato();
+        delMedio = Datos.cancion(tamanio / 2);
+        ultima = Datos.cancion(0);
+        inexistente = new Cancion(Datos.TITULO_INEXISTENTE, "", 1.0f, "");
+        nueva = Datos.cancion(tamanio);
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> insertarFrente() {
+        lista.insertarFrente(nueva);
+        return lista.desenganchar(null, lista.getPrimero());
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> buscarAcierto() {
+        return lista.buscar(delMedio);
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> buscarFallo() {
+        return lista.buscar(inexistente);
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> eliminarCabeza() {
+        NodoSimple<Cancion> eliminado = lista.eliminar(primera);
+        lista.insertarFrente(eliminado);
+        return eliminado;
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> eliminarCola() {
+        NodoSimple<Cancion> eliminado = lista.eliminar(ultima);
+        lista.insertarFinal(eliminado);
+        return eliminado;
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> insertarFinal() {
+        NodoSimple<Cancion> anterior = lista.getUltimo();
+        lista.insertarFinal(nueva);
+        return lista.desenganchar(anterior, lista.getUltimo());
+    }
+
+    /**
+     * Agregado al final como se hacia antes de que la lista guardara su
+     * ultimo nodo: recorrido completo hasta el final.
+     */
+    @Benchmark
+    public NodoSimple<Cancion> insertarFinalRecorriendo() {
+        NodoSimple<Cancion> anterior = lista.getPrimero();
+        while (anterior.getSiguiente() != null) {
+            anterior = anterior.getSiguiente();
+        }
+        NodoSimple<Cancion> nuevoNodo = new NodoSimple<>(nueva);
+        anterior.setSiguiente(nuevoNodo);
+        anterior.setSiguiente(null);
+        return nuevoNodo;
+    }
+
+    @Benchmark
+    public double recorrer() {
+        double total = 0;
+        NodoSimple<Cancion> actual = lista.getPrimero();
+        while (actual != null) {
+            total += actual.getDato().getDuracion();
+            actual = actual.getSiguiente();
+        }
+        return total;
+    }
+
+}
@@ -0,0 +1,119 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import listas_genericas.ListaSimpleConcurrente;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendimiento de una carga mixta (busquedas, inserciones y eliminaciones) de
+ * {@link ListaSimpleConcurrente} frente a una {@link ListaSimple} protegida
+ * por un unico bloqueo. Las escrituras se reparten en partes iguales entre
+ * inserciones y eliminaciones, asi el tamaño de la lista se mantiene estable. Para ver como escala, correr con distintas cantidades
+ * de hilos, por ejemplo:
+ *
+ * <pre>
+ * ant run-benchmarks -Dbenchmarks.args="ListaSimpleConcurrenteBenchmark -t 1"
+ * ant run-benchmarks -Dbenchmarks.args="ListaSimpleConcurrenteBenchmark -t 8"
+ * </pre>
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListaSimpleConcurrenteBenchmark {
+
+    @Param({"1000"})
+    int tamanio;
+
+    @Param({"10"})
+    int porcentajeEscrituras;
+
+    @Param({"bloqueoGlobal", "concurrente"})
+    String implementacion;
+
+    ListaSimple<Cancion> bloqueada;
+    ListaSimpleConcurrente<Cancion> concurrente;
+    Cancion[] canciones;
+
+    @State(Scope.Thread)
+    public static class Hilo {
+
+        SplittableRandom azar = new SplittableRandom();
+    }
+
+    @Setup
+    public void preparar() {
+        canciones = new Cancion[tamanio * 2];
+        for (int i = 0; i < canciones.length; i++) {
+            canciones[i] = Datos.cancion(i);
+        }
+        if (implementacion.equals("bloqueoGlobal")) {
+            bloqueada = new ListaSimple<>(Cancion::getTitulo);
+        } else {
+            concurrente = new ListaSimpleConcurrente<>(Cancion::getTitulo);
+        }
+        for (int i = 0; i < tamanio; i++) {
+            insertar(canciones[i * 2]);
+        }
+    }
+
+    @Benchmark
+    public Object cargaMixta(Hilo hilo) {
+        Cancion cancion = canciones[hilo.azar.nextInt(canciones.length)];
+        int operacion = hilo.azar.nextInt(100);
+        if (operacion < porcentajeEscrituras / 2) {
+            insertar(cancion);
+            return cancion;
+        }
+        if (operacion < porcentajeEscrituras) {
+            return eliminar(cancion);
+        }
+        return buscar(cancion);
+    }
+
+    private void insertar(Cancion cancion) {
+        if (concurrente != null) {
+            concurrente.insertarFrente(cancion);
+        } else {
+            synchronized (bloqueada) {
+                bloqueada.insertarFrente(cancion);
+            }
+        }
+    }
+
+    private Object eliminar(Cancion cancion) {
+        if (concurrente != null) {
+            return concurrente.eliminar(cancion);
+        }
+        synchronized (bloqueada) {
+            return bloqueada.buscar(cancion) != null ? bloqueada.eliminar(cancion) : null;
+        }
+    }
+
+    private Object buscar(Cancion cancion) {
+        if (concurrente != null) {
+            return concurrente.buscar(cancion);
+        }
+        synchronized (bloqueada) {
+            return bloqueada.buscar(cancion);
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import listas_genericas.ListaSimpleCursor;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara {@link ListaSimpleCursor} contra {@link ListaSimple} en recorrido,
+ * recambio de elementos al frente y duracion de una recoleccion completa con
+ * la lista viva en el heap. Correr con {@code -prof gc} para ver ademas la
+ * tasa de asignacion y el tiempo de GC de cada caso.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class ListaSimpleCursorBenchmark {
+
+    @Param({"10000000"})
+    int tamanio;
+
+    @Param({"nodos", "cursores"})
+    String implementacion;
+
+    ListaSimple<Cancion> nodos;
+    ListaSimpleCursor<Cancion> cursores;
+
+    @Setup
+    public void preparar() {
+        if (implementacion.equals("nodos")) {
+            nodos = Datos.lista(tamanio);
+        } else {
+            cursores = new ListaSimpleCursor<>(Cancion::getTitulo, tamanio);
+            for (int i = 0; i < tamanio; i++) {
+                cursores.insertarFrente(Datos.cancion(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public double recorrer() {
+        double total = 0;
+        if (nodos != null) {
+            for (NodoSimple<Cancion> p = nodos.getPrimero(); p != null; p = p.getSiguiente()) {
+                total += p.getDato().getDuracion();
+            }
+        } else {
+            for (int p = cursores.getPrimero(); p != ListaSimpleCursor.NULO; p = cursores.getSiguiente(p)) {
+                total += cursores.getDato(p).getDuracion();
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object recambiarFrente() {
+        if (nodos != null) {
+            NodoSimple<Cancion> eliminado = nodos.desenganchar(null, nodos.getPrimero());
+            nodos.insertarFrente(eliminado.getDato());
+            return eliminado;
+        }
+        Cancion eliminada = cursores.desenganchar(ListaSimpleCursor.NULO, cursores.getPrimero());
+        cursores.insertarFrente(eliminada);
+        return eliminada;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 10)
+    public void gcCompleto() {
+        System.gc();
+    }
+
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import listas_genericas.MetricasLista;
+import listas_genericas.MonitorLista;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Costo del monitor en {@link ListaSimple#buscar} con la lista indexada:
+ * sin monitor ({@link MonitorLista#NINGUNO}), con {@link MetricasLista} sin
+ * medir el tiempo y midiendolo. {@code buscar} corre con los eventos de
+ * Flight Recorder desactivados, como en produccion, y {@code buscarConJfr}
+ * en una JVM que graba el evento {@code listas_genericas.Busqueda}.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MonitorListaBenchmark {
+
+    @Param({"100000"})
+    int tamanio;
+
+    @Param({"ninguno", "contadores", "latencias"})
+    String monitor;
+
+    ListaSimple<Cancion> lista;
+    Cancion buscada;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        lista = Datos.lista(tamanio);
+        lista.activarIndice();
+        buscada = Datos.cancion(tamanio / 2);
+        switch (monitor) {
+            case "contadores":
+                lista.setMonitor(new MetricasLista(false));
+                break;
+            case "latencias":
+                lista.setMonitor(new MetricasLista(true));
+                break;
+            default:
+                lista.setMonitor(MonitorLista.NINGUNO);
+        }
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> buscar() {
+        return lista.buscar(buscada);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g",
+        "-XX:StartFlightRecording:listas_genericas.Busqueda#enabled=true"})
+    public NodoSimple<Cancion> buscarConJfr() {
+        return lista.buscar(buscada);
+    }
+
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Eliminacion de {@code cantidad} titulos de una lista sin indice: una
+ * llamada a {@link ListaSimple#eliminar} por titulo (un recorrido cada una)
+ * contra {@link ListaSimple#eliminarTodos} (un unico recorrido), e insercion
+ * de las mismas canciones de a una contra {@link ListaSimple#insertarTodos}.
+ * La lista se reconstruye antes de cada invocacion.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class OperacionesLoteBenchmark {
+
+    @Param({"100000"})
+    int tamanio;
+
+    @Param({"1000"})
+    int cantidad;
+
+    ListaSimple<Cancion> lista;
+    List<Cancion> canciones;
+    List<String> titulos;
+
+    @Setup(Level.Trial)
+    public void prepararDatos() {
+        canciones = new ArrayList<>(cantidad);
+        titulos = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            Cancion cancion = Datos.cancion(i * (tamanio / cantidad));
+            canciones.add(cancion);
+            titulos.add(cancion.getTitulo());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void preparar() {
+        lista = Datos.lista(tamanio);
+    }
+
+    @Benchmark
+    public int eliminarDeAUno() {
+        int eliminadas = 0;
+        for (Cancion cancion : canciones) {
+            if (lista.eliminar(cancion) != null) {
+                eliminadas++;
+            }
+        }
+        return eliminadas;
+    }
+
+    @Benchmark
+    public int eliminarTodos() {
+        return lista.eliminarTodos(titulos);
+    }
+
+    @Benchmark
+    public int insertarDeAUno() {
+        for (Cancion cancion : canciones) {
+            lista.insertarFrente(cancion);
+        }
+        return lista.tamanio();
+    }
+
+    @Benchmark
+    public int insertarTodos() {
+        return lista.insertarTodos(canciones);
+    }
+
+}
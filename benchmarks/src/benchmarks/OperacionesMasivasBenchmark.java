@@ -0,0 +1,95 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Operaciones masivas de {@link ListaSimple} con fork/join frente al
+ * recorrido secuencial desde el primer nodo: duracion total de todas las
+ * canciones y ordenamiento por duracion. Para ver como escalan, correr con
+ * distinto paralelismo del pool comun, por ejemplo:
+ *
+ * <pre>
+ * ant run-benchmarks -Dbenchmarks.args="OperacionesMasivasBenchmark -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=4"
+ * </pre>
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class OperacionesMasivasBenchmark {
+
+    private static final Comparator<Cancion> POR_DURACION = Comparator.comparingDouble(Cancion::getDuracion);
+    private static final Comparator<Cancion> DESORDEN = Comparator.comparingInt(c -> c.getTitulo().hashCode() * 0x9E3779B9);
+
+    @Param({"5000000"})
+    int tamanio;
+
+    ListaSimple<Cancion> lista;
+
+    @Setup
+    public void preparar() {
+        lista = Datos.lista(tamanio);
+    }
+
+    @Benchmark
+    public float duracionTotalSecuencial() {
+        float total = 0;
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            total += p.getDato().getDuracion();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public float duracionTotalParalela() {
+        return lista.reducir(0f, (total, c) -> total + c.getDuracion(), Float::sum);
+    }
+
+    @Benchmark
+    public long contarParalelo() {
+        return lista.contar(c -> c.getDuracion() < 5);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Desordenada {
+
+        ListaSimple<Cancion> lista;
+
+        @Setup(Level.Trial)
+        public void preparar(OperacionesMasivasBenchmark benchmark) {
+            lista = Datos.lista(benchmark.tamanio);
+        }
+
+        @Setup(Level.Invocation)
+        public void desordenar() {
+            lista.ordenar(DESORDEN);
+        }
+    }
+
+    @Benchmark
+    public NodoSimple<Cancion> ordenarParalelo(Desordenada desordenada) {
+        desordenada.lista.ordenar(POR_DURACION);
+        return desordenada.lista.getPrimero();
+    }
+
+}
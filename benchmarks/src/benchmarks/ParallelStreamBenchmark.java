@@ -0,0 +1,72 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filtro de las canciones de menos de 5 minutos con un stream secuencial y
+ * con {@link ListaSimple#parallelStream} en un {@link ForkJoinPool} de
+ * {@code nucleos} hilos, para ver como escala la division por tramos segun
+ * la cantidad de nucleos.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ParallelStreamBenchmark {
+
+    @Param({"5000000"})
+    int tamanio;
+
+    @Param({"1", "2", "4", "8"})
+    int nucleos;
+
+    ListaSimple<Cancion> lista;
+    ForkJoinPool pool;
+
+    @Setup
+    public void preparar() {
+        lista = Datos.lista(tamanio);
+    }
+
+    @Setup(Level.Trial)
+    public void crearPool() {
+        pool = new ForkJoinPool(nucleos);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrarPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long secuencial() {
+        return lista.stream().filter(c -> c.getDuracion() < 5).count();
+    }
+
+    @Benchmark
+    public long paralelo() throws InterruptedException, ExecutionException {
+        return pool.submit(() -> lista.parallelStream().filter(c -> c.getDuracion() < 5).count()).get();
+    }
+
+}
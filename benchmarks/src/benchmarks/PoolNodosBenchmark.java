@@ -0,0 +1,72 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Recambio continuo de una cola de reproduccion: cada operacion quita la
+ * cancion del frente y la vuelve a agregar al final, sin pool de nodos
+ * ({@code capacidadPool = 0}) o con {@link ListaSimple#activarPool}. Correr
+ * con {@code -prof gc}: con el pool, {@code gc.alloc.rate.norm} deberia bajar
+ * a cero bytes por operacion.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class PoolNodosBenchmark {
+
+    @Param({"100000"})
+    int tamanio;
+
+    @Param({"0", "1024"})
+    int capacidadPool;
+
+    ListaSimple<Cancion> cola;
+
+    @Setup
+    public void preparar() {
+        cola = new ListaSimple<>(Cancion::getTitulo);
+        if (capacidadPool > 0) {
+            cola.activarPool(capacidadPool);
+        }
+        for (int i = 0; i < tamanio; i++) {
+            cola.insertarFinal(Datos.cancion(i));
+        }
+    }
+
+    @TearDown
+    public void informar() {
+        if (cola.getPool() != null) {
+            System.out.println(cola.getPool());
+        }
+    }
+
+    @Benchmark
+    public Cancion recambiar() {
+        NodoSimple<Cancion> primero = cola.desenganchar(null, cola.getPrimero());
+        Cancion cancion = primero.getDato();
+        cola.liberar(primero);
+        cola.insertarFinal(cancion);
+        return cancion;
+    }
+
+}
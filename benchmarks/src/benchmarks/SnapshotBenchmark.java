@@ -0,0 +1,76 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import persistencia.SnapshotCanciones;
+
+/**
+ * Guardado y recarga de una lista de canciones con {@link SnapshotCanciones}.
+ * La recarga se mide completa (con decodificacion de todos los datos) y en
+ * modo perezoso, donde solo se recorren los largos de las entradas.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+    @Param({"10000000"})
+    int tamanio;
+
+    ListaSimple<Cancion> lista;
+    Path archivo;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        lista = Datos.lista(tamanio);
+        archivo = Files.createTempFile("canciones", ".snapshot");
+        SnapshotCanciones.guardar(lista, archivo);
+    }
+
+    @TearDown(Level.Trial)
+    public void limpiar() throws IOException {
+        Files.deleteIfExists(archivo);
+    }
+
+    @Benchmark
+    public long guardar() throws IOException {
+        return SnapshotCanciones.guardar(lista, archivo);
+    }
+
+    @Benchmark
+    public ListaSimple<Cancion> cargarCompleta() throws IOException {
+        ListaSimple<Cancion> cargada = new ListaSimple<>(Cancion::getTitulo);
+        SnapshotCanciones.cargar(archivo, cargada, false);
+        return cargada;
+    }
+
+    @Benchmark
+    public ListaSimple<Cancion> cargarPerezosa() throws IOException {
+        ListaSimple<Cancion> cargada = new ListaSimple<>(Cancion::getTitulo);
+        SnapshotCanciones.cargar(archivo, cargada, true);
+        return cargada;
+    }
+
+}
@@ -0,0 +1,122 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utilidades.GestorSalidaConsola;
+import utilidades.RenderizadorTabular;
+
+/**
+ * Listado tabulado completo de una lista de canciones, antes y despues de
+ * {@link RenderizadorTabular}. El caso {@code reflexivoOriginal} reproduce el
+ * algoritmo que usaba {@link GestorSalidaConsola#mostrarTabulado} (reflexion
+ * por fila, relleno concatenando Strings y un println por fila) para que la
+ * comparacion no dependa de la version del repositorio. La salida se descarta
+ * en todos los casos.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class TabuladoBenchmark {
+
+    private static final int LIMITE = 120;
+
+    @Param({"100000"})
+    int tamanio;
+
+    ListaSimple<Cancion> lista;
+    PrintStream descarte;
+
+    @Setup
+    public void preparar() {
+        lista = Datos.lista(tamanio);
+        descarte = new PrintStream(OutputStream.nullOutputStream());
+        System.setOut(descarte);
+    }
+
+    @Benchmark
+    public int reflexivoOriginal() {
+        int caracteres = 0;
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            caracteres += mostrarTabuladoOriginal(p.getDato().getClass(), p.getDato(), LIMITE).length();
+        }
+        return caracteres;
+    }
+
+    @Benchmark
+    public int gestorSalidaConsola() {
+        int caracteres = 0;
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            caracteres += GestorSalidaConsola.mostrarTabulado(Cancion.class, p.getDato(), LIMITE).length();
+        }
+        return caracteres;
+    }
+
+    @Benchmark
+    public RenderizadorTabular renderizador() {
+        RenderizadorTabular renderizador = new RenderizadorTabular(LIMITE, Writer.nullWriter());
+        renderizador.escribirTitulos(Cancion.class);
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            renderizador.escribirFila(p.getDato());
+        }
+        renderizador.vaciar();
+        return renderizador;
+    }
+
+    private String mostrarTabuladoOriginal(Class<?> aClass, Object instancia, int limite) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = aClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+        }
+        int espacioPorAtributo = (int) Math.floor(limite / (double) fields.size());
+        StringBuilder salida = new StringBuilder();
+        for (Field field : fields) {
+            field.setAccessible(true);
+            try {
+                Object valor = field.get(instancia);
+                String valorAtributo = valor != null ? valor.toString() : "null";
+                if (valorAtributo.length() > espacioPorAtributo) {
+                    valorAtributo = valorAtributo.substring(0, espacioPorAtributo);
+                } else {
+                    while (valorAtributo.length() < espacioPorAtributo) {
+                        valorAtributo += " ";
+                    }
+                }
+                salida.append(valorAtributo);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        System.out.println(salida.toString());
+        return salida.toString();
+    }
+
+}
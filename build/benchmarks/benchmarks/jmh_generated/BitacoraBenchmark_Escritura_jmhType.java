@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class BitacoraBenchmark_Escritura_jmhType extends BitacoraBenchmark_Escritura_jmhType_B3 {
+}
+
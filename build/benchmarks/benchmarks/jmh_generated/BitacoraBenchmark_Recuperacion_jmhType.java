@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class BitacoraBenchmark_Recuperacion_jmhType extends BitacoraBenchmark_Recuperacion_jmhType_B3 {
+}
+
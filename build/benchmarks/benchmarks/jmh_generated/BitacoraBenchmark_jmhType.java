@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class BitacoraBenchmark_jmhType extends BitacoraBenchmark_jmhType_B3 {
+}
+
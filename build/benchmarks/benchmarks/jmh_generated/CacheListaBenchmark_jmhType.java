@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class CacheListaBenchmark_jmhType extends CacheListaBenchmark_jmhType_B3 {
+}
+
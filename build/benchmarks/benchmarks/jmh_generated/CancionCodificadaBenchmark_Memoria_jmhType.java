@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class CancionCodificadaBenchmark_Memoria_jmhType extends CancionCodificadaBenchmark_Memoria_jmhType_B3 {
+}
+
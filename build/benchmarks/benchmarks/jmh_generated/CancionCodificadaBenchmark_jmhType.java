@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class CancionCodificadaBenchmark_jmhType extends CancionCodificadaBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ColeccionesJdkBenchmark_jmhType extends ColeccionesJdkBenchmark_jmhType_B3 {
+}
+
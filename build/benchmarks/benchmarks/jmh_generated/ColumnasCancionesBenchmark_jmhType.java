@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ColumnasCancionesBenchmark_jmhType extends ColumnasCancionesBenchmark_jmhType_B3 {
+}
+
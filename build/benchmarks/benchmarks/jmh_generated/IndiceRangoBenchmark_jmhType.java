@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class IndiceRangoBenchmark_jmhType extends IndiceRangoBenchmark_jmhType_B3 {
+}
+
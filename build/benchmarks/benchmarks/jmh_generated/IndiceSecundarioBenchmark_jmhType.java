@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class IndiceSecundarioBenchmark_jmhType extends IndiceSecundarioBenchmark_jmhType_B3 {
+}
+
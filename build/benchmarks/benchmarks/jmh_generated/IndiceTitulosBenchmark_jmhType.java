@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class IndiceTitulosBenchmark_jmhType extends IndiceTitulosBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ListaDesenrolladaBenchmark_jmhType extends ListaDesenrolladaBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ListaOrdenadaBenchmark_jmhType extends ListaOrdenadaBenchmark_jmhType_B3 {
+}
+
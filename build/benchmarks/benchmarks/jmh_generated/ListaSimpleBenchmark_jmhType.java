@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ListaSimpleBenchmark_jmhType extends ListaSimpleBenchmark_jmhType_B3 {
+}
+
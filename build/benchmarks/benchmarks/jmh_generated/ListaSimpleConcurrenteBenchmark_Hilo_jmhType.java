@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ListaSimpleConcurrenteBenchmark_Hilo_jmhType extends ListaSimpleConcurrenteBenchmark_Hilo_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ListaSimpleConcurrenteBenchmark_jmhType extends ListaSimpleConcurrenteBenchmark_jmhType_B3 {
+}
+
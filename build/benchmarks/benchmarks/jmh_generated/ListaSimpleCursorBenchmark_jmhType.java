@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ListaSimpleCursorBenchmark_jmhType extends ListaSimpleCursorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class MonitorListaBenchmark_jmhType extends MonitorListaBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class OperacionesLoteBenchmark_jmhType extends OperacionesLoteBenchmark_jmhType_B3 {
+}
+
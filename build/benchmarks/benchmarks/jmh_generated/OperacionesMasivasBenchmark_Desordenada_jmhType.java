@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class OperacionesMasivasBenchmark_Desordenada_jmhType extends OperacionesMasivasBenchmark_Desordenada_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class OperacionesMasivasBenchmark_jmhType extends OperacionesMasivasBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ParallelStreamBenchmark_jmhType extends ParallelStreamBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class PoolNodosBenchmark_jmhType extends PoolNodosBenchmark_jmhType_B3 {
+}
+
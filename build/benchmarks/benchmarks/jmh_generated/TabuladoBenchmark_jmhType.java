@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class TabuladoBenchmark_jmhType extends TabuladoBenchmark_jmhType_B3 {
+}
+
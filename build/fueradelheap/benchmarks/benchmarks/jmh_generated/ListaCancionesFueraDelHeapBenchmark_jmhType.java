@@ -0,0 +1,4 @@
+package benchmarks.jmh_generated;
+public class ListaCancionesFueraDelHeapBenchmark_jmhType extends ListaCancionesFueraDelHeapBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,89 @@
+package benchmarks;
+
+import entidades.Cancion;
+import java.util.concurrent.TimeUnit;
+import listas_genericas.ListaCancionesFueraDelHeap;
+import listas_genericas.ListaSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pausas del recolector con una lista grande viva: {@link ListaSimple} con
+ * sus nodos, canciones y cadenas en el heap, contra
+ * {@link ListaCancionesFueraDelHeap}, que solo deja en el heap los
+ * descriptores de sus bloques.
+ *
+ * {@code gcCompleto} mide una recoleccion completa, que en el primer caso
+ * debe marcar todos los objetos de la lista. {@code recambiarFrente} inserta
+ * y elimina una cancion al frente; correr con {@code -prof gc} para comparar
+ * la tasa de asignacion y el tiempo de las recolecciones jovenes.
+ *
+ * @author Carlos Álvarez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class ListaCancionesFueraDelHeapBenchmark {
+
+    @Param({"10000000"})
+    int tamanio;
+
+    @Param({"heap", "fueraDelHeap"})
+    String almacenamiento;
+
+    ListaSimple<Cancion> enHeap;
+    ListaCancionesFueraDelHeap fueraDelHeap;
+    Cancion recambio;
+
+    @Setup
+    public void preparar() {
+        if (almacenamiento.equals("heap")) {
+            enHeap = Datos.lista(tamanio);
+        } else {
+            fueraDelHeap = new ListaCancionesFueraDelHeap();
+            for (int i = 0; i < tamanio; i++) {
+                fueraDelHeap.insertarFrente(Datos.cancion(i));
+            }
+        }
+        recambio = Datos.cancion(tamanio);
+    }
+
+    @TearDown
+    public void cerrar() {
+        if (fueraDelHeap != null) {
+            fueraDelHeap.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public void gcCompleto() {
+        System.gc();
+    }
+
+    @Benchmark
+    public boolean recambiarFrente() {
+        if (enHeap != null) {
+            enHeap.insertarFrente(recambio);
+            return enHeap.eliminar(recambio) != null;
+        }
+        fueraDelHeap.insertarFrente(recambio);
+        return fueraDelHeap.eliminar(recambio.getTitulo());
+    }
+
+}
@@ -0,0 +1,79 @@
+package listas_genericas;
+
+import entidades.Cancion;
+
+/**
+ * Vista de una cancion guardada en una {@link ListaCancionesFueraDelHeap}.
+ * No copia los datos: cada getter los decodifica del registro fuera del heap
+ * y cada setter, o la carga por consola, los escribe ahi.
+ *
+ * La vista deja de ser valida si la cancion se elimina de la lista o si la
+ * lista se cierra. Las que entrega
+ * {@link ListaCancionesFueraDelHeap#recorrer} se mueven de cancion en
+ * cancion.
+ *
+ * @author Carlos Álvarez
+ */
+public class CancionFueraDelHeap extends Cancion {
+
+    private final ListaCancionesFueraDelHeap lista;
+    private int registro;
+
+    CancionFueraDelHeap(ListaCancionesFueraDelHeap lista, int registro) {
+        this.lista = lista;
+        this.registro = registro;
+    }
+
+    void mover(int registro) {
+        this.registro = registro;
+    }
+
+    @Override
+    public String getTitulo() {
+        return lista.leerTitulo(registro);
+    }
+
+    @Override
+    public String getArtista() {
+        return lista.leerArtista(registro);
+    }
+
+    @Override
+    public float getDuracion() {
+        return lista.leerDuracion(registro);
+    }
+
+    @Override
+    public String getGenero() {
+        return lista.leerGenero(registro);
+    }
+
+    @Override
+    protected void asignarDatos(String titulo, String artista, float duracion, String genero) {
+        lista.escribirTitulo(registro, titulo);
+        lista.escribirArtista(registro, artista);
+        lista.escribirDuracion(registro, duracion);
+        lista.escribirGenero(registro, genero);
+    }
+
+    @Override
+    protected void guardarTitulo(String titulo) {
+        lista.escribirTitulo(registro, titulo);
+    }
+
+    @Override
+    protected void guardarArtista(String artista) {
+        lista.escribirArtista(registro, artista);
+    }
+
+    @Override
+    protected void guardarDuracion(float duracion) {
+        lista.escribirDuracion(registro, duracion);
+    }
+
+    @Override
+    protected void guardarGenero(String genero) {
+        lista.escribirGenero(registro, genero);
+    }
+
+}
@@ -0,0 +1,420 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Lista simplemente enlazada de canciones guardada fuera del heap con la API
+ * de memoria foranea ({@code java.lang.foreign}, definitiva desde Java 22), para
+ * que listas de decenas de millones de canciones no ocupen la generacion
+ * vieja ni alarguen las pausas del recolector.
+ *
+ * Cada cancion es un registro de {@value #TAMANIO_REGISTRO} bytes en bloques
+ * de {@value #REGISTROS_POR_BLOQUE} registros:
+ *
+ * <pre>
+ *  0  int   siguiente (indice del registro siguiente, o -1)
+ *  4  float duracion
+ *  8  int   hash del titulo
+ * 16  long  posicion del titulo
+ * 24  long  posicion del artista
+ * 32  long  posicion del genero
+ * </pre>
+ *
+ * Los textos se guardan aparte, en bloques de {@value #TAMANIO_BLOQUE_TEXTO}
+ * bytes, como un {@code int} con el largo seguido de los bytes UTF-8. Los
+ * artistas y generos repetidos se guardan una sola vez y se conservan hasta
+ * cerrar la lista, porque su cantidad esta acotada por los valores distintos.
+ * Los registros de las canciones eliminadas se reutilizan en las inserciones
+ * siguientes, y lo mismo los espacios de sus titulos y de los titulos
+ * reemplazados: cada espacio libre vuelve a una lista de libres de su tamanio
+ * (enlazada dentro de los mismos espacios) y un titulo nuevo toma uno del
+ * tamanio que necesita antes de agregar bytes al final. Asi, con inserciones
+ * y eliminaciones alternadas de titulos de largos parecidos, la memoria de
+ * los textos deja de crecer. {@link #getBytesTextoLibres()} informa los bytes
+ * libres que todavia no se reutilizaron.
+ *
+ * Ofrece las operaciones basicas de {@link ListaSimple} sobre canciones:
+ * insertar al frente, buscar por titulo y eliminar. Sin indice, la busqueda
+ * recorre la cadena comparando primero el hash y luego los bytes del titulo,
+ * sin crear objetos. Las canciones se leen a traves de
+ * {@link CancionFueraDelHeap}, una vista que decodifica cada campo al pedirlo.
+ *
+ * La memoria se reserva en un {@link Arena} compartido y se libera con
+ * {@link #close()}; despues de cerrarla, cualquier acceso a la lista o a sus
+ * vistas lanza {@link IllegalStateException}. Igual que {@link ListaSimple},
+ * no es segura para modificar desde varios hilos a la vez.
+ *
+ * Se compila aparte del resto del proyecto, con el target
+ * {@code fuera-del-heap} de {@code build.xml}, para que la version de Java que
+ * exige no alcance a las demas clases.
+ *
+ * @author Carlos Álvarez
+ */
+public class ListaCancionesFueraDelHeap implements AutoCloseable {
+
+    static final int TAMANIO_REGISTRO = 40;
+    static final int REGISTROS_POR_BLOQUE = 1 << 16;
+    static final int TAMANIO_BLOQUE_TEXTO = 1 << 20;
+
+    private static final int NULO = -1;
+    /**
+     * Tamanio minimo de un espacio de texto reutilizable: el largo, el
+     * relleno y la posicion del siguiente libre.
+     */
+    private static final int MINIMO_LIBRE = 16;
+    private static final int SIGUIENTE = 0;
+    private static final int DURACION = 4;
+    private static final int HASH_TITULO = 8;
+    private static final int TITULO = 16;
+    private static final int ARTISTA = 24;
+    private static final int GENERO = 32;
+
+    private final Arena arena = Arena.ofShared();
+    private final List<MemorySegment> registros = new ArrayList<>();
+    private final List<MemorySegment> textos = new ArrayList<>();
+    private final Map<String, Long> textosCompartidos = new HashMap<>();
+    /**
+     * Primer espacio de texto libre de cada tamanio; cada espacio guarda la
+     * posicion del siguiente libre del mismo tamanio.
+     */
+    private final Map<Integer, Long> textosLibres = new HashMap<>();
+    private long bytesTextoLibres;
+    private int primero = NULO;
+    private int tamanio;
+    private int registrosUsados;
+    private int libre = NULO;
+    private long finTextos;
+
+    /**
+     * Inserta una cancion al frente de la lista, copiando sus datos fuera del
+     * heap.
+     *
+     * @param cancion la cancion a insertar.
+     */
+    public void insertarFrente(Cancion cancion) {
+        insertarFrente(cancion.getTitulo(), cancion.getArtista(), cancion.getDuracion(), cancion.getGenero());
+    }
+
+    /**
+     * Inserta una cancion al frente de la lista.
+     *
+     * @param titulo el titulo de la cancion.
+     * @param artista el artista de la cancion.
+     * @param duracion la duracion en minutos.
+     * @param genero el genero de la cancion.
+     */
+    public void insertarFrente(String titulo, String artista, float duracion, String genero) {
+        Objects.requireNonNull(titulo);
+        int registro = reservarRegistro();
+        guardarTitulo(registro, titulo);
+        escribirDuracion(registro, duracion);
+        escribirArtista(registro, artista);
+        escribirGenero(registro, genero);
+        bloque(registro).set(ValueLayout.JAVA_INT, desplazamiento(registro) + SIGUIENTE, primero);
+        primero = registro;
+        tamanio++;
+    }
+
+    /**
+     * Busca una cancion por su titulo, recorriendo la lista desde el frente.
+     *
+     * @param titulo el titulo buscado.
+     * @return una vista de la cancion, o {@code null} si no esta.
+     */
+    public CancionFueraDelHeap buscar(String titulo) {
+        byte[] buscado = titulo.getBytes(StandardCharsets.UTF_8);
+        int hash = titulo.hashCode();
+        for (int p = primero; p != NULO; p = siguiente(p)) {
+            if (tieneTitulo(p, hash, buscado)) {
+                return new CancionFueraDelHeap(this, p);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Elimina la primera cancion con ese titulo. Su registro queda libre para
+     * una insercion posterior, por lo que las vistas que la apuntaban dejan de
+     * ser validas.
+     *
+     * @param titulo el titulo de la cancion a eliminar.
+     * @return si habia una cancion con ese titulo.
+     */
+    public boolean eliminar(String titulo) {
+        byte[] buscado = titulo.getBytes(StandardCharsets.UTF_8);
+        int hash = titulo.hashCode();
+        int anterior = NULO;
+        for (int p = primero; p != NULO; anterior = p, p = siguiente(p)) {
+            if (tieneTitulo(p, hash, buscado)) {
+                if (anterior == NULO) {
+                    primero = siguiente(p);
+                } else {
+                    bloque(anterior).set(ValueLayout.JAVA_INT, desplazamiento(anterior) + SIGUIENTE, siguiente(p));
+                }
+                liberarTexto(posicionTitulo(p));
+                bloque(p).set(ValueLayout.JAVA_INT, desplazamiento(p) + SIGUIENTE, libre);
+                libre = p;
+                tamanio--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recorre las canciones desde el frente con una unica vista que se mueve
+     * de registro en registro. La vista no debe guardarse: despues de cada
+     * llamada pasa a mostrar la cancion siguiente.
+     *
+     * @param accion la accion a aplicar a cada cancion.
+     */
+    public void recorrer(Consumer<? super Cancion> accion) {
+        CancionFueraDelHeap vista = new CancionFueraDelHeap(this, NULO);
+        for (int p = primero; p != NULO; p = siguiente(p)) {
+            vista.mover(p);
+            accion.accept(vista);
+        }
+    }
+
+    /**
+     * @return la cantidad de canciones de la lista.
+     */
+    public int tamanio() {
+        return tamanio;
+    }
+
+    /**
+     * @return los bytes reservados fuera del heap, para registros y textos.
+     */
+    public long getBytesReservados() {
+        long total = 0;
+        for (MemorySegment bloque : registros) {
+            total += bloque.byteSize();
+        }
+        for (MemorySegment bloque : textos) {
+            total += bloque.byteSize();
+        }
+        return total;
+    }
+
+    /**
+     * @return los bytes de titulos eliminados o reemplazados que esperan ser
+     * reutilizados por un titulo del mismo tamanio.
+     */
+    public long getBytesTextoLibres() {
+        return bytesTextoLibres;
+    }
+
+    /**
+     * Libera toda la memoria de la lista.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    String leerTitulo(int registro) {
+        return leerTexto(posicionTitulo(registro));
+    }
+
+    String leerArtista(int registro) {
+        return leerTexto(bloque(registro).get(ValueLayout.JAVA_LONG, desplazamiento(registro) + ARTISTA));
+    }
+
+    String leerGenero(int registro) {
+        return leerTexto(bloque(registro).get(ValueLayout.JAVA_LONG, desplazamiento(registro) + GENERO));
+    }
+
+    float leerDuracion(int registro) {
+        return bloque(registro).get(ValueLayout.JAVA_FLOAT, desplazamiento(registro) + DURACION);
+    }
+
+    /**
+     * Reemplaza el titulo de una cancion de la lista. El espacio del titulo
+     * anterior se libera antes de escribir el nuevo, para que este pueda
+     * ocuparlo si es del mismo tamanio.
+     */
+    void escribirTitulo(int registro, String titulo) {
+        Objects.requireNonNull(titulo);
+        liberarTexto(posicionTitulo(registro));
+        guardarTitulo(registro, titulo);
+    }
+
+    /**
+     * Escribe el titulo de un registro que no tiene uno propio.
+     */
+    private void guardarTitulo(int registro, String titulo) {
+        MemorySegment bloque = bloque(registro);
+        long desplazamiento = desplazamiento(registro);
+        bloque.set(ValueLayout.JAVA_INT, desplazamiento + HASH_TITULO, titulo.hashCode());
+        bloque.set(ValueLayout.JAVA_LONG, desplazamiento + TITULO, escribirTexto(titulo));
+    }
+
+    void escribirArtista(int registro, String artista) {
+        bloque(registro).set(ValueLayout.JAVA_LONG, desplazamiento(registro) + ARTISTA, escribirTextoCompartido(artista));
+    }
+
+    void escribirGenero(int registro, String genero) {
+        bloque(registro).set(ValueLayout.JAVA_LONG, desplazamiento(registro) + GENERO, escribirTextoCompartido(genero));
+    }
+
+    void escribirDuracion(int registro, float duracion) {
+        bloque(registro).set(ValueLayout.JAVA_FLOAT, desplazamiento(registro) + DURACION, duracion);
+    }
+
+    private long posicionTitulo(int registro) {
+        return bloque(registro).get(ValueLayout.JAVA_LONG, desplazamiento(registro) + TITULO);
+    }
+
+    private int siguiente(int registro) {
+        return bloque(registro).get(ValueLayout.JAVA_INT, desplazamiento(registro) + SIGUIENTE);
+    }
+
+    private boolean tieneTitulo(int registro, int hash, byte[] buscado) {
+        MemorySegment bloque = bloque(registro);
+        long desplazamiento = desplazamiento(registro);
+        if (bloque.get(ValueLayout.JAVA_INT, desplazamiento + HASH_TITULO) != hash) {
+            return false;
+        }
+        long posicion = bloque.get(ValueLayout.JAVA_LONG, desplazamiento + TITULO);
+        MemorySegment texto = bloqueTexto(posicion);
+        long inicio = desplazamientoTexto(posicion);
+        int largo = texto.get(ValueLayout.JAVA_INT, inicio);
+        return largo == buscado.length
+                && texto.asSlice(inicio + 4, largo).mismatch(MemorySegment.ofArray(buscado)) == -1;
+    }
+
+    private int reservarRegistro() {
+        if (libre != NULO) {
+            int registro = libre;
+            libre = siguiente(registro);
+            return registro;
+        }
+        if (registrosUsados == registros.size() * REGISTROS_POR_BLOQUE) {
+            registros.add(arena.allocate((long) TAMANIO_REGISTRO * REGISTROS_POR_BLOQUE, 8));
+        }
+        return registrosUsados++;
+    }
+
+    private MemorySegment bloque(int registro) {
+        return registros.get(registro / REGISTROS_POR_BLOQUE);
+    }
+
+    private static long desplazamiento(int registro) {
+        return (long) (registro % REGISTROS_POR_BLOQUE) * TAMANIO_REGISTRO;
+    }
+
+    /**
+     * @return la posicion del texto, o -1 para {@code null}.
+     */
+    private long escribirTexto(String texto) {
+        if (texto == null) {
+            return NULO;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        int ocupa = ocupa(bytes.length);
+        if (ocupa > TAMANIO_BLOQUE_TEXTO) {
+            throw new IllegalArgumentException("Texto demasiado largo: " + bytes.length + " bytes");
+        }
+        Long libre = ocupa >= MINIMO_LIBRE ? textosLibres.get(ocupa) : null;
+        if (libre != null) {
+            long siguienteLibre = bloqueTexto(libre).get(ValueLayout.JAVA_LONG, desplazamientoTexto(libre) + 8);
+            if (siguienteLibre == NULO) {
+                textosLibres.remove(ocupa);
+            } else {
+                textosLibres.put(ocupa, siguienteLibre);
+            }
+            bytesTextoLibres -= ocupa;
+            copiarTexto(bytes, libre);
+            return libre;
+        }
+        long enBloque = desplazamientoTexto(finTextos);
+        if (finTextos == (long) textos.size() * TAMANIO_BLOQUE_TEXTO || enBloque + ocupa > TAMANIO_BLOQUE_TEXTO) {
+            textos.add(arena.allocate(TAMANIO_BLOQUE_TEXTO, 8));
+            finTextos = (long) (textos.size() - 1) * TAMANIO_BLOQUE_TEXTO;
+        }
+        long posicion = finTextos;
+        copiarTexto(bytes, posicion);
+        finTextos += ocupa;
+        return posicion;
+    }
+
+    private void copiarTexto(byte[] bytes, long posicion) {
+        MemorySegment bloque = bloqueTexto(posicion);
+        long inicio = desplazamientoTexto(posicion);
+        bloque.set(ValueLayout.JAVA_INT, inicio, bytes.length);
+        MemorySegment.copy(bytes, 0, bloque, ValueLayout.JAVA_BYTE, inicio + 4, bytes.length);
+    }
+
+    /**
+     * Agrega el espacio de un texto que ya no se usa a la lista de libres de
+     * su tamanio. El largo se conserva, porque define el tamanio del espacio,
+     * y la posicion del siguiente libre se guarda alineada a 8 bytes despues
+     * del largo. Los espacios de menos de {@value #MINIMO_LIBRE} bytes no
+     * tienen lugar para esa posicion y se pierden.
+     */
+    private void liberarTexto(long posicion) {
+        if (posicion == NULO) {
+            return;
+        }
+        MemorySegment bloque = bloqueTexto(posicion);
+        long inicio = desplazamientoTexto(posicion);
+        int ocupa = ocupa(bloque.get(ValueLayout.JAVA_INT, inicio));
+        if (ocupa < MINIMO_LIBRE) {
+            return;
+        }
+        Long siguienteLibre = textosLibres.put(ocupa, posicion);
+        bloque.set(ValueLayout.JAVA_LONG, inicio + 8, siguienteLibre == null ? NULO : siguienteLibre);
+        bytesTextoLibres += ocupa;
+    }
+
+    /**
+     * @return los bytes que ocupa un texto: el largo, los bytes y el relleno
+     * hasta un multiplo de 8, para que todos los textos empiecen alineados.
+     */
+    private static int ocupa(int largo) {
+        return (4 + largo + 7) & ~7;
+    }
+
+    private long escribirTextoCompartido(String texto) {
+        if (texto == null) {
+            return NULO;
+        }
+        Long posicion = textosCompartidos.get(texto);
+        if (posicion == null) {
+            posicion = escribirTexto(texto);
+            textosCompartidos.put(texto, posicion);
+        }
+        return posicion;
+    }
+
+    private String leerTexto(long posicion) {
+        if (posicion == NULO) {
+            return null;
+        }
+        MemorySegment bloque = bloqueTexto(posicion);
+        long inicio = desplazamientoTexto(posicion);
+        byte[] bytes = new byte[bloque.get(ValueLayout.JAVA_INT, inicio)];
+        MemorySegment.copy(bloque, ValueLayout.JAVA_BYTE, inicio + 4, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private MemorySegment bloqueTexto(long posicion) {
+        return textos.get((int) (posicion / TAMANIO_BLOQUE_TEXTO));
+    }
+
+    private static long desplazamientoTexto(long posicion) {
+        return posicion % TAMANIO_BLOQUE_TEXTO;
+    }
+
+}
@@ -1,5 +1,6 @@
 package entidades;
 
+import java.util.Arrays;
 import utilidades.GestorEntradaConsola;
 
 /**
@@ -7,12 +8,13 @@ import utilidades.GestorEntradaConsola;
  *
  * @author carlos
  */
-public class Cancion implements Comparable {
+public class Cancion implements Comparable<Cancion> {
 
     private String titulo;
     private String artista;
     private float duracion;
     private String genero;
+    private transient ObservadorCancion[] observadores;
 
     public Cancion() {
     }
@@ -24,22 +26,129 @@ public class Cancion implements Comparable {
         this.genero = genero;
     }
 
+    /**
+     * Asigna todos los datos de la cancion sin validarlos ni avisar a los
+     * observadores. Pensado para subclases que obtienen los datos de otra
+     * fuente, como {@link persistencia.CancionPerezosa}.
+     *
+     * @param titulo el titulo de la cancion.
+     * @param artista el artista de la cancion.
+     * @param duracion la duracion en minutos.
+     * @param genero el genero de la cancion.
+     */
+    protected void asignarDatos(String titulo, String artista, float duracion, String genero) {
+        this.titulo = titulo;
+        this.artista = artista;
+        this.duracion = duracion;
+        this.genero = genero;
+    }
+
+    /**
+     * Guarda el titulo ya validado. Todos los cambios de titulo posteriores a
+     * la construccion pasan por aca, para que una subclase pueda guardarlo de
+     * otra forma.
+     *
+     * @param titulo el nuevo titulo.
+     */
+    protected void guardarTitulo(String titulo) {
+        this.titulo = titulo;
+    }
+
+    /**
+     * Guarda la duracion ya validada. Igual que {@link #guardarTitulo}.
+     *
+     * @param duracion la nueva duracion.
+     */
+    protected void guardarDuracion(float duracion) {
+        this.duracion = duracion;
+    }
+
+    /**
+     * Guarda el artista ya validado. Igual que {@link #guardarTitulo}; por
+     * ejemplo, {@link CancionCodificada} lo guarda como un codigo.
+     *
+     * @param artista el nuevo artista.
+     */
+    protected void guardarArtista(String artista) {
+        this.artista = artista;
+    }
+
+    /**
+     * Guarda el genero ya validado. Igual que {@link #guardarArtista}.
+     *
+     * @param genero el nuevo genero.
+     */
+    protected void guardarGenero(String genero) {
+        this.genero = genero;
+    }
+
+    /**
+     * Registra un observador que sera avisado cada vez que cambie algun dato
+     * de la cancion.
+     *
+     * @param observador el observador a registrar.
+     */
+    public void agregarObservador(ObservadorCancion observador) {
+        if (observadores == null) {
+            observadores = new ObservadorCancion[]{observador};
+        } else {
+            observadores = Arrays.copyOf(observadores, observadores.length + 1);
+            observadores[observadores.length - 1] = observador;
+        }
+    }
+
+    /**
+     * Quita un observador registrado. Los observadores se comparan con
+     * {@code equals}.
+     *
+     * @param observador el observador a quitar.
+     */
+    public void quitarObservador(ObservadorCancion observador) {
+        if (observadores == null) {
+            return;
+        }
+        for (int i = 0; i < observadores.length; i++) {
+            if (observadores[i].equals(observador)) {
+                if (observadores.length == 1) {
+                    observadores = null;
+                } else {
+                    ObservadorCancion[] restantes = new ObservadorCancion[observadores.length - 1];
+                    System.arraycopy(observadores, 0, restantes, 0, i);
+                    System.arraycopy(observadores, i + 1, restantes, i, restantes.length - i);
+                    observadores = restantes;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Avisa a los observadores que la cancion fue modificada.
+     */
+    protected void notificarCambio() {
+        ObservadorCancion[] actuales = observadores;
+        if (actuales != null) {
+            for (ObservadorCancion observador : actuales) {
+                observador.cancionModificada(this);
+            }
+        }
+    }
+
     /**
      * Compara dos canciones por su titulo lexicograficamente
      *
-     * @param o objeto a comparar
-     * @return verdadero si los titulos son lexicograficamente iguales. False
-     * caso contrario
+     * @param otraCancion cancion a comparar
+     * @return un valor negativo, cero o positivo si el titulo de esta cancion
+     * es lexicograficamente menor, igual o mayor que el de la otra
      */
     @Override
-    public int compareTo(Object o) {
-        Cancion otraCancion = (Cancion) o;
-        return titulo.compareTo(otraCancion.titulo);
+    public int compareTo(Cancion otraCancion) {
+        return getTitulo().compareTo(otraCancion.getTitulo());
     }
 
     @Override
     public String toString() {
-        return "Cancion{" + "titulo=" + titulo + ", artista=" + artista + ", duracion=" + duracion + ", genero=" + genero + '}';
+        return "Cancion{" + "titulo=" + getTitulo() + ", artista=" + getArtista() + ", duracion=" + getDuracion() + ", genero=" + getGenero() + '}';
     }
 
     /**
@@ -67,13 +176,16 @@ public class Cancion implements Comparable {
      * @return El titulo ingresado.
      */
     public String cargarTitulo() {
+        String leido = null;
         boolean esValido = false;
         while (!esValido) {
             System.out.print("Titulo: ");
-            titulo = GestorEntradaConsola.leerString();
-            esValido = !titulo.trim().isEmpty();
+            leido = GestorEntradaConsola.leerString();
+            esValido = !leido.trim().isEmpty();
         }
-        return titulo;
+        guardarTitulo(leido);
+        notificarCambio();
+        return leido;
     }
 
     /**
@@ -85,13 +197,16 @@ public class Cancion implements Comparable {
      * @return El artista ingresado.
      */
     public String cargarArtista() {
+        String leido = null;
         boolean esValido = false;
         while (!esValido) {
             System.out.print("Artista: ");
-            artista = GestorEntradaConsola.leerString();
-            esValido = !artista.trim().isEmpty();
+            leido = GestorEntradaConsola.leerString();
+            esValido = !leido.trim().isEmpty();
         }
-        return artista;
+        guardarArtista(leido);
+        notificarCambio();
+        return leido;
     }
 
     /**
@@ -102,13 +217,16 @@ public class Cancion implements Comparable {
      * @return La duración de la canción.
      */
     public float cargarDuracion() {
+        float leida = 0;
         boolean esValido = false;
         while (!esValido) {
             System.out.print("Duracion (En minutos): ");
-            duracion = GestorEntradaConsola.leerFlotante();
-            esValido = duracion > 0;
+            leida = GestorEntradaConsola.leerFlotante();
+            esValido = leida > 0;
         }
-        return duracion;
+        guardarDuracion(leida);
+        notificarCambio();
+        return leida;
     }
 
     /**
@@ -120,13 +238,16 @@ public class Cancion implements Comparable {
      * @return El genero ingresado.
      */
     public String cargarGenero() {
+        String leido = null;
         boolean esValido = false;
         while (!esValido) {
             System.out.print("Genero: ");
-            genero = GestorEntradaConsola.leerString();
-            esValido = !genero.trim().isEmpty();
+            leido = GestorEntradaConsola.leerString();
+            esValido = !leido.trim().isEmpty();
         }
-        return genero;
+        guardarGenero(leido);
+        notificarCambio();
+        return leido;
     }
 
     /**
@@ -152,17 +273,17 @@ public class Cancion implements Comparable {
 
             switch (opcion) {
                 case 1:
-                    System.out.println("Titulo actual: " + titulo);
+                    System.out.println("Titulo actual: " + getTitulo());
                     System.out.println("Actualizando titulo...");
                     cargarTitulo();
                     break;
                 case 2:
-                    System.out.println("Artista actual: " + artista);
+                    System.out.println("Artista actual: " + getArtista());
                     System.out.println("Actualizando artista...");
                     cargarArtista();
                     break;
                 case 3:
-                    System.out.println("Genero actual: " + genero);
+                    System.out.println("Genero actual: " + getGenero());
                     System.out.println("Actualizando genero...");
                     cargarGenero();
                 case 0:
@@ -207,7 +328,8 @@ public class Cancion implements Comparable {
         if (titulo == null || titulo.trim().isEmpty()) {
             throw new IllegalArgumentException("El titulo no puede estar vacío.");
         }
-        this.titulo = titulo;
+        guardarTitulo(titulo);
+        notificarCambio();
     }
 
     /**
@@ -223,7 +345,8 @@ public class Cancion implements Comparable {
         if (artista == null || artista.trim().isEmpty()) {
             throw new IllegalArgumentException("El artista no puede estar vacío.");
         }
-        this.artista = artista;
+        guardarArtista(artista);
+        notificarCambio();
     }
 
     /**
@@ -240,7 +363,8 @@ public class Cancion implements Comparable {
         if (!(duracion > 0)) {
             throw new IllegalArgumentException("La duracion debe ser mayor a 0.");
         }
-        this.duracion = duracion;
+        guardarDuracion(duracion);
+        notificarCambio();
     }
 
     /**
@@ -256,7 +380,8 @@ public class Cancion implements Comparable {
         if (genero == null || genero.trim().isEmpty()) {
             throw new IllegalArgumentException("El genero no puede estar vacío.");
         }
-        this.genero = genero;
+        guardarGenero(genero);
+        notificarCambio();
     }
 
 }
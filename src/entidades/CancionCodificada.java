@@ -0,0 +1,70 @@
+package entidades;
+
+/**
+ * Cancion que guarda el artista y el genero como codigos de los diccionarios
+ * de su {@link CodificadorCanciones}, en lugar de una cadena propia. En
+ * catalogos grandes, donde los generos son unos pocos cientos y los artistas
+ * se repiten mucho, cada cancion ocupa dos {@code int} en lugar de dos
+ * {@code String} con sus arreglos de bytes.
+ *
+ * Se comporta igual que una {@link Cancion}: los getters devuelven la cadena
+ * del diccionario y los setters y la carga por consola codifican el valor
+ * nuevo. Los codigos solo tienen sentido junto con el codificador, por eso
+ * son transitorios y no aparecen como columnas propias. Las canciones se
+ * crean con {@link CodificadorCanciones#nueva}.
+ *
+ * @author Carlos Álvarez
+ */
+public class CancionCodificada extends Cancion {
+
+    private final transient CodificadorCanciones codificador;
+    private transient int codigoArtista = DiccionarioCadenas.SIN_VALOR;
+    private transient int codigoGenero = DiccionarioCadenas.SIN_VALOR;
+
+    CancionCodificada(CodificadorCanciones codificador, String titulo, String artista, float duracion, String genero) {
+        super(titulo, null, duracion, null);
+        this.codificador = codificador;
+        this.codigoArtista = codificador.getArtistas().codificar(artista);
+        this.codigoGenero = codificador.getGeneros().codificar(genero);
+    }
+
+    public CodificadorCanciones getCodificador() {
+        return codificador;
+    }
+
+    public int getCodigoArtista() {
+        return codigoArtista;
+    }
+
+    public int getCodigoGenero() {
+        return codigoGenero;
+    }
+
+    @Override
+    public String getArtista() {
+        return codificador.getArtistas().decodificar(codigoArtista);
+    }
+
+    @Override
+    public String getGenero() {
+        return codificador.getGeneros().decodificar(codigoGenero);
+    }
+
+    @Override
+    protected void asignarDatos(String titulo, String artista, float duracion, String genero) {
+        super.asignarDatos(titulo, null, duracion, null);
+        this.codigoArtista = codificador.getArtistas().codificar(artista);
+        this.codigoGenero = codificador.getGeneros().codificar(genero);
+    }
+
+    @Override
+    protected void guardarArtista(String artista) {
+        this.codigoArtista = codificador.getArtistas().codificar(artista);
+    }
+
+    @Override
+    protected void guardarGenero(String genero) {
+        this.codigoGenero = codificador.getGeneros().codificar(genero);
+    }
+
+}
@@ -0,0 +1,72 @@
+package entidades;
+
+import java.util.function.Predicate;
+
+/**
+ * Par de diccionarios de artistas y generos del que dependen las
+ * {@link CancionCodificada} que crea.
+ *
+ * Cada catalogo usa su propio codificador, de modo que los valores que
+ * aparecen en un catalogo no quedan retenidos mas alla de el: cuando se
+ * descartan el codificador y sus canciones, los diccionarios se recolectan
+ * con ellos.
+ *
+ * @author Carlos Álvarez
+ */
+public class CodificadorCanciones {
+
+    private final DiccionarioCadenas artistas = new DiccionarioCadenas();
+    private final DiccionarioCadenas generos = new DiccionarioCadenas();
+
+    /**
+     * @param titulo el titulo.
+     * @param artista el artista.
+     * @param duracion la duracion.
+     * @param genero el genero.
+     * @return una cancion codificada con los diccionarios de este codificador.
+     */
+    public CancionCodificada nueva(String titulo, String artista, float duracion, String genero) {
+        return new CancionCodificada(this, titulo, artista, duracion, genero);
+    }
+
+    /**
+     * @param cancion la cancion a copiar.
+     * @return una cancion codificada con los mismos datos.
+     */
+    public CancionCodificada de(Cancion cancion) {
+        return nueva(cancion.getTitulo(), cancion.getArtista(), cancion.getDuracion(), cancion.getGenero());
+    }
+
+    /**
+     * @param artista el artista buscado.
+     * @return un predicado que acepta las canciones de ese artista. Con
+     * canciones de este codificador compara codigos.
+     */
+    public Predicate<Cancion> delArtista(String artista) {
+        int codigo = artistas.codigo(artista);
+        return cancion -> cancion instanceof CancionCodificada codificada && codificada.getCodificador() == this
+                ? codigo != DiccionarioCadenas.SIN_VALOR && codificada.getCodigoArtista() == codigo
+                : artista.equals(cancion.getArtista());
+    }
+
+    /**
+     * @param genero el genero buscado.
+     * @return un predicado que acepta las canciones de ese genero. Con
+     * canciones de este codificador compara codigos.
+     */
+    public Predicate<Cancion> delGenero(String genero) {
+        int codigo = generos.codigo(genero);
+        return cancion -> cancion instanceof CancionCodificada codificada && codificada.getCodificador() == this
+                ? codigo != DiccionarioCadenas.SIN_VALOR && codificada.getCodigoGenero() == codigo
+                : genero.equals(cancion.getGenero());
+    }
+
+    public DiccionarioCadenas getArtistas() {
+        return artistas;
+    }
+
+    public DiccionarioCadenas getGeneros() {
+        return generos;
+    }
+
+}
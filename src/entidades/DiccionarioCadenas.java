@@ -0,0 +1,86 @@
+package entidades;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Diccionario que asigna a cada cadena distinta un codigo entero, en el orden
+ * en que aparecen, para guardar valores muy repetidos (como el genero o el
+ * artista de una cancion) como un {@code int} en lugar de una copia de la
+ * cadena.
+ *
+ * El diccionario crece a medida que aparecen valores nuevos y nunca los
+ * olvida. Se puede usar desde varios hilos: las consultas no bloquean y solo
+ * el alta de un valor nuevo se sincroniza.
+ *
+ * @author Carlos Álvarez
+ */
+public class DiccionarioCadenas {
+
+    /**
+     * Codigo que representa la ausencia de valor ({@code null}).
+     */
+    public static final int SIN_VALOR = -1;
+
+    private final Map<String, Integer> codigos = new ConcurrentHashMap<>();
+    private volatile String[] valores = new String[16];
+    private int cantidad;
+
+    /**
+     * @param valor la cadena a codificar.
+     * @return el codigo de la cadena, que se agrega al diccionario si no
+     * estaba, o {@link #SIN_VALOR} si es {@code null}.
+     */
+    public int codificar(String valor) {
+        if (valor == null) {
+            return SIN_VALOR;
+        }
+        Integer codigo = codigos.get(valor);
+        return codigo != null ? codigo : agregar(valor);
+    }
+
+    /**
+     * @param valor la cadena buscada.
+     * @return el codigo de la cadena, o {@link #SIN_VALOR} si no esta en el
+     * diccionario. Nunca agrega valores.
+     */
+    public int codigo(String valor) {
+        Integer codigo = valor == null ? null : codigos.get(valor);
+        return codigo != null ? codigo : SIN_VALOR;
+    }
+
+    /**
+     * @param codigo un codigo devuelto por {@link #codificar}.
+     * @return la cadena de ese codigo, o {@code null} para
+     * {@link #SIN_VALOR}.
+     */
+    public String decodificar(int codigo) {
+        return codigo == SIN_VALOR ? null : valores[codigo];
+    }
+
+    /**
+     * @return la cantidad de valores distintos del diccionario.
+     */
+    public int tamanio() {
+        return codigos.size();
+    }
+
+    private synchronized int agregar(String valor) {
+        Integer existente = codigos.get(valor);
+        if (existente != null) {
+            return existente;
+        }
+        String[] actuales = valores;
+        if (cantidad == actuales.length) {
+            actuales = Arrays.copyOf(actuales, cantidad * 2);
+        }
+        actuales[cantidad] = valor;
+        // El arreglo se publica antes que el codigo, para que quien obtenga
+        // el codigo del mapa encuentre el valor al decodificarlo.
+        valores = actuales;
+        codigos.put(valor, cantidad);
+        return cantidad++;
+    }
+
+}
@@ -0,0 +1,19 @@
+package entidades;
+
+/**
+ * Recibe un aviso cada vez que se modifica algun dato de una {@link Cancion}
+ * a traves de sus setters o de la carga por consola.
+ *
+ * @author Carlos Álvarez
+ */
+@FunctionalInterface
+public interface ObservadorCancion {
+
+    /**
+     * Se llama despues de modificar la cancion.
+     *
+     * @param cancion la cancion modificada.
+     */
+    void cancionModificada(Cancion cancion);
+
+}
@@ -1,8 +1,20 @@
 package listas_genericas;
 
 import entidades.Cancion;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import persistencia.BitacoraCanciones;
+import persistencia.CargadorCanciones;
+import persistencia.ResultadoCarga;
 import utilidades.GestorEntradaConsola;
-import utilidades.GestorSalidaConsola;
+import utilidades.RenderizadorTabular;
 
 /**
  * Ejemplo de Aplicacion de Listas Simples Enlazadas.
@@ -12,14 +24,40 @@ import utilidades.GestorSalidaConsola;
 public class AplicacionListasSimples {
 
     private static final int LIMITES_CARACTER_CONSOLA = 120;
-    private ListaSimple listaCanciones;
+    private static final Path ARCHIVO_BITACORA = Paths.get("canciones.wal");
+    private ListaCanciones listaCanciones;
+    private BitacoraCanciones bitacora;
+    private final MetricasLista metricas = new MetricasLista();
 
+    /**
+     * Crea la lista y la reconstruye a partir de la bitacora, si existe. Si
+     * la bitacora no se puede abrir, la aplicacion sigue sin persistencia.
+     */
     void inicializar() {
-        listaCanciones = new ListaSimple();
+        listaCanciones = new ListaCanciones();
+        listaCanciones.activarIndice();
+        listaCanciones.activarIndicesSecundarios();
+        listaCanciones.activarIndiceDuracion();
+        try {
+            bitacora = BitacoraCanciones.abrir(ARCHIVO_BITACORA, listaCanciones);
+            if (bitacora.getBytesDescartados() > 0) {
+                System.err.println("Bitacora incompleta: se descartaron los ultimos "
+                        + bitacora.getBytesDescartados() + " bytes");
+            }
+        } catch (IOException e) {
+            System.err.println("Error " + e.getMessage());
+        }
+        // Se asigna despues de reconstruir la lista desde la bitacora, para
+        // que las metricas reflejen solo esta sesion.
+        listaCanciones.setMonitor(metricas);
     }
 
     void cargarCasosDePrueba() {
 
+        if (listaCanciones.getPrimero() != null) {
+            return;
+        }
+
         Cancion c1 = new Cancion("Mostly Clear Skies", "True Lust", 2.47f, "Rock");
         Cancion c2 = new Cancion("War Inside My Head", "Suicidal Tendencies", 4.57f, "Trash");
         Cancion c3 = new Cancion("Flor de lino", "Horacio Molina", 3.33f, "Vals");
@@ -29,13 +67,8 @@ public class AplicacionListasSimples {
         Cancion c7 = new Cancion("Toccata and Fugue", "J.S. Bach", 5.01f, "Baroque");
 
 
-        listaCanciones.insertarFrente(c1);
-        listaCanciones.insertarFrente(c2);
-        listaCanciones.insertarFrente(c3);
-        listaCanciones.insertarFrente(c4);
-        listaCanciones.insertarFrente(c5);
-        listaCanciones.insertarFrente(c6);
-        listaCanciones.insertarFrente(c7);
+        // Quedan en el mismo orden que si se insertaran de a una al frente.
+        insertarTodas(Arrays.asList(c7, c6, c5, c4, c3, c2, c1));
 
     }
 
@@ -49,7 +82,7 @@ public class AplicacionListasSimples {
                     cargarNuevaCancion();
                     break;
                 case 2:
-                    listaCanciones.mostrar();
+                    listarCanciones();
                     break;
                 case 3:
                     listarTabulado();
@@ -63,6 +96,21 @@ public class AplicacionListasSimples {
                 case 6:
                     listarCancionesMenoresQue5();
                     break;
+                case 7:
+                    importarCanciones();
+                    break;
+                case 8:
+                    listarCancionesPorArtista();
+                    break;
+                case 9:
+                    listarCancionesPorGenero();
+                    break;
+                case 10:
+                    System.out.println(metricas);
+                    break;
+                case 11:
+                    mostrarEstadisticasPorGenero();
+                    break;
             }
         } while (opcion != 0);
     }
@@ -75,6 +123,11 @@ public class AplicacionListasSimples {
         System.out.println("4. Actualizar cancion");
         System.out.println("5. Eliminar cancion");
         System.out.println("6. Listar canciones con duracion menor a 5 minutos");
+        System.out.println("7. Importar canciones desde archivo CSV/TSV");
+        System.out.println("8. Listar canciones de un artista");
+        System.out.println("9. Listar canciones de un genero");
+        System.out.println("10. Ver metricas de la lista");
+        System.out.println("11. Ver estadisticas por genero");
         System.out.println("0. Salir");
     }
 
@@ -83,23 +136,31 @@ public class AplicacionListasSimples {
         do {
             Cancion nuevaCancion = new Cancion();
             nuevaCancion.cargarDatos();
-            listaCanciones.insertarFrente(nuevaCancion);
+            insertar(nuevaCancion);
         } while (GestorEntradaConsola.confirmar());
 
     }
 
+    /**
+     * Muestra cada cancion de la lista en una linea.
+     */
+    void listarCanciones() {
+        for (Cancion cancion : listaCanciones) {
+            System.out.println(cancion.toString());
+        }
+    }
+
     /**
      * Lista de forma tabulada los datos de los nodos de una lista simple
      * enlazada
      */
     void listarTabulado() {
-        GestorSalidaConsola.generarTitulosColumnas(Cancion.class, LIMITES_CARACTER_CONSOLA);
-        NodoSimple actual = listaCanciones.getPrimero();
-        while (actual != null) {
-
-            GestorSalidaConsola.mostrarTabulado(actual.getDato().getClass(), actual.getDato(), LIMITES_CARACTER_CONSOLA);
-            actual = actual.getSiguiente();
+        RenderizadorTabular renderizador = RenderizadorTabular.paraConsola(LIMITES_CARACTER_CONSOLA);
+        renderizador.escribirTitulos(Cancion.class);
+        for (Cancion cancion : listaCanciones) {
+            renderizador.escribirFila(cancion);
         }
+        renderizador.vaciar();
     }
 
     /**
@@ -109,11 +170,21 @@ public class AplicacionListasSimples {
 
         Cancion cancionBuscada = new Cancion();
         cancionBuscada.cargarTitulo();
-        NodoSimple nodoBuscado = listaCanciones.buscar(cancionBuscada);
+        NodoSimple<Cancion> nodoBuscado = listaCanciones.buscar(cancionBuscada);
 
         if (nodoBuscado != null) {
 
-            nodoBuscado.getDato().actualizarDatos();
+            Cancion cancion = nodoBuscado.getDato();
+            if (bitacora == null) {
+                cancion.actualizarDatos();
+                listaCanciones.reindexar(nodoBuscado);
+            } else {
+                // Se edita una copia: la bitacora registra el cambio antes de
+                // aplicarlo sobre la cancion de la lista.
+                Cancion nueva = new Cancion(cancion.getTitulo(), cancion.getArtista(), cancion.getDuracion(), cancion.getGenero());
+                nueva.actualizarDatos();
+                registrarActualizacion(nodoBuscado, nueva);
+            }
 
         } else {
 
@@ -128,38 +199,155 @@ public class AplicacionListasSimples {
      * desee no continuar
      */
     void eliminarCanciones() {
+        List<String> titulos = new ArrayList<>();
         do {
-            Cancion cancionBuscada = new Cancion();
-            cancionBuscada.cargarTitulo();
-            NodoSimple nodoBuscado = listaCanciones.eliminar(cancionBuscada);
+            titulos.add(new Cancion().cargarTitulo());
+        } while (GestorEntradaConsola.confirmar());
+
+        int quitadas = quitarTodas(titulos);
+        System.out.println("Canciones quitadas de la lista: " + quitadas);
+    }
 
-            if (nodoBuscado != null) {
+    /**
+     * Lista las canciones de menos de 5 minutos usando el indice por
+     * duracion, de la mas corta a la mas larga.
+     */
+    void listarCancionesMenoresQue5() {
+        mostrarCanciones(listaCanciones.entre(Float.NEGATIVE_INFINITY, Math.nextDown(5.00f)));
+    }
 
-                System.out.println("La cancion: ");
-                GestorSalidaConsola.mostrarTabulado(Cancion.class, nodoBuscado.getDato(), LIMITES_CARACTER_CONSOLA);
-                System.out.println("Fue quitada de la lista");
+    /**
+     * Lista las canciones de un artista usando el indice por artista.
+     */
+    void listarCancionesPorArtista() {
+        System.out.print("Artista: ");
+        mostrarCanciones(listaCanciones.porArtista(GestorEntradaConsola.leerString().trim()));
+    }
 
-            } else {
+    /**
+     * Lista las canciones de un genero usando el indice por genero.
+     */
+    void listarCancionesPorGenero() {
+        System.out.print("Genero: ");
+        mostrarCanciones(listaCanciones.porGenero(GestorEntradaConsola.leerString().trim()));
+    }
 
-                System.out.println("La cancion no se encuentra en la lista");
+    /**
+     * Muestra la cantidad de canciones y la duracion promedio de cada genero,
+     * calculadas sobre una copia por columnas de la lista.
+     */
+    void mostrarEstadisticasPorGenero() {
+        ColumnasCanciones columnas = ColumnasCanciones.de(listaCanciones);
+        System.out.printf("Canciones: %d, duracion promedio: %.2f%n", columnas.tamanio(), columnas.promedioDuracion());
+        for (Map.Entry<String, Integer> genero : columnas.contarPorGenero().entrySet()) {
+            System.out.printf("%s: %d canciones, duracion promedio: %.2f%n", genero.getKey(), genero.getValue(),
+                    columnas.promedioDuracionGenero(genero.getKey()));
+        }
+    }
 
+    private void mostrarCanciones(Iterator<Cancion> canciones) {
+        if (!canciones.hasNext()) {
+            System.out.println("No hay canciones");
+        }
+        while (canciones.hasNext()) {
+            System.out.println(canciones.next().toString());
+        }
+    }
+
+    /**
+     * Carga en la lista todas las canciones de un archivo CSV o TSV con las
+     * columnas titulo, artista, duracion y genero.
+     */
+    void importarCanciones() {
+        System.out.print("Archivo: ");
+        Path archivo = Paths.get(GestorEntradaConsola.leerString().trim());
+        CargadorCanciones cargador = CargadorCanciones.para(archivo);
+        cargador.setParalelo(true);
+
+        try {
+            ResultadoCarga resultado = cargador.cargar(archivo, listaCanciones);
+            System.out.println("Canciones cargadas: " + resultado.getFilas()
+                    + " (descartadas: " + resultado.getFilasInvalidas() + ", "
+                    + (long) resultado.filasPorSegundo() + " filas/s)");
+            // La carga masiva no pasa por la bitacora; compactarla la deja
+            // con el contenido actual de la lista.
+            if (bitacora != null) {
+                bitacora.compactar();
             }
+        } catch (IOException e) {
+            System.err.println("Error " + e.getMessage());
+        }
+    }
 
-        } while (GestorEntradaConsola.confirmar());
+    /**
+     * Inserta una cancion al frente de la lista, registrandola en la bitacora.
+     */
+    void insertar(Cancion cancion) {
+        if (bitacora == null) {
+            listaCanciones.insertarFrente(cancion);
+            return;
+        }
+        try {
+            bitacora.insertarFrente(cancion);
+        } catch (IOException e) {
+            System.err.println("Error " + e.getMessage());
+        }
     }
 
-    void listarCancionesMenoresQue5() {
+    /**
+     * Inserta varias canciones al frente de la lista, en el orden dado,
+     * registrandolas en la bitacora.
+     */
+    void insertarTodas(List<Cancion> canciones) {
+        if (bitacora == null) {
+            listaCanciones.insertarTodos(canciones);
+            return;
+        }
+        try {
+            bitacora.insertarTodos(canciones);
+        } catch (IOException e) {
+            System.err.println("Error " + e.getMessage());
+        }
+    }
 
-        NodoSimple nodoActual = listaCanciones.getPrimero();
+    /**
+     * Elimina de la lista todas las canciones con esos titulos, registrando
+     * las eliminaciones en la bitacora.
+     *
+     * @return la cantidad de canciones eliminadas.
+     */
+    int quitarTodas(Collection<String> titulos) {
+        if (bitacora == null) {
+            return listaCanciones.eliminarTodos(titulos);
+        }
+        try {
+            return bitacora.eliminarTodos(titulos);
+        } catch (IOException e) {
+            System.err.println("Error " + e.getMessage());
+            return 0;
+        }
+    }
 
-        while (nodoActual != null) {
+    /**
+     * Registra en la bitacora los datos nuevos de la cancion de un nodo y los
+     * aplica. Si no se pueden registrar, la cancion queda como estaba.
+     */
+    void registrarActualizacion(NodoSimple<Cancion> nodo, Cancion nueva) {
+        try {
+            bitacora.actualizar(nodo, nueva);
+        } catch (IOException e) {
+            System.err.println("Error " + e.getMessage());
+        }
+    }
 
-            if (nodoActual.getDato().getDuracion() < 5.00) {
-                System.out.println(nodoActual.getDato().toString());
+    void finalizar() {
+        if (bitacora != null) {
+            try {
+                bitacora.close();
+            } catch (IOException e) {
+                System.err.println("Error " + e.getMessage());
             }
-            nodoActual = nodoActual.getSiguiente();
         }
-
     }
 
     public static void main(String[] args) {
@@ -168,6 +356,7 @@ public class AplicacionListasSimples {
         app.inicializar();
         app.cargarCasosDePrueba();
         app.menu();
+        app.finalizar();
     }
 
 }
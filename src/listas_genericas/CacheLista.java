@@ -0,0 +1,260 @@
+package listas_genericas;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Cache de capacidad acotada sobre una {@link ListaSimple} indexada, por
+ * ejemplo para las canciones escuchadas recientemente.
+ *
+ * Los elementos se buscan por clave con el indice de la lista, en O(1), y
+ * cada acierto reorganiza la lista segun la {@link PoliticaDesalojo}: con
+ * {@link PoliticaDesalojo#lru()} el elemento pasa al frente. Cuando la cache
+ * esta llena, cada elemento nuevo desaloja al ultimo de la lista, salvo que
+ * la politica no lo admita. Los nodos desalojados vuelven a un pool de la
+ * lista, de modo que el recambio no crea nodos nuevos.
+ *
+ * Las busquedas se informan al {@link MonitorLista} asignado con
+ * {@link #setMonitor}, igual que en la lista. Igual que la lista, no es segura
+ * para usar desde varios hilos a la vez.
+ *
+ * @param <T> el tipo de dato almacenado en la cache.
+ * @author Carlos Álvarez
+ */
+public class CacheLista<T> implements Iterable<T> {
+
+    private static final int CAPACIDAD_POOL = 16;
+
+    private final ListaSimple<T> lista;
+    private final Function<? super T, ?> extractorClave;
+    private final PoliticaDesalojo<T> politica;
+    private final int capacidad;
+    private long aciertos;
+    private long fallos;
+    private long desalojos;
+    private long rechazados;
+
+    /**
+     * Crea una cache con politica LRU.
+     *
+     * @param capacidad la cantidad maxima de elementos.
+     * @param extractorClave la funcion que obtiene la clave de cada dato.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public CacheLista(int capacidad, Function<? super T, ?> extractorClave) {
+        this(capacidad, extractorClave, PoliticaDesalojo.lru());
+    }
+
+    /**
+     * @param capacidad la cantidad maxima de elementos.
+     * @param extractorClave la funcion que obtiene la clave de cada dato.
+     * @param politica la politica de reorganizacion y admision, que no debe
+     * compartirse con otra cache.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public CacheLista(int capacidad, Function<? super T, ?> extractorClave, PoliticaDesalojo<T> politica) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad de la cache debe ser mayor a 0.");
+        }
+        this.capacidad = capacidad;
+        this.extractorClave = extractorClave;
+        this.politica = politica;
+        this.lista = new ListaSimple<>(extractorClave);
+        lista.activarIndice();
+        lista.activarPool(CAPACIDAD_POOL);
+    }
+
+    /**
+     * Busca un elemento por su clave y cuenta la consulta como acierto o
+     * fallo.
+     *
+     * @param clave la clave buscada.
+     * @return el elemento, o {@code null} si no esta en la cache.
+     */
+    public T obtener(Object clave) {
+        politica.accedido(clave);
+        NodoSimple<T> nodo = lista.buscarClave(clave);
+        if (nodo == null) {
+            fallos++;
+            return null;
+        }
+        aciertos++;
+        politica.acierto(lista, nodo);
+        return nodo.getDato();
+    }
+
+    /**
+     * Busca un elemento por su clave y, si no esta, lo obtiene con el
+     * cargador y lo agrega a la cache.
+     *
+     * @param clave la clave buscada.
+     * @param cargador obtiene el elemento a partir de su clave, o devuelve
+     * {@code null} si no existe.
+     * @return el elemento, o {@code null} si no estaba en la cache y el
+     * cargador no lo encontro.
+     */
+    public T obtener(Object clave, Function<Object, ? extends T> cargador) {
+        T dato = obtener(clave);
+        if (dato == null) {
+            dato = cargador.apply(clave);
+            if (dato != null) {
+                agregar(clave, dato);
+            }
+        }
+        return dato;
+    }
+
+    /**
+     * Agrega un elemento a la cache. Si ya habia uno con la misma clave, se
+     * reemplaza y cuenta como un uso para la politica. Cada llamada cuenta
+     * como un acceso a la clave: con {@link PoliticaDesalojo#tinyLfu(int)}, un
+     * elemento que la politica rechaza con la cache llena puede entrar al
+     * ponerlo de nuevo, cuando su frecuencia supera a la del ultimo.
+     *
+     * @param dato el elemento.
+     * @return si el elemento quedo en la cache; {@code false} si la cache
+     * estaba llena y la politica no lo admitio.
+     */
+    public boolean poner(T dato) {
+        Object clave = extractorClave.apply(dato);
+        politica.accedido(clave);
+        NodoSimple<T> nodo = lista.buscarClave(clave);
+        if (nodo == null) {
+            return agregar(clave, dato);
+        }
+        nodo.setDato(dato);
+        politica.acierto(lista, nodo);
+        return true;
+    }
+
+    /**
+     * Quita un elemento de la cache.
+     *
+     * @param clave la clave del elemento.
+     * @return el elemento quitado, o {@code null} si no estaba.
+     */
+    public T quitar(Object clave) {
+        NodoSimple<T> nodo = lista.buscarClave(clave);
+        if (nodo == null) {
+            return null;
+        }
+        politica.quitado(nodo);
+        lista.desenganchar(lista.anterior(nodo), nodo);
+        T dato = nodo.getDato();
+        lista.liberar(nodo);
+        return dato;
+    }
+
+    /**
+     * @param clave la clave buscada.
+     * @return si hay un elemento con esa clave, sin contarlo como consulta ni
+     * reorganizar la lista.
+     */
+    public boolean contiene(Object clave) {
+        return lista.buscarClave(clave) != null;
+    }
+
+    /**
+     * @return la cantidad de elementos en la cache.
+     */
+    public int tamanio() {
+        return lista.tamanio();
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * @param monitor el monitor que recibe las busquedas, inserciones y
+     * eliminaciones de la lista de la cache.
+     */
+    public void setMonitor(MonitorLista monitor) {
+        lista.setMonitor(monitor);
+    }
+
+    /**
+     * @return la cantidad de consultas que encontraron el elemento.
+     */
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    /**
+     * @return la cantidad de consultas que no encontraron el elemento.
+     */
+    public long getFallos() {
+        return fallos;
+    }
+
+    /**
+     * @return la cantidad de elementos que salieron para dar lugar a otros.
+     */
+    public long getDesalojos() {
+        return desalojos;
+    }
+
+    /**
+     * @return la cantidad de elementos nuevos que la politica no admitio.
+     */
+    public long getRechazados() {
+        return rechazados;
+    }
+
+    /**
+     * @return la fraccion de consultas que encontraron el elemento, entre 0 y
+     * 1.
+     */
+    public double getTasaAciertos() {
+        long consultas = aciertos + fallos;
+        return consultas == 0 ? 0 : (double) aciertos / consultas;
+    }
+
+    /**
+     * Pone en cero las estadisticas, sin vaciar la cache.
+     */
+    public void reiniciarEstadisticas() {
+        aciertos = 0;
+        fallos = 0;
+        desalojos = 0;
+        rechazados = 0;
+    }
+
+    /**
+     * @return un iterador sobre los elementos, desde el que la politica
+     * conserva con mas prioridad hasta el proximo a desalojar. No debe usarse
+     * mientras se consulta la cache.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return lista.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheLista{elementos=" + tamanio() + "/" + capacidad + ", aciertos=" + aciertos
+                + String.format(" (%.1f%%)", getTasaAciertos() * 100) + ", fallos=" + fallos
+                + ", desalojos=" + desalojos + ", rechazados=" + rechazados + '}';
+    }
+
+    /**
+     * Inserta un elemento que no esta en la cache, desalojando al ultimo de
+     * la lista si la cache esta llena y la politica lo admite.
+     */
+    private boolean agregar(Object clave, T dato) {
+        if (lista.tamanio() == capacidad) {
+            NodoSimple<T> victima = lista.getUltimo();
+            if (!politica.admitir(clave, extractorClave.apply(victima.getDato()))) {
+                rechazados++;
+                return false;
+            }
+            politica.quitado(victima);
+            lista.liberar(lista.desenganchar(lista.anterior(victima), victima));
+            desalojos++;
+        }
+        lista.insertarFrente(dato);
+        politica.insertado(lista, lista.getPrimero());
+        return true;
+    }
+
+}
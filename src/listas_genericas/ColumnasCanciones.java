@@ -0,0 +1,229 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import entidades.CancionCodificada;
+import entidades.CodificadorCanciones;
+import entidades.DiccionarioCadenas;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Copia por columnas de las canciones de una lista, para consultas que
+ * recorren todas las canciones pero usan pocos campos, como sumar duraciones
+ * o contar por genero.
+ *
+ * Cada campo se guarda en su propio arreglo, en el orden de la lista: las
+ * duraciones en un {@code float[]}, el artista y el genero como codigos de
+ * diccionarios propios de las columnas en dos {@code int[]}, y los titulos en
+ * un {@code String[]}. Las {@link CancionCodificada} aportan sus codigos ya
+ * resueltos: cada codigo de su codificador se traduce al de las columnas una
+ * sola vez, sin volver a buscar la cadena por cancion, y los diccionarios
+ * compartidos del codificador no se modifican. Un recorrido lee solo los arreglos que
+ * necesita de forma secuencial, sin seguir enlaces de nodo en nodo, y con la
+ * Vector API compara varias posiciones por instruccion (ver
+ * {@link EscaneoColumnas}).
+ *
+ * Es una foto de la lista al momento de crearla: los cambios posteriores de
+ * la lista no se reflejan, y para verlos hay que volver a crearla con
+ * {@link #de}.
+ *
+ * @author Carlos Álvarez
+ */
+public class ColumnasCanciones {
+
+    private static final EscaneoColumnas ESCANEO = EscaneoColumnas.disponible();
+
+    private final int cantidad;
+    private final float[] duraciones;
+    private final int[] codigosArtista;
+    private final int[] codigosGenero;
+    private final String[] titulos;
+    private final DiccionarioCadenas artistas = new DiccionarioCadenas();
+    private final DiccionarioCadenas generos = new DiccionarioCadenas();
+
+    /**
+     * Traduccion perezosa de los codigos de un diccionario de un
+     * {@link CodificadorCanciones} a los de un diccionario de las columnas.
+     */
+    private static final class Traduccion {
+
+        private final DiccionarioCadenas origen;
+        private final DiccionarioCadenas destino;
+        /**
+         * Codigo de destino mas uno de cada codigo de origen; cero si todavia
+         * no se tradujo.
+         */
+        private int[] codigos = new int[16];
+
+        private Traduccion(DiccionarioCadenas origen, DiccionarioCadenas destino) {
+            this.origen = origen;
+            this.destino = destino;
+        }
+
+        private int traducir(int codigo) {
+            if (codigo == DiccionarioCadenas.SIN_VALOR) {
+                return DiccionarioCadenas.SIN_VALOR;
+            }
+            if (codigo >= codigos.length) {
+                codigos = Arrays.copyOf(codigos, Math.max(codigos.length * 2, codigo + 1));
+            }
+            int traducido = codigos[codigo];
+            if (traducido == 0) {
+                traducido = destino.codificar(origen.decodificar(codigo)) + 1;
+                codigos[codigo] = traducido;
+            }
+            return traducido - 1;
+        }
+
+    }
+
+    private ColumnasCanciones(int cantidad) {
+        this.cantidad = cantidad;
+        this.duraciones = new float[cantidad];
+        this.codigosArtista = new int[cantidad];
+        this.codigosGenero = new int[cantidad];
+        this.titulos = new String[cantidad];
+    }
+
+    /**
+     * Copia las canciones de la lista con un unico recorrido. Los codigos de
+     * las canciones codificadas se traducen con el ultimo codificador visto,
+     * que en general es el unico de la lista.
+     *
+     * @param lista la lista a copiar.
+     * @return las columnas con las canciones de la lista, en su orden.
+     */
+    public static ColumnasCanciones de(ListaSimple<? extends Cancion> lista) {
+        ColumnasCanciones columnas = new ColumnasCanciones(lista.tamanio());
+        CodificadorCanciones codificador = null;
+        Traduccion artistas = null;
+        Traduccion generos = null;
+        int i = 0;
+        for (Cancion cancion : lista) {
+            columnas.titulos[i] = cancion.getTitulo();
+            columnas.duraciones[i] = cancion.getDuracion();
+            if (cancion instanceof CancionCodificada codificada) {
+                if (codificada.getCodificador() != codificador) {
+                    codificador = codificada.getCodificador();
+                    artistas = new Traduccion(codificador.getArtistas(), columnas.artistas);
+                    generos = new Traduccion(codificador.getGeneros(), columnas.generos);
+                }
+                columnas.codigosArtista[i] = artistas.traducir(codificada.getCodigoArtista());
+                columnas.codigosGenero[i] = generos.traducir(codificada.getCodigoGenero());
+            } else {
+                columnas.codigosArtista[i] = columnas.artistas.codificar(cancion.getArtista());
+                columnas.codigosGenero[i] = columnas.generos.codificar(cancion.getGenero());
+            }
+            i++;
+        }
+        return columnas;
+    }
+
+    /**
+     * @return si los recorridos usan la Vector API.
+     */
+    public static boolean isVectorial() {
+        return !(ESCANEO instanceof EscaneoEscalar);
+    }
+
+    public int tamanio() {
+        return cantidad;
+    }
+
+    /**
+     * @param minima la duracion minima, inclusive.
+     * @param maxima la duracion maxima, inclusive.
+     * @return la cantidad de canciones con duracion entre los extremos.
+     */
+    public int contarDuracionEntre(float minima, float maxima) {
+        return ESCANEO.contarEntre(duraciones, cantidad, minima, maxima);
+    }
+
+    /**
+     * @param minima la duracion minima, inclusive.
+     * @param maxima la duracion maxima, inclusive.
+     * @return los titulos de las canciones con duracion entre los extremos,
+     * en el orden de la lista.
+     */
+    public String[] titulosDuracionEntre(float minima, float maxima) {
+        int[] posiciones = new int[cantidad];
+        int seleccionadas = ESCANEO.seleccionarEntre(duraciones, cantidad, minima, maxima, posiciones);
+        String[] resultado = new String[seleccionadas];
+        for (int i = 0; i < seleccionadas; i++) {
+            resultado[i] = titulos[posiciones[i]];
+        }
+        return resultado;
+    }
+
+    /**
+     * @return la suma de las duraciones de todas las canciones.
+     */
+    public double sumarDuraciones() {
+        return ESCANEO.sumar(duraciones, cantidad);
+    }
+
+    /**
+     * @return la duracion promedio, o cero si no hay canciones.
+     */
+    public double promedioDuracion() {
+        return cantidad == 0 ? 0 : sumarDuraciones() / cantidad;
+    }
+
+    /**
+     * @param genero el genero buscado.
+     * @return la cantidad de canciones de ese genero.
+     */
+    public int contarGenero(String genero) {
+        int codigo = generos.codigo(genero);
+        return codigo == DiccionarioCadenas.SIN_VALOR ? 0 : ESCANEO.contarIguales(codigosGenero, cantidad, codigo);
+    }
+
+    /**
+     * @param artista el artista buscado.
+     * @return la cantidad de canciones de ese artista.
+     */
+    public int contarArtista(String artista) {
+        int codigo = artistas.codigo(artista);
+        return codigo == DiccionarioCadenas.SIN_VALOR ? 0 : ESCANEO.contarIguales(codigosArtista, cantidad, codigo);
+    }
+
+    /**
+     * @param genero el genero buscado.
+     * @return la duracion promedio de las canciones de ese genero, o cero si
+     * no hay ninguna.
+     */
+    public double promedioDuracionGenero(String genero) {
+        int codigo = generos.codigo(genero);
+        if (codigo == DiccionarioCadenas.SIN_VALOR) {
+            return 0;
+        }
+        int canciones = ESCANEO.contarIguales(codigosGenero, cantidad, codigo);
+        return canciones == 0 ? 0 : ESCANEO.sumarDonde(duraciones, codigosGenero, cantidad, codigo) / canciones;
+    }
+
+    /**
+     * Cuenta las canciones de cada genero con un unico recorrido de la
+     * columna de codigos.
+     *
+     * @return la cantidad de canciones por genero, en el orden en que los
+     * generos aparecen en la lista.
+     */
+    public Map<String, Integer> contarPorGenero() {
+        int[] conteos = new int[generos.tamanio()];
+        for (int i = 0; i < cantidad; i++) {
+            int codigo = codigosGenero[i];
+            if (codigo != DiccionarioCadenas.SIN_VALOR) {
+                conteos[codigo]++;
+            }
+        }
+        Map<String, Integer> resultado = new LinkedHashMap<>();
+        for (int codigo = 0; codigo < conteos.length; codigo++) {
+            if (conteos[codigo] > 0) {
+                resultado.put(generos.decodificar(codigo), conteos[codigo]);
+            }
+        }
+        return resultado;
+    }
+
+}
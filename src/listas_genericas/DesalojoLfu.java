@@ -0,0 +1,85 @@
+package listas_genericas;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Politica LFU de una {@link CacheLista}, con reorganizacion en O(1).
+ *
+ * La lista se mantiene ordenada de mayor a menor cantidad de aciertos, con
+ * los elementos de igual frecuencia contiguos y el mas reciente de cada grupo
+ * primero. La politica recuerda el primer nodo de cada grupo: un acierto
+ * mueve el nodo delante del primero del grupo siguiente, o deja el nodo donde
+ * esta si ese grupo no existe y el nodo ya encabeza el suyo. Los elementos
+ * nuevos entran delante del grupo de frecuencia 1, de modo que el ultimo de
+ * la lista es siempre el menos consultado y, entre iguales, el mas antiguo.
+ *
+ * @param <T> el tipo de dato almacenado en la cache.
+ * @author Carlos Álvarez
+ */
+final class DesalojoLfu<T> implements PoliticaDesalojo<T> {
+
+    private final Map<NodoSimple<T>, Integer> frecuencias = new IdentityHashMap<>();
+    private final Map<Integer, NodoSimple<T>> primeros = new HashMap<>();
+
+    @Override
+    public void acierto(ListaSimple<T> lista, NodoSimple<T> nodo) {
+        int frecuencia = frecuencias.get(nodo);
+        NodoSimple<T> primeroGrupo = primeros.get(frecuencia);
+        NodoSimple<T> primeroMayor = primeros.get(frecuencia + 1);
+        soltarPrimero(nodo, frecuencia);
+
+        NodoSimple<T> delante = primeroMayor != null ? primeroMayor : primeroGrupo != nodo ? primeroGrupo : null;
+        if (delante != null) {
+            lista.moverDespues(lista.anterior(delante), nodo);
+        }
+        frecuencias.put(nodo, frecuencia + 1);
+        primeros.put(frecuencia + 1, nodo);
+    }
+
+    @Override
+    public void insertado(ListaSimple<T> lista, NodoSimple<T> nodo) {
+        NodoSimple<T> primeroGrupo = primeros.get(1);
+        if (primeroGrupo == null) {
+            if (nodo != lista.getUltimo()) {
+                lista.moverDespues(lista.getUltimo(), nodo);
+            }
+        } else {
+            NodoSimple<T> destino = lista.anterior(primeroGrupo);
+            if (destino != nodo) {
+                lista.moverDespues(destino, nodo);
+            }
+        }
+        frecuencias.put(nodo, 1);
+        primeros.put(1, nodo);
+    }
+
+    @Override
+    public void quitado(NodoSimple<T> nodo) {
+        Integer frecuencia = frecuencias.get(nodo);
+        if (frecuencia != null) {
+            soltarPrimero(nodo, frecuencia);
+            frecuencias.remove(nodo);
+        }
+    }
+
+    /**
+     * Si el nodo encabeza su grupo, el grupo pasa a empezar en el siguiente,
+     * o desaparece si el siguiente tiene otra frecuencia. Se llama antes de
+     * mover o desenganchar el nodo.
+     */
+    private void soltarPrimero(NodoSimple<T> nodo, int frecuencia) {
+        if (primeros.get(frecuencia) != nodo) {
+            return;
+        }
+        NodoSimple<T> siguiente = nodo.getSiguiente();
+        Integer frecuenciaSiguiente = siguiente == null ? null : frecuencias.get(siguiente);
+        if (frecuenciaSiguiente != null && frecuenciaSiguiente == frecuencia) {
+            primeros.put(frecuencia, siguiente);
+        } else {
+            primeros.remove(frecuencia);
+        }
+    }
+
+}
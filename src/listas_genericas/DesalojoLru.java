@@ -0,0 +1,17 @@
+package listas_genericas;
+
+/**
+ * Politica LRU de una {@link CacheLista}: la busqueda autoorganizada con
+ * mover al frente deja la lista ordenada del uso mas reciente al mas antiguo.
+ *
+ * @param <T> el tipo de dato almacenado en la cache.
+ * @author Carlos Álvarez
+ */
+class DesalojoLru<T> implements PoliticaDesalojo<T> {
+
+    @Override
+    public void acierto(ListaSimple<T> lista, NodoSimple<T> nodo) {
+        lista.moverAlFrente(nodo);
+    }
+
+}
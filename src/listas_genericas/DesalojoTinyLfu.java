@@ -0,0 +1,37 @@
+package listas_genericas;
+
+/**
+ * Politica LRU con admision TinyLFU de una {@link CacheLista}.
+ *
+ * La lista se reorganiza igual que con {@link DesalojoLru}, pero cada
+ * consulta se registra en un {@link SketchFrecuencias} y, con la cache llena,
+ * un elemento nuevo solo entra si su frecuencia estimada supera a la del
+ * ultimo de la lista. Asi un recorrido de claves que se consultan una sola
+ * vez no vacia la cache de los elementos populares.
+ *
+ * @param <T> el tipo de dato almacenado en la cache.
+ * @author Carlos Álvarez
+ */
+final class DesalojoTinyLfu<T> extends DesalojoLru<T> {
+
+    private final SketchFrecuencias sketch;
+
+    /**
+     * @param capacidad la capacidad de la cache.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    DesalojoTinyLfu(int capacidad) {
+        this.sketch = new SketchFrecuencias(capacidad);
+    }
+
+    @Override
+    public void accedido(Object clave) {
+        sketch.registrar(clave);
+    }
+
+    @Override
+    public boolean admitir(Object claveNueva, Object claveVictima) {
+        return sketch.frecuencia(claveNueva) > sketch.frecuencia(claveVictima);
+    }
+
+}
@@ -0,0 +1,22 @@
+package listas_genericas;
+
+/**
+ * Politica de transposicion de una {@link CacheLista}: cada acierto
+ * intercambia el elemento con el que lo precede. Es mas estable que mover al
+ * frente ante consultas aisladas, pero tarda mas en adaptarse cuando cambian
+ * los elementos mas consultados.
+ *
+ * @param <T> el tipo de dato almacenado en la cache.
+ * @author Carlos Álvarez
+ */
+final class DesalojoTransposicion<T> implements PoliticaDesalojo<T> {
+
+    @Override
+    public void acierto(ListaSimple<T> lista, NodoSimple<T> nodo) {
+        NodoSimple<T> anterior = lista.anterior(nodo);
+        if (anterior != null) {
+            lista.moverDespues(lista.anterior(anterior), nodo);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package listas_genericas;
+
+/**
+ * Recorridos sobre las columnas de {@link ColumnasCanciones}. Hay una version
+ * escalar y otra con la Vector API del JDK; {@link #disponible()} elige la
+ * vectorial si el modulo {@code jdk.incubator.vector} esta cargado y la clase
+ * esta en el classpath, salvo que la propiedad de sistema {@value #PROPIEDAD}
+ * valga {@code escalar}. La version vectorial se compila aparte (ver el target
+ * {@code escaneo-vectorial} de build.xml), para que el resto del proyecto no
+ * dependa del modulo incubado.
+ *
+ * Todos los metodos consideran solo las primeras {@code cantidad} posiciones
+ * de cada arreglo.
+ *
+ * @author Carlos Álvarez
+ */
+interface EscaneoColumnas {
+
+    String PROPIEDAD = "listas_genericas.escaneo";
+
+    /**
+     * @return la cantidad de valores entre {@code minimo} y {@code maximo},
+     * inclusive.
+     */
+    int contarEntre(float[] valores, int cantidad, float minimo, float maximo);
+
+    /**
+     * Escribe en {@code destino} las posiciones, en orden creciente, de los
+     * valores entre {@code minimo} y {@code maximo}, inclusive.
+     *
+     * @return la cantidad de posiciones escritas.
+     */
+    int seleccionarEntre(float[] valores, int cantidad, float minimo, float maximo, int[] destino);
+
+    /**
+     * @return la suma de los valores.
+     */
+    double sumar(float[] valores, int cantidad);
+
+    /**
+     * @return la cantidad de codigos iguales a {@code codigo}.
+     */
+    int contarIguales(int[] codigos, int cantidad, int codigo);
+
+    /**
+     * @return la suma de los valores cuyo codigo, en la misma posicion, es
+     * igual a {@code codigo}.
+     */
+    double sumarDonde(float[] valores, int[] codigos, int cantidad, int codigo);
+
+    /**
+     * @return el recorrido vectorial si la Vector API esta disponible, o el
+     * escalar.
+     */
+    static EscaneoColumnas disponible() {
+        if (!"escalar".equals(System.getProperty(PROPIEDAD))
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (EscaneoColumnas) Class.forName("listas_genericas.EscaneoVectorial")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Sigue con la version escalar.
+            }
+        }
+        return new EscaneoEscalar();
+    }
+
+}
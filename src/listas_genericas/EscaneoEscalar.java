@@ -0,0 +1,67 @@
+package listas_genericas;
+
+/**
+ * Recorridos de {@link ColumnasCanciones} con bucles escalares simples, que el
+ * compilador JIT puede autovectorizar en parte. Se usa cuando la Vector API
+ * no esta disponible.
+ *
+ * @author Carlos Álvarez
+ */
+final class EscaneoEscalar implements EscaneoColumnas {
+
+    @Override
+    public int contarEntre(float[] valores, int cantidad, float minimo, float maximo) {
+        int total = 0;
+        for (int i = 0; i < cantidad; i++) {
+            float valor = valores[i];
+            if (valor >= minimo && valor <= maximo) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public int seleccionarEntre(float[] valores, int cantidad, float minimo, float maximo, int[] destino) {
+        int seleccionados = 0;
+        for (int i = 0; i < cantidad; i++) {
+            float valor = valores[i];
+            if (valor >= minimo && valor <= maximo) {
+                destino[seleccionados++] = i;
+            }
+        }
+        return seleccionados;
+    }
+
+    @Override
+    public double sumar(float[] valores, int cantidad) {
+        double suma = 0;
+        for (int i = 0; i < cantidad; i++) {
+            suma += valores[i];
+        }
+        return suma;
+    }
+
+    @Override
+    public int contarIguales(int[] codigos, int cantidad, int codigo) {
+        int total = 0;
+        for (int i = 0; i < cantidad; i++) {
+            if (codigos[i] == codigo) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public double sumarDonde(float[] valores, int[] codigos, int cantidad, int codigo) {
+        double suma = 0;
+        for (int i = 0; i < cantidad; i++) {
+            if (codigos[i] == codigo) {
+                suma += valores[i];
+            }
+        }
+        return suma;
+    }
+
+}
@@ -0,0 +1,63 @@
+package listas_genericas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JDK Flight Recorder emitido por cada busqueda por clave de una
+ * {@link ListaSimple}, hecha con {@link ListaSimple#buscar} o con
+ * {@link ListaSimple#eliminar}.
+ *
+ * Esta desactivado por defecto. Se activa al iniciar la JVM con
+ * {@code -XX:StartFlightRecording:listas_genericas.Busqueda#enabled=true},
+ * desde una grabacion iniciada con {@code jcmd}, o dentro del proceso con un
+ * {@code jdk.jfr.consumer.RecordingStream} para consultar los eventos en
+ * tiempo de ejecucion. Mientras esta desactivado, {@link #emitir} no
+ * calcula el hash de la clave y el compilador elimina la creacion del
+ * evento.
+ *
+ * @author Carlos Álvarez
+ */
+@Name("listas_genericas.Busqueda")
+@Label("Busqueda en ListaSimple")
+@Category({"Listas", "ListaSimple"})
+@Description("Busqueda por clave: resultado y cantidad de nodos recorridos")
+@StackTrace(false)
+final class EventoBusqueda extends Event {
+
+    @Label("Operacion")
+    String operacion;
+
+    @Label("Hash de la clave")
+    int hashClave;
+
+    @Label("Encontrado")
+    boolean encontrado;
+
+    @Label("Indexada")
+    @Description("La busqueda se resolvio con el indice por clave")
+    boolean indexada;
+
+    @Label("Nodos recorridos")
+    int recorridos;
+
+    /**
+     * Emite el evento si esta activo en alguna grabacion.
+     */
+    static void emitir(String operacion, Object clave, boolean encontrado, boolean indexada, int recorridos) {
+        EventoBusqueda evento = new EventoBusqueda();
+        if (evento.shouldCommit()) {
+            evento.operacion = operacion;
+            evento.hashClave = clave == null ? 0 : clave.hashCode();
+            evento.encontrado = encontrado;
+            evento.indexada = indexada;
+            evento.recorridos = recorridos;
+            evento.commit();
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package listas_genericas;
+
+import java.util.function.Function;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de JDK Flight Recorder emitido cada vez que
+ * {@link ListaSimple#desenganchar} quita un nodo de la cadena, ya sea desde
+ * {@link ListaSimple#eliminar}, desde {@link ListaSimple#eliminarTodos} o
+ * llamado directamente. Esta desactivado por defecto, igual que
+ * {@link EventoBusqueda}.
+ *
+ * @author Carlos Álvarez
+ */
+@Name("listas_genericas.Desenganche")
+@Label("Desenganche en ListaSimple")
+@Category({"Listas", "ListaSimple"})
+@Description("Nodo quitado de la cadena de una ListaSimple")
+@StackTrace(false)
+final class EventoDesenganche extends Event {
+
+    @Label("Hash de la clave")
+    int hashClave;
+
+    @Label("Era el primero")
+    boolean primero;
+
+    @Label("Tamanio restante")
+    int tamanio;
+
+    /**
+     * Emite el evento si esta activo en alguna grabacion. La clave del dato
+     * solo se obtiene en ese caso.
+     */
+    static <T> void emitir(Function<? super T, ?> extractorClave, T dato, boolean primero, int tamanio) {
+        EventoDesenganche evento = new EventoDesenganche();
+        if (evento.shouldCommit()) {
+            Object clave = extractorClave.apply(dato);
+            evento.hashClave = clave == null ? 0 : clave.hashCode();
+            evento.primero = primero;
+            evento.tamanio = tamanio;
+            evento.commit();
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+package listas_genericas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores no negativos con cubos log-lineales, al estilo de
+ * HdrHistogram: los valores menores a {@code 2 * 2^precision} tienen un cubo
+ * cada uno, y cada potencia de dos siguiente se divide en {@code 2^precision}
+ * cubos del mismo ancho. Asi el error relativo de cualquier valor informado
+ * es menor a {@code 2^-precision} (alrededor del 3% con la precision por
+ * defecto), con una cantidad fija de cubos que no depende de los valores.
+ *
+ * Registrar un valor cuesta un desplazamiento y un incremento atomico, y se
+ * puede registrar y consultar desde varios hilos a la vez.
+ *
+ * @author Carlos Álvarez
+ */
+public class Histograma {
+
+    public static final int PRECISION_POR_DEFECTO = 5;
+
+    private final int precision;
+    private final int subcubos;
+    private final AtomicLongArray cubos;
+    private final LongAdder cantidad = new LongAdder();
+    private final LongAdder suma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    public Histograma() {
+        this(PRECISION_POR_DEFECTO);
+    }
+
+    /**
+     * @param precision la cantidad de bits de precision de cada cubo, entre
+     * 0 y 10.
+     * @throws IllegalArgumentException si la precision esta fuera de rango.
+     */
+    public Histograma(int precision) {
+        if (precision < 0 || precision > 10) {
+            throw new IllegalArgumentException("La precision debe estar entre 0 y 10: " + precision);
+        }
+        this.precision = precision;
+        this.subcubos = 1 << precision;
+        this.cubos = new AtomicLongArray((64 - precision) * subcubos);
+    }
+
+    /**
+     * @param valor el valor a registrar; los negativos se cuentan como cero.
+     */
+    public void registrar(long valor) {
+        long positivo = Math.max(valor, 0);
+        cubos.incrementAndGet(cubo(positivo));
+        cantidad.increment();
+        suma.add(positivo);
+        maximo.accumulate(positivo);
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public long getCantidad() {
+        return cantidad.sum();
+    }
+
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    public double getPromedio() {
+        long total = cantidad.sum();
+        return total == 0 ? 0 : (double) suma.sum() / total;
+    }
+
+    /**
+     * @param percentil el percentil buscado, entre 0 y 100.
+     * @return el mayor valor equivalente al del percentil, es decir el limite
+     * superior de su cubo, sin pasar del maximo registrado.
+     */
+    public long getPercentil(double percentil) {
+        long[] conteos = new long[cubos.length()];
+        long total = 0;
+        for (int i = 0; i < conteos.length; i++) {
+            conteos[i] = cubos.get(i);
+            total += conteos[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rango = Math.max(1, (long) Math.ceil(percentil / 100 * total));
+        long acumulado = 0;
+        for (int i = 0; i < conteos.length; i++) {
+            acumulado += conteos[i];
+            if (acumulado >= rango) {
+                return Math.min(limiteSuperior(i), getMaximo());
+            }
+        }
+        return getMaximo();
+    }
+
+    /**
+     * @param desde el extremo inferior, inclusive.
+     * @param hasta el extremo superior, inclusive.
+     * @return la cantidad aproximada de valores registrados entre los
+     * extremos: se cuentan los cubos completos que los contienen.
+     */
+    public long contarEntre(long desde, long hasta) {
+        if (hasta < desde || hasta < 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int i = cubo(Math.max(desde, 0)), ultimo = cubo(hasta); i <= ultimo; i++) {
+            total += cubos.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Vuelve a cero todos los contadores.
+     */
+    public void reiniciar() {
+        for (int i = 0; i < cubos.length(); i++) {
+            cubos.set(i, 0);
+        }
+        cantidad.reset();
+        suma.reset();
+        maximo.reset();
+    }
+
+    private int cubo(long valor) {
+        if (valor < 2L * subcubos) {
+            return (int) valor;
+        }
+        int desplazamiento = 63 - Long.numberOfLeadingZeros(valor) - precision;
+        return desplazamiento * subcubos + (int) (valor >>> desplazamiento);
+    }
+
+    private long limiteSuperior(int cubo) {
+        if (cubo < 2 * subcubos) {
+            return cubo;
+        }
+        int desplazamiento = cubo / subcubos - 1;
+        long base = cubo - (long) desplazamiento * subcubos;
+        long limite = ((base + 1) << desplazamiento) - 1;
+        return limite < 0 ? Long.MAX_VALUE : limite;
+    }
+
+    @Override
+    public String toString() {
+        return "n=" + getCantidad() + ", promedio=" + String.format("%.1f", getPromedio())
+                + ", p50=" + getPercentil(50) + ", p90=" + getPercentil(90)
+                + ", p99=" + getPercentil(99) + ", max=" + getMaximo();
+    }
+
+}
@@ -0,0 +1,259 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Indice opcional de una {@link ListaSimple} que asocia cada clave con el
+ * primer nodo que la contiene y cada nodo con su predecesor en la cadena.
+ *
+ * Permite que {@link ListaSimple#buscar} responda en O(1) y que
+ * {@link ListaSimple#eliminar} desenganche el nodo sin recorrer la lista. Los
+ * nodos con claves repetidas se encadenan entre si en el mismo orden en que
+ * aparecen en la lista, de modo que la busqueda devuelve siempre el mismo nodo
+ * que devolveria el recorrido desde el primero.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+class IndiceClaves<T> {
+
+    /**
+     * Datos que el indice guarda por cada nodo de la lista.
+     */
+    private static class Entrada<T> {
+
+        private NodoSimple<T> anterior;
+        private NodoSimple<T> siguienteMismaClave;
+        private Object clave;
+    }
+
+    private final Function<? super T, ?> extractorClave;
+    private final Map<Object, NodoSimple<T>> porClave = new HashMap<>();
+    private final Map<NodoSimple<T>, Entrada<T>> entradas = new IdentityHashMap<>();
+
+    /**
+     * @param extractorClave la funcion que obtiene la clave de cada dato.
+     */
+    IndiceClaves(Function<? super T, ?> extractorClave) {
+        this.extractorClave = extractorClave;
+    }
+
+    /**
+     * Registra un nodo recien insertado al frente de la lista.
+     *
+     * @param nodo el nuevo primer nodo de la lista.
+     */
+    void registrarFrente(NodoSimple<T> nodo) {
+        Entrada<T> entrada = new Entrada<>();
+        entrada.clave = extractorClave.apply(nodo.getDato());
+        entrada.siguienteMismaClave = porClave.get(entrada.clave);
+        porClave.put(entrada.clave, nodo);
+        entradas.put(nodo, entrada);
+
+        Entrada<T> siguiente = entradas.get(nodo.getSiguiente());
+        if (siguiente != null) {
+            siguiente.anterior = nodo;
+        }
+    }
+
+    /**
+     * Registra un nodo recien agregado al final de la lista. Si su clave ya
+     * existe, el nodo pasa al final de la cadena de nodos con esa clave.
+     *
+     * @param nodo el nuevo ultimo nodo de la lista.
+     * @param anterior el nodo que lo precede, o {@code null} si es el unico.
+     */
+    void registrarFinal(NodoSimple<T> nodo, NodoSimple<T> anterior) {
+        Entrada<T> entrada = new Entrada<>();
+        entrada.anterior = anterior;
+        entrada.clave = extractorClave.apply(nodo.getDato());
+        entradas.put(nodo, entrada);
+
+        NodoSimple<T> cabeza = porClave.get(entrada.clave);
+        if (cabeza == null) {
+            porClave.put(entrada.clave, nodo);
+            return;
+        }
+        Entrada<T> ultimaMismaClave = entradas.get(cabeza);
+        while (ultimaMismaClave.siguienteMismaClave != null) {
+            ultimaMismaClave = entradas.get(ultimaMismaClave.siguienteMismaClave);
+        }
+        ultimaMismaClave.siguienteMismaClave = nodo;
+    }
+
+    /**
+     * Registra un nodo recien enlazado a continuacion de otro en el medio de
+     * la lista. Si su clave ya existe, el nodo se ubica en su grupo segun su
+     * posicion, igual que en {@link #reindexar}.
+     *
+     * @param nodo el nodo enlazado.
+     * @param anterior el nodo que ahora lo precede.
+     */
+    void registrarDespues(NodoSimple<T> nodo, NodoSimple<T> anterior) {
+        Entrada<T> entrada = new Entrada<>();
+        entrada.anterior = anterior;
+        entrada.clave = extractorClave.apply(nodo.getDato());
+        entradas.put(nodo, entrada);
+
+        Entrada<T> siguiente = entradas.get(nodo.getSiguiente());
+        if (siguiente != null) {
+            siguiente.anterior = nodo;
+        }
+        agregarAGrupo(nodo, entrada);
+    }
+
+    /**
+     * Registra una cadena de nodos recien insertada al frente de la lista.
+     *
+     * @param primeroCadena el nuevo primer nodo de la lista.
+     * @param ultimoCadena el ultimo nodo de la cadena insertada.
+     */
+    void registrarCadenaFrente(NodoSimple<T> primeroCadena, NodoSimple<T> ultimoCadena) {
+        List<NodoSimple<T>> cadena = new ArrayList<>();
+        for (NodoSimple<T> p = primeroCadena; p != ultimoCadena; p = p.getSiguiente()) {
+            cadena.add(p);
+        }
+        cadena.add(ultimoCadena);
+        for (int i = cadena.size() - 1; i >= 0; i--) {
+            registrarFrente(cadena.get(i));
+        }
+    }
+
+    /**
+     * Quita del indice un nodo que acaba de ser desenganchado de la lista.
+     *
+     * @param anterior el nodo que precedia al eliminado, o {@code null} si el
+     * eliminado era el primero.
+     * @param nodo el nodo desenganchado.
+     */
+    void registrarDesenganche(NodoSimple<T> anterior, NodoSimple<T> nodo) {
+        Entrada<T> entrada = entradas.remove(nodo);
+        if (entrada == null) {
+            return;
+        }
+
+        Entrada<T> siguiente = entradas.get(nodo.getSiguiente());
+        if (siguiente != null) {
+            siguiente.anterior = anterior;
+        }
+        quitarDeCadena(nodo, entrada);
+    }
+
+    /**
+     * Actualiza la clave de un nodo cuyo dato fue modificado luego de ser
+     * insertado. Si la nueva clave ya existe, el nodo se ubica en su grupo
+     * segun su posicion en la lista, buscando hacia atras el nodo previo con
+     * la misma clave.
+     *
+     * @param nodo el nodo cuya clave cambio.
+     */
+    void reindexar(NodoSimple<T> nodo) {
+        Entrada<T> entrada = entradas.get(nodo);
+        Object nuevaClave = extractorClave.apply(nodo.getDato());
+        if (entrada == null || Objects.equals(entrada.clave, nuevaClave)) {
+            return;
+        }
+        quitarDeCadena(nodo, entrada);
+        entrada.clave = nuevaClave;
+        agregarAGrupo(nodo, entrada);
+    }
+
+    /**
+     * Vuelve a construir el indice completo a partir de una cadena de nodos.
+     *
+     * @param primero el primer nodo de la cadena.
+     */
+    void reconstruir(NodoSimple<T> primero) {
+        porClave.clear();
+        entradas.clear();
+
+        Map<Object, Entrada<T>> ultimasPorClave = new HashMap<>();
+        NodoSimple<T> anterior = null;
+        NodoSimple<T> actual = primero;
+        while (actual != null) {
+            Entrada<T> entrada = new Entrada<>();
+            entrada.anterior = anterior;
+            entrada.clave = extractorClave.apply(actual.getDato());
+            entradas.put(actual, entrada);
+
+            Entrada<T> ultimo = ultimasPorClave.put(entrada.clave, entrada);
+            if (ultimo == null) {
+                porClave.put(entrada.clave, actual);
+            } else {
+                ultimo.siguienteMismaClave = actual;
+            }
+
+            anterior = actual;
+            actual = actual.getSiguiente();
+        }
+    }
+
+    /**
+     * @param clave la clave buscada.
+     * @return el primer nodo con esa clave, o {@code null} si no existe.
+     */
+    NodoSimple<T> buscar(Object clave) {
+        return porClave.get(clave);
+    }
+
+    /**
+     * @param nodo un nodo indexado.
+     * @return el nodo que lo precede en la lista, o {@code null} si es el
+     * primero.
+     */
+    NodoSimple<T> anterior(NodoSimple<T> nodo) {
+        return entradas.get(nodo).anterior;
+    }
+
+    /**
+     * Ubica un nodo en la cadena de nodos con su clave, buscando hacia atras
+     * el nodo previo con la misma clave. Si la clave no existe, no recorre.
+     */
+    private void agregarAGrupo(NodoSimple<T> nodo, Entrada<T> entrada) {
+        NodoSimple<T> cabeza = porClave.get(entrada.clave);
+        Entrada<T> previa = null;
+        if (cabeza != null) {
+            for (NodoSimple<T> p = entrada.anterior; p != null; p = entradas.get(p).anterior) {
+                Entrada<T> candidata = entradas.get(p);
+                if (Objects.equals(candidata.clave, entrada.clave)) {
+                    previa = candidata;
+                    break;
+                }
+            }
+        }
+        if (previa == null) {
+            entrada.siguienteMismaClave = cabeza;
+            porClave.put(entrada.clave, nodo);
+        } else {
+            entrada.siguienteMismaClave = previa.siguienteMismaClave;
+            previa.siguienteMismaClave = nodo;
+        }
+    }
+
+    private void quitarDeCadena(NodoSimple<T> nodo, Entrada<T> entrada) {
+        NodoSimple<T> cabeza = porClave.get(entrada.clave);
+        if (cabeza == nodo) {
+            if (entrada.siguienteMismaClave == null) {
+                porClave.remove(entrada.clave);
+            } else {
+                porClave.put(entrada.clave, entrada.siguienteMismaClave);
+            }
+            return;
+        }
+
+        Entrada<T> previa = entradas.get(cabeza);
+        while (previa != null && previa.siguienteMismaClave != nodo) {
+            previa = entradas.get(previa.siguienteMismaClave);
+        }
+        if (previa != null) {
+            previa.siguienteMismaClave = entrada.siguienteMismaClave;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package listas_genericas;
+
+/**
+ * Operaciones con las que una {@link ListaSimple} mantiene sincronizados sus
+ * indices secundarios mientras se modifica.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+interface IndiceNodos<T> {
+
+    /**
+     * Registra un nodo recien insertado en la lista.
+     *
+     * @param nodo el nodo insertado.
+     */
+    void registrar(NodoSimple<T> nodo);
+
+    /**
+     * Registra un nodo recien agregado al final de la lista.
+     *
+     * @param nodo el nodo agregado.
+     */
+    void registrarFinal(NodoSimple<T> nodo);
+
+    /**
+     * Registra un nodo recien enlazado en medio de la lista.
+     *
+     * @param nodo el nodo enlazado.
+     * @param anterior el nodo que lo precede en la lista.
+     */
+    void registrarDespues(NodoSimple<T> nodo, NodoSimple<T> anterior);
+
+    /**
+     * Registra una cadena de nodos recien insertada al frente de la lista.
+     *
+     * @param primeroCadena el primer nodo de la cadena.
+     * @param ultimoCadena el ultimo nodo de la cadena.
+     */
+    void registrarCadena(NodoSimple<T> primeroCadena, NodoSimple<T> ultimoCadena);
+
+    /**
+     * Quita del indice un nodo que salio de la lista.
+     *
+     * @param nodo el nodo quitado.
+     */
+    void quitar(NodoSimple<T> nodo);
+
+    /**
+     * Actualiza el valor indexado de un nodo cuyo dato fue modificado.
+     *
+     * @param nodo el nodo modificado.
+     */
+    void reindexar(NodoSimple<T> nodo);
+
+    /**
+     * Vuelve a construir el indice completo a partir de una cadena de nodos.
+     *
+     * @param primero el primer nodo de la cadena.
+     */
+    void reconstruir(NodoSimple<T> primero);
+
+}
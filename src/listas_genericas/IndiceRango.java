@@ -0,0 +1,266 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Indice secundario ordenado de una {@link ListaSimple} sobre un valor
+ * numerico de los elementos (por ejemplo la duracion de una cancion), para
+ * consultar rangos de valores.
+ *
+ * Es un arbol B+ de dos niveles: las hojas guardan, ordenados, los valores en
+ * un {@code float[]} junto con las referencias a sus nodos, y el nivel
+ * superior es la lista ordenada de hojas. Encontrar una posicion cuesta
+ * O(log n) con dos busquedas binarias; insertar o quitar mueve a lo sumo una
+ * hoja de {@value #TAMANIO_HOJA} entradas, y una consulta de rango recorre
+ * las hojas de forma secuencial a partir de su extremo inferior, por lo que
+ * cuesta O(log n + k).
+ *
+ * Los valores iguales se desempatan por la identidad del nodo, para poder
+ * ubicar un nodo concreto sin recorrer todos los de su mismo valor. Los
+ * valores se guardan como {@code float} y se comparan con
+ * {@link Float#compare}.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+class IndiceRango<T> implements IndiceNodos<T> {
+
+    static final int TAMANIO_HOJA = 256;
+
+    /**
+     * Hoja del arbol: entradas ordenadas por valor y desempate.
+     */
+    private static final class Hoja<T> {
+
+        private final float[] valores = new float[TAMANIO_HOJA];
+        private final int[] desempates = new int[TAMANIO_HOJA];
+        @SuppressWarnings("unchecked")
+        private final NodoSimple<T>[] nodos = (NodoSimple<T>[]) new NodoSimple<?>[TAMANIO_HOJA];
+        private int cantidad;
+    }
+
+    private final ToDoubleFunction<? super T> extractor;
+    private final List<Hoja<T>> hojas = new ArrayList<>();
+    private final Map<NodoSimple<T>, Float> valoresPorNodo = new IdentityHashMap<>();
+
+    /**
+     * @param extractor la funcion que obtiene el valor indexado de cada dato.
+     */
+    IndiceRango(ToDoubleFunction<? super T> extractor) {
+        this.extractor = extractor;
+    }
+
+    @Override
+    public void registrar(NodoSimple<T> nodo) {
+        float valor = valorDe(nodo);
+        valoresPorNodo.put(nodo, valor);
+        insertar(valor, System.identityHashCode(nodo), nodo);
+    }
+
+    @Override
+    public void registrarFinal(NodoSimple<T> nodo) {
+        registrar(nodo);
+    }
+
+    @Override
+    public void registrarDespues(NodoSimple<T> nodo, NodoSimple<T> anterior) {
+        registrar(nodo);
+    }
+
+    @Override
+    public void registrarCadena(NodoSimple<T> primeroCadena, NodoSimple<T> ultimoCadena) {
+        for (NodoSimple<T> p = primeroCadena; p != null; p = p.getSiguiente()) {
+            registrar(p);
+            if (p == ultimoCadena) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void quitar(NodoSimple<T> nodo) {
+        Float valor = valoresPorNodo.remove(nodo);
+        if (valor != null) {
+            borrar(valor, System.identityHashCode(nodo), nodo);
+        }
+    }
+
+    @Override
+    public void reindexar(NodoSimple<T> nodo) {
+        Float anterior = valoresPorNodo.get(nodo);
+        float nuevo = valorDe(nodo);
+        if (anterior == null || Float.compare(anterior, nuevo) == 0) {
+            return;
+        }
+        int desempate = System.identityHashCode(nodo);
+        borrar(anterior, desempate, nodo);
+        insertar(nuevo, desempate, nodo);
+        valoresPorNodo.put(nodo, nuevo);
+    }
+
+    @Override
+    public void reconstruir(NodoSimple<T> primero) {
+        hojas.clear();
+        valoresPorNodo.clear();
+        for (NodoSimple<T> p = primero; p != null; p = p.getSiguiente()) {
+            registrar(p);
+        }
+    }
+
+    /**
+     * @param minimo el extremo inferior, inclusive.
+     * @param maximo el extremo superior, inclusive.
+     * @return un iterador sobre los datos cuyo valor esta entre los extremos,
+     * de menor a mayor valor.
+     */
+    Iterator<T> entre(float minimo, float maximo) {
+        int primeraHoja = buscarHoja(minimo, Integer.MIN_VALUE);
+        int primeraPosicion = primeraHoja < hojas.size()
+                ? buscarPosicion(hojas.get(primeraHoja), minimo, Integer.MIN_VALUE) : 0;
+
+        return new Iterator<T>() {
+            private int hoja = primeraHoja;
+            private int posicion = primeraPosicion;
+
+            @Override
+            public boolean hasNext() {
+                if (hoja < hojas.size() && posicion == hojas.get(hoja).cantidad) {
+                    hoja++;
+                    posicion = 0;
+                }
+                return hoja < hojas.size() && Float.compare(hojas.get(hoja).valores[posicion], maximo) <= 0;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return hojas.get(hoja).nodos[posicion++].getDato();
+            }
+        };
+    }
+
+    private float valorDe(NodoSimple<T> nodo) {
+        return (float) extractor.applyAsDouble(nodo.getDato());
+    }
+
+    private void insertar(float valor, int desempate, NodoSimple<T> nodo) {
+        int indice = buscarHoja(valor, desempate);
+        if (hojas.isEmpty()) {
+            hojas.add(new Hoja<>());
+        } else if (indice == hojas.size()) {
+            indice--;
+        }
+        Hoja<T> hoja = hojas.get(indice);
+        if (hoja.cantidad == TAMANIO_HOJA) {
+            Hoja<T> nueva = dividir(hoja);
+            hojas.add(indice + 1, nueva);
+            if (comparar(valor, desempate, nueva.valores[0], nueva.desempates[0]) >= 0) {
+                hoja = nueva;
+            }
+        }
+
+        int posicion = buscarPosicion(hoja, valor, desempate);
+        int restantes = hoja.cantidad - posicion;
+        System.arraycopy(hoja.valores, posicion, hoja.valores, posicion + 1, restantes);
+        System.arraycopy(hoja.desempates, posicion, hoja.desempates, posicion + 1, restantes);
+        System.arraycopy(hoja.nodos, posicion, hoja.nodos, posicion + 1, restantes);
+        hoja.valores[posicion] = valor;
+        hoja.desempates[posicion] = desempate;
+        hoja.nodos[posicion] = nodo;
+        hoja.cantidad++;
+    }
+
+    private void borrar(float valor, int desempate, NodoSimple<T> nodo) {
+        int indice = buscarHoja(valor, desempate);
+        int posicion = indice < hojas.size() ? buscarPosicion(hojas.get(indice), valor, desempate) : 0;
+        // Las entradas con el mismo valor y desempate son contiguas, pero
+        // pueden continuar en las hojas siguientes.
+        for (; indice < hojas.size(); indice++, posicion = 0) {
+            Hoja<T> hoja = hojas.get(indice);
+            for (; posicion < hoja.cantidad; posicion++) {
+                if (comparar(hoja.valores[posicion], hoja.desempates[posicion], valor, desempate) != 0) {
+                    return;
+                }
+                if (hoja.nodos[posicion] == nodo) {
+                    int restantes = hoja.cantidad - posicion - 1;
+                    System.arraycopy(hoja.valores, posicion + 1, hoja.valores, posicion, restantes);
+                    System.arraycopy(hoja.desempates, posicion + 1, hoja.desempates, posicion, restantes);
+                    System.arraycopy(hoja.nodos, posicion + 1, hoja.nodos, posicion, restantes);
+                    hoja.nodos[--hoja.cantidad] = null;
+                    if (hoja.cantidad == 0) {
+                        hojas.remove(indice);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Mueve la mitad superior de una hoja llena a una hoja nueva.
+     */
+    private static <T> Hoja<T> dividir(Hoja<T> hoja) {
+        Hoja<T> nueva = new Hoja<>();
+        int mitad = hoja.cantidad / 2;
+        nueva.cantidad = hoja.cantidad - mitad;
+        System.arraycopy(hoja.valores, mitad, nueva.valores, 0, nueva.cantidad);
+        System.arraycopy(hoja.desempates, mitad, nueva.desempates, 0, nueva.cantidad);
+        System.arraycopy(hoja.nodos, mitad, nueva.nodos, 0, nueva.cantidad);
+        Arrays.fill(hoja.nodos, mitad, hoja.cantidad, null);
+        hoja.cantidad = mitad;
+        return nueva;
+    }
+
+    /**
+     * @return el indice de la primera hoja cuya ultima entrada es mayor o
+     * igual a la indicada, o la cantidad de hojas si no hay ninguna.
+     */
+    private int buscarHoja(float valor, int desempate) {
+        int bajo = 0;
+        int alto = hojas.size();
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            Hoja<T> hoja = hojas.get(medio);
+            int ultima = hoja.cantidad - 1;
+            if (comparar(hoja.valores[ultima], hoja.desempates[ultima], valor, desempate) < 0) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    /**
+     * @return la primera posicion de la hoja cuya entrada es mayor o igual a
+     * la indicada.
+     */
+    private static int buscarPosicion(Hoja<?> hoja, float valor, int desempate) {
+        int bajo = 0;
+        int alto = hoja.cantidad;
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (comparar(hoja.valores[medio], hoja.desempates[medio], valor, desempate) < 0) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    private static int comparar(float valor, int desempate, float otroValor, int otroDesempate) {
+        int comparacion = Float.compare(valor, otroValor);
+        return comparacion != 0 ? comparacion : Integer.compare(desempate, otroDesempate);
+    }
+
+}
@@ -0,0 +1,249 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Indice secundario de una {@link ListaSimple}: un multimapa que asocia cada
+ * clave (por ejemplo el artista o el genero) con todos los nodos que la
+ * contienen.
+ *
+ * Los nodos de cada clave forman una cadena doblemente enlazada propia del
+ * indice, por lo que agregar y quitar un nodo cuesta O(1) y consultar una
+ * clave recorre solo los nodos que la tienen. Los nodos insertados al frente
+ * de la lista se agregan al principio de su grupo y los agregados al final,
+ * al final, asi que la consulta los devuelve en el orden de la lista. Un nodo
+ * enlazado en medio de la lista, o cuya clave cambia, se ubica antes del
+ * siguiente nodo con su clave, que se busca recorriendo la lista hacia
+ * adelante; si su clave no esta en el indice no se recorre nada.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+class IndiceSecundario<T> implements IndiceNodos<T> {
+
+    /**
+     * Datos que el indice guarda por cada nodo de la lista.
+     */
+    private static final class Entrada<T> {
+
+        private final NodoSimple<T> nodo;
+        private Object clave;
+        private Entrada<T> anterior;
+        private Entrada<T> siguiente;
+
+        private Entrada(NodoSimple<T> nodo) {
+            this.nodo = nodo;
+        }
+    }
+
+    /**
+     * Nodos que comparten una clave.
+     */
+    private static final class Grupo<T> {
+
+        private Entrada<T> primera;
+        private Entrada<T> ultima;
+        private int cantidad;
+    }
+
+    private final Function<? super T, ?> extractorClave;
+    private final Map<Object, Grupo<T>> grupos = new HashMap<>();
+    private final Map<NodoSimple<T>, Entrada<T>> entradas = new IdentityHashMap<>();
+
+    /**
+     * @param extractorClave la funcion que obtiene la clave de cada dato.
+     */
+    IndiceSecundario(Function<? super T, ?> extractorClave) {
+        this.extractorClave = extractorClave;
+    }
+
+    @Override
+    public void registrar(NodoSimple<T> nodo) {
+        Entrada<T> entrada = new Entrada<>(nodo);
+        entradas.put(nodo, entrada);
+        agregarAGrupo(entrada, extractorClave.apply(nodo.getDato()));
+    }
+
+    @Override
+    public void registrarFinal(NodoSimple<T> nodo) {
+        Entrada<T> entrada = new Entrada<>(nodo);
+        entradas.put(nodo, entrada);
+        agregarAntesDe(entrada, extractorClave.apply(nodo.getDato()), null);
+    }
+
+    @Override
+    public void registrarDespues(NodoSimple<T> nodo, NodoSimple<T> anterior) {
+        Entrada<T> entrada = new Entrada<>(nodo);
+        entradas.put(nodo, entrada);
+        Object clave = extractorClave.apply(nodo.getDato());
+        Entrada<T> previa = entradas.get(anterior);
+        if (previa != null && Objects.equals(previa.clave, clave)) {
+            agregarAntesDe(entrada, clave, previa.siguiente);
+            return;
+        }
+        agregarAntesDe(entrada, clave, siguienteConClave(nodo, clave));
+    }
+
+    @Override
+    public void registrarCadena(NodoSimple<T> primeroCadena, NodoSimple<T> ultimoCadena) {
+        List<NodoSimple<T>> cadena = new ArrayList<>();
+        for (NodoSimple<T> p = primeroCadena; p != ultimoCadena; p = p.getSiguiente()) {
+            cadena.add(p);
+        }
+        cadena.add(ultimoCadena);
+        for (int i = cadena.size() - 1; i >= 0; i--) {
+            registrar(cadena.get(i));
+        }
+    }
+
+    @Override
+    public void quitar(NodoSimple<T> nodo) {
+        Entrada<T> entrada = entradas.remove(nodo);
+        if (entrada != null) {
+            quitarDeGrupo(entrada);
+        }
+    }
+
+    @Override
+    public void reindexar(NodoSimple<T> nodo) {
+        Entrada<T> entrada = entradas.get(nodo);
+        if (entrada == null) {
+            return;
+        }
+        Object nuevaClave = extractorClave.apply(nodo.getDato());
+        if (!Objects.equals(entrada.clave, nuevaClave)) {
+            quitarDeGrupo(entrada);
+            agregarAntesDe(entrada, nuevaClave, siguienteConClave(nodo, nuevaClave));
+        }
+    }
+
+    @Override
+    public void reconstruir(NodoSimple<T> primero) {
+        grupos.clear();
+        entradas.clear();
+        if (primero != null) {
+            NodoSimple<T> ultimo = primero;
+            while (ultimo.getSiguiente() != null) {
+                ultimo = ultimo.getSiguiente();
+            }
+            registrarCadena(primero, ultimo);
+        }
+    }
+
+    /**
+     * @param clave la clave buscada.
+     * @return un iterador sobre los datos de los nodos con esa clave.
+     */
+    Iterator<T> consultar(Object clave) {
+        Grupo<T> grupo = grupos.get(clave);
+        Entrada<T> primera = grupo == null ? null : grupo.primera;
+        return new Iterator<T>() {
+            private Entrada<T> actual = primera;
+
+            @Override
+            public boolean hasNext() {
+                return actual != null;
+            }
+
+            @Override
+            public T next() {
+                if (actual == null) {
+                    throw new NoSuchElementException();
+                }
+                T dato = actual.nodo.getDato();
+                actual = actual.siguiente;
+                return dato;
+            }
+        };
+    }
+
+    /**
+     * @param clave la clave buscada.
+     * @return la cantidad de nodos con esa clave.
+     */
+    int contar(Object clave) {
+        Grupo<T> grupo = grupos.get(clave);
+        return grupo == null ? 0 : grupo.cantidad;
+    }
+
+    /**
+     * @return las claves presentes en la lista.
+     */
+    Set<Object> claves() {
+        return Collections.unmodifiableSet(grupos.keySet());
+    }
+
+    private void agregarAGrupo(Entrada<T> entrada, Object clave) {
+        Grupo<T> grupo = grupos.get(clave);
+        agregarAntesDe(entrada, clave, grupo == null ? null : grupo.primera);
+    }
+
+    /**
+     * @return la entrada del primer nodo posterior a {@code nodo} en la
+     * lista que tiene la clave, o {@code null} si no hay ninguno.
+     */
+    private Entrada<T> siguienteConClave(NodoSimple<T> nodo, Object clave) {
+        if (!grupos.containsKey(clave)) {
+            return null;
+        }
+        for (NodoSimple<T> p = nodo.getSiguiente(); p != null; p = p.getSiguiente()) {
+            Entrada<T> candidata = entradas.get(p);
+            if (candidata != null && Objects.equals(candidata.clave, clave)) {
+                return candidata;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Agrega una entrada al grupo de la clave, antes de otra entrada del
+     * grupo o al final si {@code siguiente} es {@code null}.
+     */
+    private void agregarAntesDe(Entrada<T> entrada, Object clave, Entrada<T> siguiente) {
+        entrada.clave = clave;
+        Grupo<T> grupo = grupos.computeIfAbsent(clave, c -> new Grupo<>());
+        entrada.siguiente = siguiente;
+        entrada.anterior = siguiente == null ? grupo.ultima : siguiente.anterior;
+        if (entrada.anterior == null) {
+            grupo.primera = entrada;
+        } else {
+            entrada.anterior.siguiente = entrada;
+        }
+        if (siguiente == null) {
+            grupo.ultima = entrada;
+        } else {
+            siguiente.anterior = entrada;
+        }
+        grupo.cantidad++;
+    }
+
+    private void quitarDeGrupo(Entrada<T> entrada) {
+        Grupo<T> grupo = grupos.get(entrada.clave);
+        if (entrada.anterior == null) {
+            grupo.primera = entrada.siguiente;
+        } else {
+            entrada.anterior.siguiente = entrada.siguiente;
+        }
+        if (entrada.siguiente == null) {
+            grupo.ultima = entrada.anterior;
+        } else {
+            entrada.siguiente.anterior = entrada.anterior;
+        }
+        entrada.anterior = null;
+        entrada.siguiente = null;
+        if (--grupo.cantidad == 0) {
+            grupos.remove(entrada.clave);
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import entidades.ObservadorCancion;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Lista de canciones identificadas por su titulo, con indices secundarios
+ * opcionales por artista y por genero, y un indice de rango por duracion.
+ *
+ * Mientras haya algun indice activo, la lista se registra como observadora de
+ * cada cancion que contiene, de modo que los cambios hechos con los setters de
+ * {@link Cancion} (o con su carga por consola) se reflejan en los indices sin
+ * necesidad de llamar a {@link #reindexar}.
+ *
+ * @author Carlos Álvarez
+ */
+public class ListaCanciones extends ListaSimple<Cancion> {
+
+    public static final String INDICE_ARTISTA = "artista";
+    public static final String INDICE_GENERO = "genero";
+    public static final String INDICE_DURACION = "duracion";
+
+    /**
+     * Observador que une una cancion con el nodo que la contiene en esta
+     * lista.
+     */
+    private final class Suscripcion implements ObservadorCancion {
+
+        private final NodoSimple<Cancion> nodo;
+
+        private Suscripcion(NodoSimple<Cancion> nodo) {
+            this.nodo = nodo;
+        }
+
+        @Override
+        public void cancionModificada(Cancion cancion) {
+            reindexar(nodo);
+        }
+
+        private ListaCanciones lista() {
+            return ListaCanciones.this;
+        }
+
+        @Override
+        public boolean equals(Object otro) {
+            return otro instanceof ListaCanciones.Suscripcion
+                    && ((Suscripcion) otro).lista() == lista()
+                    && ((Suscripcion) otro).nodo == nodo;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(nodo);
+        }
+    }
+
+    private boolean observando;
+
+    public ListaCanciones() {
+        super(Cancion::getTitulo);
+    }
+
+    /**
+     * Activa los indices secundarios por artista y por genero.
+     */
+    public void activarIndicesSecundarios() {
+        activarIndiceSecundario(INDICE_ARTISTA, Cancion::getArtista);
+        activarIndiceSecundario(INDICE_GENERO, Cancion::getGenero);
+    }
+
+    /**
+     * Activa el indice de rango por duracion, que se consulta con
+     * {@link #entre(float, float)}.
+     */
+    public void activarIndiceDuracion() {
+        activarIndiceRango(INDICE_DURACION, Cancion::getDuracion);
+    }
+
+    /**
+     * @param minima la duracion minima, inclusive.
+     * @param maxima la duracion maxima, inclusive.
+     * @return un iterador sobre las canciones con duracion entre los
+     * extremos, de la mas corta a la mas larga.
+     * @throws IllegalStateException si el indice por duracion no esta activo.
+     */
+    public Iterator<Cancion> entre(float minima, float maxima) {
+        return entre(INDICE_DURACION, minima, maxima);
+    }
+
+    /**
+     * @param artista el artista buscado.
+     * @return un iterador sobre las canciones de ese artista.
+     * @throws IllegalStateException si el indice por artista no esta activo.
+     */
+    public Iterator<Cancion> porArtista(String artista) {
+        return consultar(INDICE_ARTISTA, artista);
+    }
+
+    /**
+     * @param genero el genero buscado.
+     * @return un iterador sobre las canciones de ese genero.
+     * @throws IllegalStateException si el indice por genero no esta activo.
+     */
+    public Iterator<Cancion> porGenero(String genero) {
+        return consultar(INDICE_GENERO, genero);
+    }
+
+    @Override
+    public void activarIndice() {
+        super.activarIndice();
+        actualizarObservacion();
+    }
+
+    @Override
+    public void desactivarIndice() {
+        super.desactivarIndice();
+        actualizarObservacion();
+    }
+
+    @Override
+    public void activarIndiceSecundario(String nombre, Function<? super Cancion, ?> extractor) {
+        super.activarIndiceSecundario(nombre, extractor);
+        actualizarObservacion();
+    }
+
+    @Override
+    public void activarIndiceRango(String nombre, ToDoubleFunction<? super Cancion> extractor) {
+        super.activarIndiceRango(nombre, extractor);
+        actualizarObservacion();
+    }
+
+    @Override
+    public void desactivarIndiceSecundario(String nombre) {
+        super.desactivarIndiceSecundario(nombre);
+        actualizarObservacion();
+    }
+
+    @Override
+    public void insertarFrente(NodoSimple<Cancion> nuevoNodo) {
+        super.insertarFrente(nuevoNodo);
+        if (observando) {
+            suscribir(nuevoNodo);
+        }
+    }
+
+    @Override
+    public void insertarCadenaFrente(NodoSimple<Cancion> primeroCadena, NodoSimple<Cancion> ultimoCadena) {
+        super.insertarCadenaFrente(primeroCadena, ultimoCadena);
+        if (observando) {
+            for (NodoSimple<Cancion> p = primeroCadena; p != ultimoCadena.getSiguiente(); p = p.getSiguiente()) {
+                suscribir(p);
+            }
+        }
+    }
+
+    @Override
+    public void insertarFinal(NodoSimple<Cancion> nuevoNodo) {
+        super.insertarFinal(nuevoNodo);
+        if (observando) {
+            suscribir(nuevoNodo);
+        }
+    }
+
+    @Override
+    public void insertarFinal(ListaSimple<Cancion> otra) {
+        NodoSimple<Cancion> anterior = ultimo;
+        super.insertarFinal(otra);
+        if (observando) {
+            NodoSimple<Cancion> primeroAgregado = anterior == null ? primero : anterior.getSiguiente();
+            for (NodoSimple<Cancion> p = primeroAgregado; p != null; p = p.getSiguiente()) {
+                suscribir(p);
+            }
+        }
+    }
+
+    @Override
+    public NodoSimple<Cancion> desenganchar(NodoSimple<Cancion> anterior, NodoSimple<Cancion> actual) {
+        NodoSimple<Cancion> eliminado = super.desenganchar(anterior, actual);
+        if (observando) {
+            desuscribir(eliminado);
+        }
+        return eliminado;
+    }
+
+    @Override
+    public void setPrimero(NodoSimple<Cancion> primero) {
+        if (observando) {
+            for (NodoSimple<Cancion> p = this.primero; p != null; p = p.getSiguiente()) {
+                desuscribir(p);
+            }
+        }
+        super.setPrimero(primero);
+        if (observando) {
+            for (NodoSimple<Cancion> p = this.primero; p != null; p = p.getSiguiente()) {
+                suscribir(p);
+            }
+        }
+    }
+
+    /**
+     * Se registra en todas las canciones si hay algun indice activo, o se
+     * quita de todas si ya no queda ninguno.
+     */
+    private void actualizarObservacion() {
+        boolean debeObservar = indice != null || indicesSecundarios != null;
+        if (debeObservar == observando) {
+            return;
+        }
+        observando = debeObservar;
+        for (NodoSimple<Cancion> p = primero; p != null; p = p.getSiguiente()) {
+            if (observando) {
+                suscribir(p);
+            } else {
+                desuscribir(p);
+            }
+        }
+    }
+
+    private void suscribir(NodoSimple<Cancion> nodo) {
+        nodo.getDato().agregarObservador(new Suscripcion(nodo));
+    }
+
+    private void desuscribir(NodoSimple<Cancion> nodo) {
+        nodo.getDato().quitarObservador(new Suscripcion(nodo));
+    }
+
+}
@@ -0,0 +1,238 @@
+package listas_genericas;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lista enlazada desenrollada: cada nodo guarda un pequeño arreglo de
+ * elementos y la cantidad ocupada, en lugar de un unico dato.
+ *
+ * Recorrer la lista lee los elementos de un nodo de forma contigua, por lo que
+ * el costo de saltar de un nodo al siguiente se reparte entre todos sus
+ * elementos. Los nodos se llenan de atras hacia adelante, de modo que la
+ * insercion al frente es O(1) sin mover elementos: se hace en el lugar libre
+ * anterior al primer elemento del primer nodo, o en un nodo nuevo si no queda
+ * lugar. Al eliminar se corre el lado mas corto del nodo, por lo que quitar
+ * el primer elemento tambien es O(1). Un nodo que queda por debajo de la
+ * mitad de su capacidad se fusiona con el siguiente si ambos entran en uno
+ * solo.
+ *
+ * Busca y elimina por clave igual que {@link ListaSimple}.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+public class ListaDesenrollada<T> {
+
+    /**
+     * Cantidad de elementos por nodo si no se indica otra. Es un valor
+     * intermedio, no ajustado: medirlo en cada equipo con
+     * {@code ListaDesenrolladaBenchmark}.
+     */
+    public static final int TAMANIO_NODO_POR_DEFECTO = 32;
+
+    /**
+     * Nodo de la lista, con sus elementos ocupando las posiciones
+     * {@code [inicio, inicio + cantidad)} del arreglo.
+     */
+    private static final class Nodo {
+
+        private final Object[] elementos;
+        private int inicio;
+        private int cantidad;
+        private Nodo siguiente;
+
+        private Nodo(int capacidad) {
+            this.elementos = new Object[capacidad];
+            this.inicio = capacidad;
+        }
+
+        private int fin() {
+            return inicio + cantidad;
+        }
+
+        /**
+         * Corre los elementos para que empiecen en la posicion indicada.
+         */
+        private void correrA(int posicion) {
+            System.arraycopy(elementos, inicio, elementos, posicion, cantidad);
+            if (posicion > inicio) {
+                Arrays.fill(elementos, inicio, Math.min(posicion, fin()), null);
+            } else {
+                Arrays.fill(elementos, Math.max(posicion + cantidad, inicio), fin(), null);
+            }
+            inicio = posicion;
+        }
+    }
+
+    private final Function<? super T, ?> extractorClave;
+    private final int tamanioNodo;
+    private Nodo primero;
+    private int tamanio;
+
+    public ListaDesenrollada() {
+        this(Function.identity());
+    }
+
+    /**
+     * @param extractorClave la funcion que obtiene de cada elemento la clave
+     * por la que se busca y elimina.
+     */
+    public ListaDesenrollada(Function<? super T, ?> extractorClave) {
+        this(extractorClave, TAMANIO_NODO_POR_DEFECTO);
+    }
+
+    /**
+     * @param extractorClave la funcion que obtiene de cada elemento la clave
+     * por la que se busca y elimina.
+     * @param tamanioNodo cantidad maxima de elementos por nodo.
+     */
+    public ListaDesenrollada(Function<? super T, ?> extractorClave, int tamanioNodo) {
+        if (tamanioNodo < 2) {
+            throw new IllegalArgumentException("El tamaño de nodo debe ser al menos 2.");
+        }
+        this.extractorClave = Objects.requireNonNull(extractorClave);
+        this.tamanioNodo = tamanioNodo;
+    }
+
+    /**
+     * Inserta un elemento al frente de la lista.
+     *
+     * @param dato el dato a insertar.
+     */
+    public void insertarFrente(T dato) {
+        if (primero != null && primero.inicio == 0 && primero.cantidad <= tamanioNodo / 2) {
+            // Quedo lugar al final despues de eliminar: correr a lo sumo
+            // medio nodo deja libre al menos la otra mitad.
+            primero.correrA(tamanioNodo - primero.cantidad);
+        }
+        if (primero == null || primero.inicio == 0) {
+            Nodo nuevo = new Nodo(tamanioNodo);
+            nuevo.siguiente = primero;
+            primero = nuevo;
+        }
+        primero.elementos[--primero.inicio] = dato;
+        primero.cantidad++;
+        tamanio++;
+    }
+
+    /**
+     * Aplica una accion a cada elemento, en el orden de la lista.
+     *
+     * @param accion la accion a aplicar.
+     */
+    @SuppressWarnings("unchecked")
+    public void paraCada(Consumer<? super T> accion) {
+        for (Nodo nodo = primero; nodo != null; nodo = nodo.siguiente) {
+            Object[] elementos = nodo.elementos;
+            for (int i = nodo.inicio, fin = nodo.fin(); i < fin; i++) {
+                accion.accept((T) elementos[i]);
+            }
+        }
+    }
+
+    /**
+     * Busca un elemento comparando su clave con la de cada elemento de la
+     * lista.
+     *
+     * @param buscado el elemento a buscar.
+     * @return el primer elemento con la misma clave, o {@code null} si no se
+     * encuentra.
+     */
+    @SuppressWarnings("unchecked")
+    public T buscar(T buscado) {
+
+        Object clave = extractorClave.apply(buscado);
+        for (Nodo nodo = primero; nodo != null; nodo = nodo.siguiente) {
+            Object[] elementos = nodo.elementos;
+            for (int i = nodo.inicio, fin = nodo.fin(); i < fin; i++) {
+                if (Objects.equals(clave, extractorClave.apply((T) elementos[i]))) {
+                    return (T) elementos[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Elimina el primer elemento cuya clave coincide con la del buscado.
+     *
+     * @param buscado el elemento a buscar.
+     * @return el elemento eliminado si se encuentra, o {@code null} si no
+     * existe o la lista está vacía.
+     */
+    @SuppressWarnings("unchecked")
+    public T eliminar(T buscado) {
+
+        if (primero == null) {
+            return null;
+        }
+
+        Object clave = extractorClave.apply(buscado);
+        Nodo anterior = null;
+        for (Nodo nodo = primero; nodo != null; nodo = nodo.siguiente) {
+            Object[] elementos = nodo.elementos;
+            for (int i = nodo.inicio, fin = nodo.fin(); i < fin; i++) {
+                if (Objects.equals(clave, extractorClave.apply((T) elementos[i]))) {
+                    T eliminado = (T) elementos[i];
+                    quitar(anterior, nodo, i);
+                    return eliminado;
+                }
+            }
+            anterior = nodo;
+        }
+        return null;
+    }
+
+    /**
+     * @return la cantidad de elementos de la lista.
+     */
+    public int tamanio() {
+        return tamanio;
+    }
+
+    public int getTamanioNodo() {
+        return tamanioNodo;
+    }
+
+    /**
+     * Quita el elemento de la posicion indicada de un nodo, corriendo los
+     * elementos del lado mas corto. Si el nodo queda vacio se desengancha; si
+     * queda por debajo de la mitad y el siguiente entra en el, se fusionan.
+     */
+    private void quitar(Nodo anterior, Nodo nodo, int posicion) {
+        Object[] elementos = nodo.elementos;
+        if (posicion - nodo.inicio < nodo.fin() - posicion - 1) {
+            System.arraycopy(elementos, nodo.inicio, elementos, nodo.inicio + 1, posicion - nodo.inicio);
+            elementos[nodo.inicio++] = null;
+        } else {
+            System.arraycopy(elementos, posicion + 1, elementos, posicion, nodo.fin() - posicion - 1);
+            elementos[nodo.fin() - 1] = null;
+        }
+        nodo.cantidad--;
+        tamanio--;
+
+        if (nodo.cantidad == 0) {
+            if (nodo == primero) {
+                primero = nodo.siguiente;
+            } else {
+                anterior.siguiente = nodo.siguiente;
+            }
+            return;
+        }
+
+        Nodo siguiente = nodo.siguiente;
+        if (nodo.cantidad < tamanioNodo / 2 && siguiente != null
+                && nodo.cantidad + siguiente.cantidad <= tamanioNodo) {
+            if (nodo.fin() + siguiente.cantidad > tamanioNodo) {
+                nodo.correrA(tamanioNodo - nodo.cantidad - siguiente.cantidad);
+            }
+            System.arraycopy(siguiente.elementos, siguiente.inicio, elementos, nodo.fin(), siguiente.cantidad);
+            nodo.cantidad += siguiente.cantidad;
+            nodo.siguiente = siguiente.siguiente;
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Lista simplemente enlazada que mantiene sus elementos ordenados, con un
+ * indice probabilistico (skip list) construido sobre la cadena de
+ * {@link NodoSimple}.
+ *
+ * La cadena de nodos contiene todos los elementos en orden y puede recorrerse
+ * con {@link #getPrimero()} y {@link NodoSimple#getSiguiente()} como cualquier
+ * otra lista. Por encima hay niveles de indice cada vez mas dispersos: cada
+ * nodo aparece en el nivel 1 con probabilidad 1/4, en el nivel 2 con 1/16, y
+ * asi sucesivamente. Las busquedas bajan por esos niveles hasta la cadena, por
+ * lo que {@link #buscar}, {@link #eliminar} e {@link #insertar} cuestan
+ * O(log n) en promedio y {@link #rango} O(log n + k).
+ *
+ * Los elementos iguales se mantienen en el orden en que fueron insertados.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+public class ListaOrdenada<T> {
+
+    private static final int NIVEL_MAXIMO = 15;
+
+    /**
+     * Entrada de un nivel del indice. Apunta al nodo de la cadena que
+     * representa, a la entrada del mismo nodo en el nivel de abajo y a la
+     * siguiente entrada de su nivel.
+     */
+    private static final class Indice<T> {
+
+        private final NodoSimple<T> nodo;
+        private final Indice<T> abajo;
+        private Indice<T> derecha;
+
+        private Indice(NodoSimple<T> nodo, Indice<T> abajo, Indice<T> derecha) {
+            this.nodo = nodo;
+            this.abajo = abajo;
+            this.derecha = derecha;
+        }
+    }
+
+    private final Comparator<? super T> comparador;
+    private final NodoSimple<T> cabecera = new NodoSimple<>(null);
+    private final SplittableRandom azar = new SplittableRandom();
+    private Indice<T> cima;
+    private int niveles;
+    private int tamanio;
+
+    /**
+     * Crea una lista ordenada segun el orden natural de los elementos.
+     */
+    @SuppressWarnings("unchecked")
+    public ListaOrdenada() {
+        this((Comparator<? super T>) Comparator.naturalOrder());
+    }
+
+    /**
+     * @param comparador el criterio de orden de la lista.
+     */
+    public ListaOrdenada(Comparator<? super T> comparador) {
+        this.comparador = Objects.requireNonNull(comparador);
+    }
+
+    /**
+     * Inserta un elemento en la posicion que le corresponde segun el orden,
+     * despues de los elementos iguales que ya esten en la lista.
+     *
+     * @param dato el dato a insertar.
+     * @return el nodo creado para el dato.
+     */
+    public NodoSimple<T> insertar(T dato) {
+        int altura = alturaAleatoria();
+        while (niveles < altura) {
+            cima = new Indice<>(cabecera, cima, null);
+            niveles++;
+        }
+
+        List<Indice<T>> camino = new ArrayList<>(niveles);
+        NodoSimple<T> anterior = recorrer(dato, true, camino);
+
+        NodoSimple<T> nuevo = new NodoSimple<>(dato);
+        nuevo.setSiguiente(anterior.getSiguiente());
+        anterior.setSiguiente(nuevo);
+
+        Indice<T> abajo = null;
+        for (int nivel = 1; nivel <= altura; nivel++) {
+            Indice<T> previo = camino.get(niveles - nivel);
+            abajo = new Indice<>(nuevo, abajo, previo.derecha);
+            previo.derecha = abajo;
+        }
+        tamanio++;
+        return nuevo;
+    }
+
+    /**
+     * Busca el primer elemento igual al buscado segun el comparador.
+     *
+     * @param buscado el elemento a buscar.
+     * @return el nodo que contiene el elemento, o {@code null} si no se
+     * encuentra.
+     */
+    public NodoSimple<T> buscar(T buscado) {
+        NodoSimple<T> candidato = recorrer(buscado, false, null).getSiguiente();
+        if (candidato != null && comparador.compare(candidato.getDato(), buscado) == 0) {
+            return candidato;
+        }
+        return null;
+    }
+
+    /**
+     * Elimina el primer elemento igual al buscado segun el comparador.
+     *
+     * @param buscado el elemento a buscar.
+     * @return el nodo eliminado si se encuentra, o {@code null} si no existe o
+     * la lista está vacía.
+     */
+    public NodoSimple<T> eliminar(T buscado) {
+
+        if (tamanio == 0) {
+            return null;
+        }
+
+        List<Indice<T>> camino = new ArrayList<>(niveles);
+        NodoSimple<T> anterior = recorrer(buscado, false, camino);
+        NodoSimple<T> eliminado = anterior.getSiguiente();
+        if (eliminado == null || comparador.compare(eliminado.getDato(), buscado) != 0) {
+            return null;
+        }
+
+        for (Indice<T> previo : camino) {
+            if (previo.derecha != null && previo.derecha.nodo == eliminado) {
+                previo.derecha = previo.derecha.derecha;
+            }
+        }
+        anterior.setSiguiente(eliminado.getSiguiente());
+        eliminado.setSiguiente(null);
+
+        while (cima != null && cima.derecha == null) {
+            cima = cima.abajo;
+            niveles--;
+        }
+        tamanio--;
+        return eliminado;
+    }
+
+    /**
+     * Devuelve los elementos comprendidos entre dos extremos, ambos
+     * inclusive, en orden.
+     *
+     * @param desde el extremo inferior.
+     * @param hasta el extremo superior.
+     * @return los elementos {@code e} tales que {@code desde <= e <= hasta}.
+     */
+    public List<T> rango(T desde, T hasta) {
+        List<T> resultado = new ArrayList<>();
+        NodoSimple<T> actual = recorrer(desde, false, null).getSiguiente();
+        while (actual != null && comparador.compare(actual.getDato(), hasta) <= 0) {
+            resultado.add(actual.getDato());
+            actual = actual.getSiguiente();
+        }
+        return resultado;
+    }
+
+    public NodoSimple<T> getPrimero() {
+        return cabecera.getSiguiente();
+    }
+
+    /**
+     * @return la cantidad de elementos de la lista.
+     */
+    public int tamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Baja por los niveles del indice hasta la cadena de nodos y devuelve el
+     * ultimo nodo menor que la clave (o menor o igual, si se indica). Si se
+     * pasa un camino, guarda en el la ultima entrada visitada de cada nivel,
+     * del mas alto al mas bajo.
+     */
+    private NodoSimple<T> recorrer(T clave, boolean incluirIguales, List<Indice<T>> camino) {
+        NodoSimple<T> base = cabecera;
+        Indice<T> actual = cima;
+        while (actual != null) {
+            Indice<T> derecha = actual.derecha;
+            while (derecha != null && antes(derecha.nodo.getDato(), clave, incluirIguales)) {
+                actual = derecha;
+                derecha = derecha.derecha;
+            }
+            if (camino != null) {
+                camino.add(actual);
+            }
+            base = actual.nodo;
+            actual = actual.abajo;
+        }
+
+        NodoSimple<T> siguiente = base.getSiguiente();
+        while (siguiente != null && antes(siguiente.getDato(), clave, incluirIguales)) {
+            base = siguiente;
+            siguiente = siguiente.getSiguiente();
+        }
+        return base;
+    }
+
+    private boolean antes(T dato, T clave, boolean incluirIguales) {
+        int comparacion = comparador.compare(dato, clave);
+        return comparacion < 0 || (incluirIguales && comparacion == 0);
+    }
+
+    private int alturaAleatoria() {
+        int bits = azar.nextInt();
+        int altura = 0;
+        while ((bits & 3) == 0 && altura < NIVEL_MAXIMO) {
+            altura++;
+            bits >>>= 2;
+        }
+        return altura;
+    }
+
+}
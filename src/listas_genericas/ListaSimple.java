@@ -1,27 +1,292 @@
 package listas_genericas;
 
-import entidades.Cancion;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
+ * Lista simplemente enlazada de elementos de tipo {@code T}.
  *
+ * Las busquedas y eliminaciones comparan los elementos por una clave que se
+ * obtiene con el extractor indicado al crear la lista (por ejemplo
+ * {@code Cancion::getTitulo}). Sin extractor, la clave es el propio elemento y
+ * se compara con {@code equals}.
+ *
+ * Ademas del indice por clave, la lista puede mantener indices secundarios con
+ * nombre (por ejemplo por artista o por genero) que permiten consultar todos
+ * los elementos con un valor dado sin recorrer la lista, e indices de rango
+ * sobre valores numericos (por ejemplo la duracion) para consultar todos los
+ * elementos entre dos valores.
+ *
+ * La lista guarda su ultimo nodo y su cantidad de elementos, por lo que
+ * {@link #tamanio}, {@link #insertarFinal(Object)} y la concatenacion con
+ * {@link #insertarFinal(ListaSimple)} son O(1).
+ *
+ * La lista es {@link Iterable} y se puede recorrer con {@link #stream} o
+ * {@link #parallelStream}. Para que los streams paralelos se repartan sin
+ * recorrer la lista, se marca un nodo de cada {@value MarcasTramos#TAMANIO_TRAMO}
+ * a medida que se inserta. Las mismas marcas cortan la cadena en segmentos
+ * para las operaciones masivas ({@link #filtrar}, {@link #mapear},
+ * {@link #reducir}, {@link #contar(Predicate)} y {@link #ordenar}), que se
+ * ejecutan con fork/join.
+ *
+ * La lista no escribe en la consola. Las inserciones, eliminaciones y
+ * busquedas se informan a un {@link MonitorLista}, que por defecto es
+ * {@link MonitorLista#NINGUNO}; con {@link MetricasLista} se obtienen
+ * contadores e histogramas de nodos recorridos y de latencia. Ademas, las
+ * busquedas y los desenganches emiten los eventos de JDK Flight Recorder
+ * {@code listas_genericas.Busqueda} y {@code listas_genericas.Desenganche},
+ * desactivados por defecto.
+ *
+ * Para cargas con muchas inserciones y eliminaciones, {@link #activarPool}
+ * hace que los nodos eliminados se reutilicen en las inserciones siguientes.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
  * @author Carlos Álvarez
  */
-public class ListaSimple {
+public class ListaSimple<T> implements Iterable<T> {
 
-    protected NodoSimple primero;
+    protected NodoSimple<T> primero;
+    protected NodoSimple<T> ultimo;
+    protected int tamanio;
+    protected IndiceClaves<T> indice;
+    protected Map<String, IndiceNodos<T>> indicesSecundarios;
+    protected final Function<? super T, ?> extractorClave;
+    private final MarcasTramos<T> tramos = new MarcasTramos<>();
+    private MonitorLista monitor = MonitorLista.NINGUNO;
+    private boolean midiendoTiempo;
+    private PoolNodos<T> pool;
 
     public ListaSimple() {
+        this(Function.identity());
+    }
+
+    /**
+     * @param extractorClave la funcion que obtiene de cada elemento la clave
+     * por la que se busca y elimina.
+     */
+    public ListaSimple(Function<? super T, ?> extractorClave) {
         this.primero = null;
+        this.extractorClave = Objects.requireNonNull(extractorClave);
+    }
+
+    /**
+     * Activa el indice por clave de la lista. A partir de este momento
+     * {@link #buscar} y {@link #eliminar} no recorren la cadena de nodos.
+     *
+     * Si la lista ya tiene elementos, el indice se construye con un unico
+     * recorrido.
+     */
+    public void activarIndice() {
+        indice = new IndiceClaves<>(extractorClave);
+        indice.reconstruir(primero);
+    }
+
+    /**
+     * Desactiva el indice por clave y libera la memoria que ocupaba.
+     */
+    public void desactivarIndice() {
+        indice = null;
+    }
+
+    public boolean isIndexada() {
+        return indice != null;
+    }
+
+    /**
+     * Asigna el monitor que recibe los eventos de la lista. Los reemplazos
+     * completos de la cadena con {@link #setPrimero} no se informan.
+     *
+     * @param monitor el monitor, o {@code null} para no informar eventos.
+     */
+    public void setMonitor(MonitorLista monitor) {
+        this.monitor = monitor == null ? MonitorLista.NINGUNO : monitor;
+        this.midiendoTiempo = this.monitor.isMidiendoTiempo();
+    }
+
+    public MonitorLista getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * Activa un pool de nodos libres. Las inserciones de datos
+     * ({@link #insertarFrente(Object)}, {@link #insertarFinal(Object)} y
+     * {@link #insertarTodos}) toman nodos del pool, y
+     * {@link #eliminarTodos} devuelve al pool los nodos que desengancha.
+     * Los nodos que devuelven {@link #eliminar} y {@link #desenganchar}
+     * vuelven al pool solo si se pasan a {@link #liberar}, porque quien los
+     * recibe puede seguir usandolos.
+     *
+     * @param capacidad la cantidad maxima de nodos libres que se guardan.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public void activarPool(int capacidad) {
+        pool = new PoolNodos<>(capacidad);
+    }
+
+    /**
+     * Desactiva el pool y suelta los nodos libres que guardaba.
+     */
+    public void desactivarPool() {
+        pool = null;
+    }
+
+    /**
+     * @return el pool de nodos, con sus estadisticas de reutilizacion, o
+     * {@code null} si no esta activo.
+     */
+    public PoolNodos<T> getPool() {
+        return pool;
+    }
+
+    /**
+     * Devuelve al pool un nodo que ya salio de la lista, por ejemplo el que
+     * devolvio {@link #eliminar}. El nodo pierde su dato y su siguiente, por
+     * lo que no debe usarse despues. Si el pool no esta activo o el nodo es
+     * {@code null}, no hace nada.
+     *
+     * @param nodo el nodo eliminado.
+     */
+    public void liberar(NodoSimple<T> nodo) {
+        if (pool != null && nodo != null) {
+            pool.devolver(nodo);
+        }
+    }
+
+    /**
+     * Activa un indice secundario que agrupa los elementos por el valor que
+     * devuelve el extractor. Si ya habia un indice con ese nombre, se
+     * reemplaza.
+     *
+     * @param nombre el nombre con el que se consulta el indice.
+     * @param extractor la funcion que obtiene de cada elemento el valor
+     * indexado.
+     */
+    public void activarIndiceSecundario(String nombre, Function<? super T, ?> extractor) {
+        agregarIndiceSecundario(nombre, new IndiceSecundario<>(Objects.requireNonNull(extractor)));
+    }
+
+    /**
+     * Activa un indice de rango sobre un valor numerico de los elementos,
+     * que se consulta con {@link #entre}. Los valores se guardan como
+     * {@code float}. Si ya habia un indice con ese nombre, se reemplaza.
+     *
+     * @param nombre el nombre con el que se consulta el indice.
+     * @param extractor la funcion que obtiene de cada elemento el valor
+     * indexado.
+     */
+    public void activarIndiceRango(String nombre, ToDoubleFunction<? super T> extractor) {
+        agregarIndiceSecundario(nombre, new IndiceRango<>(Objects.requireNonNull(extractor)));
+    }
+
+    /**
+     * Desactiva un indice secundario y libera la memoria que ocupaba.
+     *
+     * @param nombre el nombre del indice.
+     */
+    public void desactivarIndiceSecundario(String nombre) {
+        if (indicesSecundarios != null) {
+            indicesSecundarios.remove(nombre);
+            if (indicesSecundarios.isEmpty()) {
+                indicesSecundarios = null;
+            }
+        }
+    }
+
+    /**
+     * @param nombre el nombre del indice.
+     * @return si hay un indice secundario activo con ese nombre.
+     */
+    public boolean isIndexadaPor(String nombre) {
+        return indicesSecundarios != null && indicesSecundarios.containsKey(nombre);
+    }
+
+    /**
+     * Consulta un indice secundario sin recorrer la lista. El iterador no
+     * admite modificaciones de la lista mientras se usa.
+     *
+     * @param nombre el nombre del indice.
+     * @param valor el valor buscado.
+     * @return un iterador sobre los elementos con ese valor.
+     * @throws IllegalStateException si el indice no esta activo.
+     */
+    public Iterator<T> consultar(String nombre, Object valor) {
+        return indiceMultivalor(nombre).consultar(valor);
+    }
+
+    /**
+     * Consulta un indice de rango sin recorrer la lista, en O(log n + k). El
+     * iterador no admite modificaciones de la lista mientras se usa.
+     *
+     * @param nombre el nombre del indice.
+     * @param minimo el valor minimo, inclusive.
+     * @param maximo el valor maximo, inclusive.
+     * @return un iterador sobre los elementos cuyo valor esta entre los
+     * extremos, de menor a mayor valor.
+     * @throws IllegalStateException si el indice de rango no esta activo.
+     */
+    public Iterator<T> entre(String nombre, float minimo, float maximo) {
+        return indiceRango(nombre).entre(minimo, maximo);
+    }
+
+    /**
+     * @param nombre el nombre del indice.
+     * @param valor el valor buscado.
+     * @return la cantidad de elementos con ese valor.
+     * @throws IllegalStateException si el indice no esta activo.
+     */
+    public int contar(String nombre, Object valor) {
+        return indiceMultivalor(nombre).contar(valor);
+    }
+
+    /**
+     * @param nombre el nombre del indice.
+     * @return los valores distintos presentes en la lista segun ese indice.
+     * @throws IllegalStateException si el indice no esta activo.
+     */
+    public Set<Object> valores(String nombre) {
+        return indiceMultivalor(nombre).claves();
+    }
+
+    /**
+     * Informa a la lista que el dato de un nodo fue modificado, para que los
+     * indices activos reflejen sus nuevos valores.
+     *
+     * @param nodo el nodo cuyo dato cambio.
+     */
+    public void reindexar(NodoSimple<T> nodo) {
+        if (indice != null) {
+            indice.reindexar(nodo);
+        }
+        if (indicesSecundarios != null) {
+            for (IndiceNodos<T> secundario : indicesSecundarios.values()) {
+                secundario.reindexar(nodo);
+            }
+        }
     }
 
     /**
      * Inserta un elemento al frente de la lista enlazada.
      *
-     * @param cancion la cancion que se almacenara en un nodo e insertará al
-     * frente.
+     * @param dato el dato que se almacenara en un nodo e insertará al frente.
      */
-    public void insertarFrente(Cancion cancion) {
-        insertarFrente(new NodoSimple(cancion));
+    public void insertarFrente(T dato) {
+        insertarFrente(nuevoNodo(dato));
     }
 
     /**
@@ -29,47 +294,317 @@ public class ListaSimple {
      *
      * @param nuevoNodo el nodo a insertar al frente de la lista.
      */
-    public void insertarFrente(NodoSimple nuevoNodo) {
+    public void insertarFrente(NodoSimple<T> nuevoNodo) {
+        enlazarAlFrente(nuevoNodo);
+        monitor.insertados(1);
+    }
+
+    /**
+     * Inserta al frente de la lista una cadena de nodos ya enlazados entre si,
+     * con una sola escritura de enlace. Los nodos quedan en el mismo orden que
+     * tenian en la cadena. La cadena se recorre para contar sus nodos, y otra
+     * vez solo si alcanza para marcar un tramo nuevo.
+     *
+     * @param primeroCadena el primer nodo de la cadena.
+     * @param ultimoCadena el ultimo nodo de la cadena, alcanzable desde el
+     * primero.
+     */
+    public void insertarCadenaFrente(NodoSimple<T> primeroCadena, NodoSimple<T> ultimoCadena) {
+        if (primero == null) {
+            ultimo = ultimoCadena;
+        }
+        ultimoCadena.setSiguiente(primero);
+        primero = primeroCadena;
+        int cantidad = tramos.registrarCadenaFrente(primeroCadena, ultimoCadena);
+        tamanio += cantidad;
+        if (indice != null) {
+            indice.registrarCadenaFrente(primeroCadena, ultimoCadena);
+        }
+        if (indicesSecundarios != null) {
+            for (IndiceNodos<T> secundario : indicesSecundarios.values()) {
+                secundario.registrarCadena(primeroCadena, ultimoCadena);
+            }
+        }
+        monitor.insertados(cantidad);
+    }
+
+    /**
+     * Inserta varios elementos al frente de la lista. Los nodos se enlazan
+     * fuera de la lista y la cadena se inserta con una sola escritura de
+     * enlace, quedando en el orden de iteracion.
+     *
+     * @param datos los elementos a insertar.
+     * @return la cantidad de elementos insertados.
+     */
+    public int insertarTodos(Iterable<? extends T> datos) {
+        NodoSimple<T> primeroCadena = null;
+        NodoSimple<T> ultimoCadena = null;
+        int insertados = 0;
+        for (T dato : datos) {
+            NodoSimple<T> nuevo = nuevoNodo(dato);
+            if (ultimoCadena == null) {
+                primeroCadena = nuevo;
+            } else {
+                ultimoCadena.setSiguiente(nuevo);
+            }
+            ultimoCadena = nuevo;
+            insertados++;
+        }
+        if (primeroCadena != null) {
+            insertarCadenaFrente(primeroCadena, ultimoCadena);
+        }
+        return insertados;
+    }
+
+    /**
+     * Agrega un elemento al final de la lista en O(1).
+     *
+     * @param dato el dato que se almacenara en un nodo y se agregara al final.
+     */
+    public void insertarFinal(T dato) {
+        insertarFinal(nuevoNodo(dato));
+    }
+
+    /**
+     * Agrega un nodo al final de la lista en O(1).
+     *
+     * @param nuevoNodo el nodo a agregar al final de la lista.
+     */
+    public void insertarFinal(NodoSimple<T> nuevoNodo) {
+        NodoSimple<T> anterior = ultimo;
+        nuevoNodo.setSiguiente(null);
+        enlazarAlFinal(nuevoNodo, nuevoNodo);
+        tamanio++;
+        tramos.registrarFinal(nuevoNodo);
+        registrarFinal(nuevoNodo, anterior);
+        monitor.insertados(1);
+    }
+
+    /**
+     * Mueve todos los nodos de otra lista al final de esta, con una sola
+     * escritura de enlace, y deja la otra lista vacia. Si esta lista tiene
+     * indices activos, los nodos movidos se registran en ellos uno por uno.
+     *
+     * @param otra la lista cuyos nodos se agregan al final.
+     * @throws IllegalArgumentException si la otra lista es esta misma.
+     */
+    public void insertarFinal(ListaSimple<T> otra) {
+        if (otra == this) {
+            throw new IllegalArgumentException("No se puede concatenar una lista consigo misma");
+        }
+        NodoSimple<T> primeroOtra = otra.primero;
+        if (primeroOtra == null) {
+            return;
+        }
+        NodoSimple<T> ultimoOtra = otra.ultimo;
+        int tamanioOtra = otra.tamanio;
+        tramos.agregarFinal(otra.tramos, primeroOtra);
+        otra.setPrimero(null);
+
+        NodoSimple<T> anterior = ultimo;
+        enlazarAlFinal(primeroOtra, ultimoOtra);
+        tamanio += tamanioOtra;
+        if (indice != null || indicesSecundarios != null) {
+            for (NodoSimple<T> p = primeroOtra; p != null; p = p.getSiguiente()) {
+                registrarFinal(p, anterior);
+                anterior = p;
+            }
+        }
+        monitor.insertados(tamanioOtra);
+    }
+
+    /**
+     * @return un iterador sobre los elementos, desde el primero. No admite
+     * modificaciones de la lista mientras se usa.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private NodoSimple<T> actual = primero;
+
+            @Override
+            public boolean hasNext() {
+                return actual != null;
+            }
+
+            @Override
+            public T next() {
+                if (actual == null) {
+                    throw new NoSuchElementException();
+                }
+                T dato = actual.getDato();
+                actual = actual.getSiguiente();
+                return dato;
+            }
+        };
+    }
+
+    /**
+     * @return un spliterator que se divide en los limites de tramo de la
+     * lista, sin recorrerla. No admite modificaciones de la lista mientras se
+     * usa.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        NodoSimple<T>[] limites = tramos.limites(primero);
+        return new SpliteradorLista<>(primero, null, limites, 0, limites.length);
+    }
+
+    /**
+     * Selecciona en paralelo los elementos que cumplen un predicado.
+     *
+     * @param predicado la condicion que deben cumplir los elementos.
+     * @return una lista nueva, con el mismo extractor de clave, con los
+     * elementos que cumplen el predicado en el mismo orden.
+     */
+    public ListaSimple<T> filtrar(Predicate<? super T> predicado) {
+        ListaSimple<T> resultado = new ListaSimple<>(extractorClave);
         if (primero != null) {
-            nuevoNodo.setSiguiente(primero);
+            OperacionesParalelas.Cadena<T> cadena = OperacionesParalelas.filtrar(inicios(), predicado);
+            if (cadena != null) {
+                resultado.reenlazar(cadena.primero, cadena.ultimo, cadena.cantidad);
+            }
         }
-        primero = nuevoNodo;
+        return resultado;
     }
 
     /**
-     * Muestra las canciones de la lista. La clase debe tener implementado el
-     * metodo toString.
+     * Aplica en paralelo una funcion a cada elemento.
+     *
+     * @param <R> el tipo de los resultados.
+     * @param funcion la funcion a aplicar.
+     * @return una lista nueva con los resultados en el mismo orden.
+     */
+    public <R> ListaSimple<R> mapear(Function<? super T, ? extends R> funcion) {
+        ListaSimple<R> resultado = new ListaSimple<>();
+        if (primero != null) {
+            OperacionesParalelas.Cadena<R> cadena = OperacionesParalelas.mapear(inicios(), funcion);
+            resultado.reenlazar(cadena.primero, cadena.ultimo, cadena.cantidad);
+        }
+        return resultado;
+    }
+
+    /**
+     * Reduce en paralelo los elementos a un unico valor, por ejemplo
+     * {@code reducir(0f, (total, c) -> total + c.getDuracion(), Float::sum)}.
+     *
+     * @param <R> el tipo del resultado.
+     * @param identidad el valor inicial de cada segmento; debe ser neutro
+     * para el combinador.
+     * @param acumulador agrega un elemento a un resultado parcial.
+     * @param combinador une dos resultados parciales, en el orden de la lista.
+     * @return el resultado de la reduccion, o la identidad si la lista esta
+     * vacia.
      */
-    public void mostrar() {
-        NodoSimple p = primero;
-        while (p != null) {
-            System.out.println(p.getDato().toString());
-            p = p.getSiguiente();
+    public <R> R reducir(R identidad, BiFunction<R, ? super T, R> acumulador, BinaryOperator<R> combinador) {
+        if (primero == null) {
+            return identidad;
         }
+        return OperacionesParalelas.reducir(inicios(), identidad, acumulador, combinador);
+    }
+
+    /**
+     * Cuenta en paralelo los elementos que cumplen un predicado.
+     *
+     * @param predicado la condicion que deben cumplir los elementos.
+     * @return la cantidad de elementos que la cumplen.
+     */
+    public long contar(Predicate<? super T> predicado) {
+        if (primero == null) {
+            return 0;
+        }
+        return OperacionesParalelas.contar(inicios(), predicado);
+    }
+
+    /**
+     * Ordena la lista con un merge sort paralelo que reenlaza los nodos
+     * existentes, sin copiarlos. El orden es estable y los indices activos se
+     * reconstruyen al terminar.
+     *
+     * Si el comparador lanza una excepcion, la cadena vuelve a su orden
+     * original antes de propagarla: el merge sort corta la cadena mientras
+     * avanza, y sin restaurarla la lista quedaria partida.
+     *
+     * @param comparador el criterio de orden.
+     */
+    public void ordenar(Comparator<? super T> comparador) {
+        if (primero == null) {
+            return;
+        }
+        NodoSimple<T>[] original = nodosEnOrden();
+        OperacionesParalelas.Cadena<T> ordenada;
+        try {
+            ordenada = OperacionesParalelas.ordenar(inicios(), comparador);
+        } catch (RuntimeException | Error e) {
+            for (int i = 0; i < original.length - 1; i++) {
+                original[i].setSiguiente(original[i + 1]);
+            }
+            original[original.length - 1].setSiguiente(null);
+            throw e;
+        }
+        reenlazar(ordenada.primero, ordenada.ultimo, ordenada.cantidad);
+    }
+
+    /**
+     * @return un stream secuencial sobre los elementos de la lista.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return un stream paralelo sobre los elementos de la lista.
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
     }
 
     /**
      * Busca un nodo en una lista enlazada simple comparando el dato almacenado.
      *
-     * La comparación se realiza comparando los titulos de las canciones
+     * La comparación se realiza comparando las claves de los elementos. Si el
+     * indice esta activo, la busqueda es O(1).
      *
-     * @param cancionBuscada el elemento a buscar.
+     * @param buscado el elemento a buscar.
      * @return el nodo que contiene el elemento buscado, o {@code null} si no se
      * encuentra.
      */
-    public NodoSimple buscar(Cancion cancionBuscada) {
+    public NodoSimple<T> buscar(T buscado) {
+        return buscarClave(extractorClave.apply(buscado));
+    }
+
+    /**
+     * Busca el primer nodo cuyo dato tiene la clave indicada, sin necesidad
+     * de armar un elemento de ejemplo. Si el indice esta activo, la busqueda
+     * es O(1).
+     *
+     * @param clave la clave buscada.
+     * @return el primer nodo con esa clave, o {@code null} si no se
+     * encuentra.
+     */
+    public NodoSimple<T> buscarClave(Object clave) {
 
-        NodoSimple resultado = null;
-        NodoSimple actual = primero;
+        long inicio = midiendoTiempo ? System.nanoTime() : 0;
+        if (indice != null) {
+            NodoSimple<T> encontrado = indice.buscar(clave);
+            informarBusqueda("buscar", clave, encontrado != null, true, 0, inicio);
+            return encontrado;
+        }
+
+        NodoSimple<T> resultado = null;
+        NodoSimple<T> actual = primero;
+        int recorridos = 0;
         boolean busqueda = false;
         while (actual != null && !busqueda) {
-            if (cancionBuscada.getTitulo().equals(actual.getDato().getTitulo())) {
+            recorridos++;
+            if (Objects.equals(clave, extractorClave.apply(actual.getDato()))) {
                 busqueda = true;
                 resultado = actual;
             } else {
                 actual = actual.getSiguiente();
             }
         }
+        informarBusqueda("buscar", clave, busqueda, false, recorridos, inicio);
         return resultado;
     }
 
@@ -77,27 +612,40 @@ public class ListaSimple {
      * Elimina un nodo de la lista enlazada que contiene un dato igual al
      * proporcionado.
      *
-     * La búsqueda y comparación del dato se realizan comparando los titulos.
+     * La búsqueda y comparación del dato se realizan comparando las claves.
+     * Si el indice esta activo, el nodo y su anterior se obtienen en O(1).
      *
-     * @param cancionBuscada la cancion a buscar y comparar para determinar el nodo a
+     * @param buscado el elemento a buscar y comparar para determinar el nodo a
      * eliminar.
      * @return el nodo eliminado si se encuentra, o {@code null} si no existe o
      * la lista está vacía.
      */
-    public NodoSimple eliminar(Cancion cancionBuscada) {
+    public NodoSimple<T> eliminar(T buscado) {
 
         if (primero == null) {
-            System.out.println("Lista vacia!");
             return null;
         }
 
-        NodoSimple resultado = null;
-        NodoSimple actual = primero;
-        NodoSimple anterior = null;
+        long inicio = midiendoTiempo ? System.nanoTime() : 0;
+        Object clave = extractorClave.apply(buscado);
+        if (indice != null) {
+            NodoSimple<T> encontrado = indice.buscar(clave);
+            informarBusqueda("eliminar", clave, encontrado != null, true, 0, inicio);
+            if (encontrado == null) {
+                return null;
+            }
+            return desenganchar(indice.anterior(encontrado), encontrado);
+        }
+
+        NodoSimple<T> resultado = null;
+        NodoSimple<T> actual = primero;
+        NodoSimple<T> anterior = null;
+        int recorridos = 0;
 
         boolean busqueda = false;
         while (actual != null & !busqueda) {
-            if (cancionBuscada.getTitulo().equals(actual.getDato().getTitulo())) {
+            recorridos++;
+            if (Objects.equals(clave, extractorClave.apply(actual.getDato()))) {
                 busqueda = true;
             } else {
                 anterior = actual;
@@ -105,15 +653,71 @@ public class ListaSimple {
             }
         }
 
+        informarBusqueda("eliminar", clave, busqueda, false, recorridos, inicio);
         if (busqueda == true) {
             resultado = desenganchar(anterior, actual);
-        } else {
-            System.out.println("Elemento inexistente");
         }
 
         return resultado;
     }
 
+    /**
+     * Elimina todos los elementos cuya clave esta en la coleccion (por
+     * ejemplo, todos los titulos de una {@link ListaCanciones}).
+     *
+     * @param claves las claves de los elementos a eliminar.
+     * @return la cantidad de elementos eliminados.
+     */
+    public int eliminarTodos(Collection<?> claves) {
+        return eliminarTodos(claves, dato -> {
+        });
+    }
+
+    /**
+     * Elimina todos los elementos cuya clave esta en la coleccion. Si el
+     * indice esta activo, cada clave se resuelve con el indice; si no, la
+     * lista se recorre una sola vez consultando un conjunto de claves.
+     *
+     * @param claves las claves de los elementos a eliminar.
+     * @param alEliminar recibe cada elemento en el momento en que se elimina.
+     * @return la cantidad de elementos eliminados.
+     */
+    public int eliminarTodos(Collection<?> claves, Consumer<? super T> alEliminar) {
+        if (primero == null || claves.isEmpty()) {
+            return 0;
+        }
+        Set<Object> buscadas = new HashSet<>(claves);
+        int eliminados = 0;
+
+        if (indice != null && buscadas.size() < tamanio) {
+            for (Object clave : buscadas) {
+                for (NodoSimple<T> nodo = indice.buscar(clave); nodo != null; nodo = indice.buscar(clave)) {
+                    desenganchar(indice.anterior(nodo), nodo);
+                    alEliminar.accept(nodo.getDato());
+                    liberar(nodo);
+                    eliminados++;
+                }
+            }
+            return eliminados;
+        }
+
+        NodoSimple<T> anterior = null;
+        NodoSimple<T> actual = primero;
+        while (actual != null) {
+            NodoSimple<T> siguiente = actual.getSiguiente();
+            if (buscadas.contains(extractorClave.apply(actual.getDato()))) {
+                desenganchar(anterior, actual);
+                alEliminar.accept(actual.getDato());
+                liberar(actual);
+                eliminados++;
+            } else {
+                anterior = actual;
+            }
+            actual = siguiente;
+        }
+        return eliminados;
+    }
+
     /**
      * Elimina un nodo de la lista desvinculándolo de la cadena de nodos.
      *
@@ -125,23 +729,290 @@ public class ListaSimple {
      * @param actual el nodo que se va a eliminar.
      * @return el nodo eliminado.
      */
-    public NodoSimple desenganchar(NodoSimple anterior, NodoSimple actual) {
+    public NodoSimple<T> desenganchar(NodoSimple<T> anterior, NodoSimple<T> actual) {
+
+        boolean eraPrimero = actual == primero;
+        NodoSimple<T> eliminado = quitarDeLaCadena(anterior, actual);
+        monitor.eliminados(1);
+        EventoDesenganche.emitir(extractorClave, eliminado.getDato(), eraPrimero, tamanio);
+        return eliminado;
+    }
 
-        NodoSimple eliminado = actual;
+    /**
+     * Devuelve el nodo que precede a otro. Si el indice esta activo, la
+     * respuesta es O(1); si no, se recorre la lista desde el primero.
+     *
+     * @param nodo un nodo de la lista.
+     * @return el nodo anterior, o {@code null} si el nodo es el primero.
+     * @throws IllegalArgumentException si el nodo no esta en la lista.
+     */
+    public NodoSimple<T> anterior(NodoSimple<T> nodo) {
+        if (nodo == primero) {
+            return null;
+        }
+        if (indice != null) {
+            return indice.anterior(nodo);
+        }
+        for (NodoSimple<T> p = primero; p != null; p = p.getSiguiente()) {
+            if (p.getSiguiente() == nodo) {
+                return p;
+            }
+        }
+        throw new IllegalArgumentException("El nodo no esta en la lista");
+    }
+
+    /**
+     * Mueve un nodo de la lista al frente, por ejemplo despues de encontrarlo
+     * en una busqueda autoorganizada. Si el indice esta activo, el movimiento
+     * es O(1).
+     *
+     * @param nodo un nodo de la lista.
+     * @see #moverDespues
+     */
+    public void moverAlFrente(NodoSimple<T> nodo) {
+        moverDespues(null, nodo);
+    }
+
+    /**
+     * Mueve un nodo de la lista para que quede a continuacion de otro. El nodo
+     * conserva su identidad: no se informa al monitor como una eliminacion
+     * seguida de una insercion y el indice por clave se actualiza sin recorrer
+     * la lista mientras las claves no se repitan. Si el indice esta activo, el
+     * movimiento es O(1); si no, buscar el anterior del nodo recorre la lista.
+     * Los indices secundarios por valor, para conservar el orden de cada
+     * grupo, pueden recorrer la lista hasta el siguiente nodo con el mismo
+     * valor.
+     *
+     * @param destino el nodo detras del cual queda el movido, o {@code null}
+     * para moverlo al frente.
+     * @param nodo el nodo a mover.
+     * @throws IllegalArgumentException si el destino es el mismo nodo.
+     */
+    public void moverDespues(NodoSimple<T> destino, NodoSimple<T> nodo) {
+        if (destino == nodo) {
+            throw new IllegalArgumentException("Un nodo no puede moverse detras de si mismo");
+        }
+        NodoSimple<T> anterior = anterior(nodo);
+        if (anterior == destino) {
+            return;
+        }
+        quitarDeLaCadena(anterior, nodo);
+        if (destino == null) {
+            enlazarAlFrente(nodo);
+        } else {
+            enlazarDespues(destino, nodo);
+        }
+    }
+
+    public NodoSimple<T> getPrimero() {
+        return primero;
+    }
+
+    public NodoSimple<T> getUltimo() {
+        return ultimo;
+    }
+
+    /**
+     * @return la cantidad de elementos de la lista, en O(1).
+     */
+    public int tamanio() {
+        return tamanio;
+    }
+
+    /**
+     * Reemplaza la cadena de nodos de la lista. Recorre la nueva cadena para
+     * obtener su ultimo nodo y su tamaño.
+     *
+     * @param primero el primer nodo de la nueva cadena.
+     */
+    public void setPrimero(NodoSimple<T> primero) {
+        NodoSimple<T> ultimoCadena = null;
+        int cantidad = 0;
+        for (NodoSimple<T> p = primero; p != null; p = p.getSiguiente()) {
+            ultimoCadena = p;
+            cantidad++;
+        }
+        reenlazar(primero, ultimoCadena, cantidad);
+    }
+
+    /**
+     * Cambia la cadena de nodos de la lista y reconstruye los indices para la
+     * nueva cadena.
+     */
+    private void reenlazar(NodoSimple<T> primero, NodoSimple<T> ultimo, int tamanio) {
+        this.primero = primero;
+        this.ultimo = ultimo;
+        this.tamanio = tamanio;
+        tramos.invalidar();
+        if (indice != null) {
+            indice.reconstruir(primero);
+        }
+        if (indicesSecundarios != null) {
+            for (IndiceNodos<T> secundario : indicesSecundarios.values()) {
+                secundario.reconstruir(primero);
+            }
+        }
+    }
+
+    /**
+     * Enlaza un nodo al frente y lo registra en las marcas y los indices, sin
+     * informar al monitor.
+     */
+    private void enlazarAlFrente(NodoSimple<T> nuevoNodo) {
+        nuevoNodo.setSiguiente(primero);
+        if (primero == null) {
+            ultimo = nuevoNodo;
+        }
+        primero = nuevoNodo;
+        tamanio++;
+        tramos.registrarFrente(nuevoNodo);
+        if (indice != null) {
+            indice.registrarFrente(nuevoNodo);
+        }
+        if (indicesSecundarios != null) {
+            for (IndiceNodos<T> secundario : indicesSecundarios.values()) {
+                secundario.registrar(nuevoNodo);
+            }
+        }
+    }
+
+    /**
+     * Enlaza un nodo a continuacion de otro y lo registra en los indices. Los
+     * nodos que entran por el medio de la lista no se marcan como limite de
+     * tramo.
+     */
+    private void enlazarDespues(NodoSimple<T> anterior, NodoSimple<T> nodo) {
+        boolean alFinal = anterior == ultimo;
+        nodo.setSiguiente(anterior.getSiguiente());
+        anterior.setSiguiente(nodo);
+        if (alFinal) {
+            ultimo = nodo;
+        }
+        tamanio++;
+        if (indice != null) {
+            indice.registrarDespues(nodo, anterior);
+        }
+        if (indicesSecundarios != null) {
+            for (IndiceNodos<T> secundario : indicesSecundarios.values()) {
+                if (alFinal) {
+                    secundario.registrarFinal(nodo);
+                } else {
+                    secundario.registrarDespues(nodo, anterior);
+                }
+            }
+        }
+    }
+
+    /**
+     * Desengancha un nodo y lo quita de las marcas y los indices, sin
+     * informar al monitor.
+     *
+     * @return el nodo desenganchado.
+     */
+    private NodoSimple<T> quitarDeLaCadena(NodoSimple<T> anterior, NodoSimple<T> actual) {
         if (actual == primero) {
+            anterior = null;
             primero = actual.getSiguiente();
         } else {
             anterior.setSiguiente(actual.getSiguiente());
         }
-        return eliminado;
+        if (actual == ultimo) {
+            ultimo = anterior;
+        }
+        tamanio--;
+        tramos.quitar(actual);
+        if (indice != null) {
+            indice.registrarDesenganche(anterior, actual);
+        }
+        if (indicesSecundarios != null) {
+            for (IndiceNodos<T> secundario : indicesSecundarios.values()) {
+                secundario.quitar(actual);
+            }
+        }
+        return actual;
     }
 
-    public NodoSimple getPrimero() {
-        return primero;
+    private NodoSimple<T> nuevoNodo(T dato) {
+        return pool == null ? new NodoSimple<>(dato) : pool.obtener(dato);
     }
 
-    public void setPrimero(NodoSimple primero) {
-        this.primero = primero;
+    private void informarBusqueda(String operacion, Object clave, boolean encontrado, boolean indexada, int recorridos, long inicio) {
+        monitor.busqueda(clave, encontrado, recorridos, midiendoTiempo ? System.nanoTime() - inicio : 0);
+        EventoBusqueda.emitir(operacion, clave, encontrado, indexada, recorridos);
+    }
+
+    private void enlazarAlFinal(NodoSimple<T> primeroCadena, NodoSimple<T> ultimoCadena) {
+        if (ultimo == null) {
+            primero = primeroCadena;
+        } else {
+            ultimo.setSiguiente(primeroCadena);
+        }
+        ultimo = ultimoCadena;
+    }
+
+    private void registrarFinal(NodoSimple<T> nodo, NodoSimple<T> anterior) {
+        if (indice != null) {
+            indice.registrarFinal(nodo, anterior);
+        }
+        if (indicesSecundarios != null) {
+            for (IndiceNodos<T> secundario : indicesSecundarios.values()) {
+                secundario.registrarFinal(nodo);
+            }
+        }
+    }
+
+    /**
+     * @return el primer nodo de cada tramo de la lista, empezando por el
+     * primero.
+     */
+    @SuppressWarnings("unchecked")
+    private NodoSimple<T>[] inicios() {
+        NodoSimple<T>[] limites = tramos.limites(primero);
+        NodoSimple<T>[] inicios = (NodoSimple<T>[]) new NodoSimple<?>[limites.length + 1];
+        inicios[0] = primero;
+        System.arraycopy(limites, 0, inicios, 1, limites.length);
+        return inicios;
+    }
+
+    /**
+     * @return los nodos de la lista en su orden actual.
+     */
+    @SuppressWarnings("unchecked")
+    private NodoSimple<T>[] nodosEnOrden() {
+        NodoSimple<T>[] nodos = (NodoSimple<T>[]) new NodoSimple<?>[tamanio];
+        int i = 0;
+        for (NodoSimple<T> p = primero; p != null; p = p.getSiguiente()) {
+            nodos[i++] = p;
+        }
+        return nodos;
+    }
+
+    private void agregarIndiceSecundario(String nombre, IndiceNodos<T> nuevo) {
+        nuevo.reconstruir(primero);
+        if (indicesSecundarios == null) {
+            indicesSecundarios = new LinkedHashMap<>();
+        }
+        indicesSecundarios.put(nombre, nuevo);
+    }
+
+    private IndiceSecundario<T> indiceMultivalor(String nombre) {
+        IndiceNodos<T> secundario = indiceSecundario(nombre);
+        if (!(secundario instanceof IndiceSecundario)) {
+            throw new IllegalStateException("No hay un indice secundario activo con el nombre " + nombre);
+        }
+        return (IndiceSecundario<T>) secundario;
+    }
+
+    private IndiceRango<T> indiceRango(String nombre) {
+        IndiceNodos<T> secundario = indiceSecundario(nombre);
+        if (!(secundario instanceof IndiceRango)) {
+            throw new IllegalStateException("No hay un indice de rango activo con el nombre " + nombre);
+        }
+        return (IndiceRango<T>) secundario;
+    }
+
+    private IndiceNodos<T> indiceSecundario(String nombre) {
+        return indicesSecundarios == null ? null : indicesSecundarios.get(nombre);
     }
 
 }
@@ -0,0 +1,182 @@
+package listas_genericas;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lista simplemente enlazada segura para usar desde varios hilos sin bloqueos.
+ *
+ * La insercion al frente se hace con un CAS sobre el enlace de un nodo
+ * centinela que precede siempre al primer elemento. La eliminacion sigue el
+ * esquema de Harris: primero se marca el enlace del nodo a eliminar (borrado
+ * logico) y despues se intenta desengancharlo con un CAS sobre el enlace del
+ * anterior (borrado fisico). Si ese segundo paso falla, cualquier hilo que
+ * recorra la lista y encuentre el nodo marcado termina de desengancharlo.
+ *
+ * {@link #buscar} recorre la lista sin escribir nada e ignora los nodos
+ * marcados, por lo que nunca espera a otros hilos.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+public class ListaSimpleConcurrente<T> {
+
+    /**
+     * Nodo de la lista. La marca de {@code siguiente} indica que el nodo fue
+     * eliminado logicamente.
+     */
+    private static final class Nodo<T> {
+
+        private final T dato;
+        private final AtomicMarkableReference<Nodo<T>> siguiente;
+
+        private Nodo(T dato, Nodo<T> siguiente) {
+            this.dato = dato;
+            this.siguiente = new AtomicMarkableReference<>(siguiente, false);
+        }
+    }
+
+    /**
+     * Par de nodos consecutivos encontrado por {@link #encontrar}.
+     */
+    private static final class Ventana<T> {
+
+        private final Nodo<T> anterior;
+        private final Nodo<T> actual;
+
+        private Ventana(Nodo<T> anterior, Nodo<T> actual) {
+            this.anterior = anterior;
+            this.actual = actual;
+        }
+    }
+
+    private final Function<? super T, ?> extractorClave;
+    private final Nodo<T> centinela = new Nodo<>(null, null);
+
+    public ListaSimpleConcurrente() {
+        this(Function.identity());
+    }
+
+    /**
+     * @param extractorClave la funcion que obtiene de cada elemento la clave
+     * por la que se busca y elimina.
+     */
+    public ListaSimpleConcurrente(Function<? super T, ?> extractorClave) {
+        this.extractorClave = Objects.requireNonNull(extractorClave);
+    }
+
+    /**
+     * Inserta un elemento al frente de la lista.
+     *
+     * @param dato el dato a insertar.
+     */
+    public void insertarFrente(T dato) {
+        Nodo<T> nuevo = new Nodo<>(dato, null);
+        while (true) {
+            Nodo<T> primero = centinela.siguiente.getReference();
+            nuevo.siguiente.set(primero, false);
+            if (centinela.siguiente.compareAndSet(primero, nuevo, false, false)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Busca un elemento comparando su clave con la de cada elemento no
+     * eliminado de la lista.
+     *
+     * @param buscado el elemento a buscar.
+     * @return el primer elemento con la misma clave, o {@code null} si no se
+     * encuentra.
+     */
+    public T buscar(T buscado) {
+
+        Object clave = extractorClave.apply(buscado);
+        boolean[] marca = {false};
+        Nodo<T> actual = centinela.siguiente.getReference();
+        while (actual != null) {
+            Nodo<T> siguiente = actual.siguiente.get(marca);
+            if (!marca[0] && Objects.equals(clave, extractorClave.apply(actual.dato))) {
+                return actual.dato;
+            }
+            actual = siguiente;
+        }
+        return null;
+    }
+
+    /**
+     * Elimina el primer elemento cuya clave coincide con la del buscado.
+     *
+     * @param buscado el elemento a buscar.
+     * @return el elemento eliminado si se encuentra, o {@code null} si no
+     * existe.
+     */
+    public T eliminar(T buscado) {
+
+        Object clave = extractorClave.apply(buscado);
+        while (true) {
+            Ventana<T> ventana = encontrar(clave);
+            if (ventana.actual == null) {
+                return null;
+            }
+            Nodo<T> siguiente = ventana.actual.siguiente.getReference();
+            // Solo gana el hilo que pasa la marca de false a true; si otro
+            // hilo lo marco o inserto despues de el, se vuelve a buscar.
+            if (ventana.actual.siguiente.compareAndSet(siguiente, siguiente, false, true)) {
+                ventana.anterior.siguiente.compareAndSet(ventana.actual, siguiente, false, false);
+                return ventana.actual.dato;
+            }
+        }
+    }
+
+    /**
+     * Aplica una accion a cada elemento no eliminado, en el orden de la lista.
+     * Los cambios hechos por otros hilos durante el recorrido pueden verse o
+     * no.
+     *
+     * @param accion la accion a aplicar.
+     */
+    public void paraCada(Consumer<? super T> accion) {
+        boolean[] marca = {false};
+        Nodo<T> actual = centinela.siguiente.getReference();
+        while (actual != null) {
+            Nodo<T> siguiente = actual.siguiente.get(marca);
+            if (!marca[0]) {
+                accion.accept(actual.dato);
+            }
+            actual = siguiente;
+        }
+    }
+
+    /**
+     * Busca el primer nodo no marcado con la clave indicada, desenganchando en
+     * el camino los nodos marcados que encuentre.
+     */
+    private Ventana<T> encontrar(Object clave) {
+        boolean[] marca = {false};
+        reintentar:
+        while (true) {
+            Nodo<T> anterior = centinela;
+            Nodo<T> actual = anterior.siguiente.getReference();
+            while (actual != null) {
+                Nodo<T> siguiente = actual.siguiente.get(marca);
+                if (marca[0]) {
+                    if (!anterior.siguiente.compareAndSet(actual, siguiente, false, false)) {
+                        continue reintentar;
+                    }
+                    actual = siguiente;
+                    continue;
+                }
+                if (Objects.equals(clave, extractorClave.apply(actual.dato))) {
+                    return new Ventana<>(anterior, actual);
+                }
+                anterior = actual;
+                actual = siguiente;
+            }
+            return new Ventana<>(anterior, null);
+        }
+    }
+
+}
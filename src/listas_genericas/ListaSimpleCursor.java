@@ -0,0 +1,214 @@
+package listas_genericas;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Lista simplemente enlazada implementada con cursores: los enlaces se guardan
+ * en un {@code int[]} y los datos en un {@code Object[]} paralelo, en lugar de
+ * crear un {@link NodoSimple} por elemento.
+ *
+ * Cada elemento ocupa una celda identificada por su indice. Las celdas que se
+ * liberan al desenganchar pasan a una lista de celdas libres y se reutilizan
+ * en las siguientes inserciones, por lo que una vez que la lista alcanzo su
+ * tamanio de trabajo no vuelve a reservar memoria. El valor {@link #NULO}
+ * cumple el papel de {@code null} en los enlaces.
+ *
+ * Busca y elimina por clave igual que {@link ListaSimple}.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+public class ListaSimpleCursor<T> {
+
+    public static final int NULO = -1;
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private final Function<? super T, ?> extractorClave;
+    private int[] siguientes;
+    private Object[] datos;
+    private int primero;
+    private int libre;
+    private int celdasUsadas;
+
+    public ListaSimpleCursor() {
+        this(Function.identity());
+    }
+
+    /**
+     * @param extractorClave la funcion que obtiene de cada elemento la clave
+     * por la que se busca y elimina.
+     */
+    public ListaSimpleCursor(Function<? super T, ?> extractorClave) {
+        this(extractorClave, CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * @param extractorClave la funcion que obtiene de cada elemento la clave
+     * por la que se busca y elimina.
+     * @param capacidadInicial cantidad de celdas reservadas de entrada.
+     */
+    public ListaSimpleCursor(Function<? super T, ?> extractorClave, int capacidadInicial) {
+        if (capacidadInicial < 1) {
+            throw new IllegalArgumentException("La capacidad inicial debe ser mayor a 0.");
+        }
+        this.extractorClave = Objects.requireNonNull(extractorClave);
+        this.siguientes = new int[capacidadInicial];
+        this.datos = new Object[capacidadInicial];
+        this.primero = NULO;
+        this.libre = NULO;
+    }
+
+    /**
+     * Inserta un elemento al frente de la lista.
+     *
+     * @param dato el dato a insertar.
+     * @return el cursor de la celda que ocupa el nuevo elemento.
+     */
+    public int insertarFrente(T dato) {
+        int celda = tomarCelda();
+        datos[celda] = dato;
+        siguientes[celda] = primero;
+        primero = celda;
+        return celda;
+    }
+
+    /**
+     * Busca un elemento comparando su clave con la de cada celda.
+     *
+     * @param buscado el elemento a buscar.
+     * @return el cursor de la celda que contiene el elemento, o {@link #NULO}
+     * si no se encuentra.
+     */
+    public int buscar(T buscado) {
+
+        Object clave = extractorClave.apply(buscado);
+        int actual = primero;
+        while (actual != NULO && !Objects.equals(clave, extractorClave.apply(getDato(actual)))) {
+            actual = siguientes[actual];
+        }
+        return actual;
+    }
+
+    /**
+     * Elimina el primer elemento cuya clave coincide con la del buscado.
+     *
+     * @param buscado el elemento a buscar.
+     * @return el dato eliminado si se encuentra, o {@code null} si no existe o
+     * la lista está vacía.
+     */
+    public T eliminar(T buscado) {
+
+        if (primero == NULO) {
+            return null;
+        }
+
+        Object clave = extractorClave.apply(buscado);
+        int anterior = NULO;
+        int actual = primero;
+        while (actual != NULO && !Objects.equals(clave, extractorClave.apply(getDato(actual)))) {
+            anterior = actual;
+            actual = siguientes[actual];
+        }
+
+        if (actual == NULO) {
+            return null;
+        }
+        return desenganchar(anterior, actual);
+    }
+
+    /**
+     * Desvincula una celda de la cadena y la devuelve a la lista de celdas
+     * libres. El cursor deja de ser valido.
+     *
+     * @param anterior el cursor previo al que se elimina, ignorado si el que
+     * se elimina es el primero.
+     * @param actual el cursor a eliminar.
+     * @return el dato que contenia la celda.
+     */
+    public T desenganchar(int anterior, int actual) {
+
+        if (actual == primero) {
+            primero = siguientes[actual];
+        } else {
+            siguientes[anterior] = siguientes[actual];
+        }
+
+        T eliminado = getDato(actual);
+        datos[actual] = null;
+        siguientes[actual] = libre;
+        libre = actual;
+        return eliminado;
+    }
+
+    /**
+     * Reubica los elementos para que ocupen celdas consecutivas en el orden de
+     * la lista, de modo que el recorrido lea los arreglos de forma secuencial.
+     * Invalida todos los cursores obtenidos hasta el momento.
+     */
+    public void compactar() {
+        int[] nuevosSiguientes = new int[siguientes.length];
+        Object[] nuevosDatos = new Object[datos.length];
+
+        int cantidad = 0;
+        for (int p = primero; p != NULO; p = siguientes[p]) {
+            nuevosDatos[cantidad] = datos[p];
+            nuevosSiguientes[cantidad] = cantidad + 1;
+            cantidad++;
+        }
+        if (cantidad > 0) {
+            nuevosSiguientes[cantidad - 1] = NULO;
+        }
+
+        siguientes = nuevosSiguientes;
+        datos = nuevosDatos;
+        primero = cantidad > 0 ? 0 : NULO;
+        libre = NULO;
+        celdasUsadas = cantidad;
+    }
+
+    public int getPrimero() {
+        return primero;
+    }
+
+    /**
+     * @param cursor un cursor valido.
+     * @return el cursor siguiente, o {@link #NULO} si es el ultimo.
+     */
+    public int getSiguiente(int cursor) {
+        return siguientes[cursor];
+    }
+
+    /**
+     * @param cursor un cursor valido.
+     * @return el dato almacenado en la celda.
+     */
+    @SuppressWarnings("unchecked")
+    public T getDato(int cursor) {
+        return (T) datos[cursor];
+    }
+
+    /**
+     * @return la cantidad de celdas reservadas.
+     */
+    public int getCapacidad() {
+        return datos.length;
+    }
+
+    private int tomarCelda() {
+        if (libre != NULO) {
+            int celda = libre;
+            libre = siguientes[celda];
+            return celda;
+        }
+        if (celdasUsadas == datos.length) {
+            int nuevaCapacidad = datos.length + (datos.length >> 1) + 1;
+            siguientes = Arrays.copyOf(siguientes, nuevaCapacidad);
+            datos = Arrays.copyOf(datos, nuevaCapacidad);
+        }
+        return celdasUsadas++;
+    }
+
+}
@@ -0,0 +1,106 @@
+package listas_genericas;
+
+/**
+ * Variante de {@link ListaSimple} especializada para valores {@code float},
+ * por ejemplo duraciones de canciones.
+ *
+ * Cada nodo guarda el primitivo y el enlace al siguiente, sin crear un
+ * {@link Float} por elemento. Los valores se comparan con
+ * {@link Float#compare}, por lo que {@code NaN} se encuentra a si mismo.
+ *
+ * @author Carlos Álvarez
+ */
+public class ListaSimpleFloat {
+
+    protected NodoSimpleFloat primero;
+
+    public ListaSimpleFloat() {
+        this.primero = null;
+    }
+
+    /**
+     * Inserta un valor al frente de la lista enlazada.
+     *
+     * @param dato el valor que se almacenara en un nodo e insertará al frente.
+     */
+    public void insertarFrente(float dato) {
+        insertarFrente(new NodoSimpleFloat(dato));
+    }
+
+    /**
+     * Inserta un nodo al frente de la lista enlazada.
+     *
+     * @param nuevoNodo el nodo a insertar al frente de la lista.
+     */
+    public void insertarFrente(NodoSimpleFloat nuevoNodo) {
+        nuevoNodo.setSiguiente(primero);
+        primero = nuevoNodo;
+    }
+
+    /**
+     * Busca el primer nodo que contiene el valor indicado.
+     *
+     * @param buscado el valor a buscar.
+     * @return el nodo que contiene el valor, o {@code null} si no se encuentra.
+     */
+    public NodoSimpleFloat buscar(float buscado) {
+
+        NodoSimpleFloat actual = primero;
+        while (actual != null && !(Float.compare(actual.getDato(), buscado) == 0)) {
+            actual = actual.getSiguiente();
+        }
+        return actual;
+    }
+
+    /**
+     * Elimina el primer nodo que contiene el valor indicado.
+     *
+     * @param buscado el valor a buscar.
+     * @return el nodo eliminado si se encuentra, o {@code null} si no existe o
+     * la lista está vacía.
+     */
+    public NodoSimpleFloat eliminar(float buscado) {
+
+        if (primero == null) {
+            return null;
+        }
+
+        NodoSimpleFloat actual = primero;
+        NodoSimpleFloat anterior = null;
+        while (actual != null && !(Float.compare(actual.getDato(), buscado) == 0)) {
+            anterior = actual;
+            actual = actual.getSiguiente();
+        }
+
+        if (actual == null) {
+            return null;
+        }
+        return desenganchar(anterior, actual);
+    }
+
+    /**
+     * Elimina un nodo de la lista desvinculándolo de la cadena de nodos.
+     *
+     * @param anterior el nodo previo al nodo a eliminar.
+     * @param actual el nodo que se va a eliminar.
+     * @return el nodo eliminado.
+     */
+    public NodoSimpleFloat desenganchar(NodoSimpleFloat anterior, NodoSimpleFloat actual) {
+
+        if (actual == primero) {
+            primero = actual.getSiguiente();
+        } else {
+            anterior.setSiguiente(actual.getSiguiente());
+        }
+        return actual;
+    }
+
+    public NodoSimpleFloat getPrimero() {
+        return primero;
+    }
+
+    public void setPrimero(NodoSimpleFloat primero) {
+        this.primero = primero;
+    }
+
+}
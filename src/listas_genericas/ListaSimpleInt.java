@@ -0,0 +1,104 @@
+package listas_genericas;
+
+/**
+ * Variante de {@link ListaSimple} especializada para valores {@code int}.
+ *
+ * Cada nodo guarda el primitivo y el enlace al siguiente, sin crear un
+ * {@link Integer} por elemento.
+ *
+ * @author Carlos Álvarez
+ */
+public class ListaSimpleInt {
+
+    protected NodoSimpleInt primero;
+
+    public ListaSimpleInt() {
+        this.primero = null;
+    }
+
+    /**
+     * Inserta un valor al frente de la lista enlazada.
+     *
+     * @param dato el valor que se almacenara en un nodo e insertará al frente.
+     */
+    public void insertarFrente(int dato) {
+        insertarFrente(new NodoSimpleInt(dato));
+    }
+
+    /**
+     * Inserta un nodo al frente de la lista enlazada.
+     *
+     * @param nuevoNodo el nodo a insertar al frente de la lista.
+     */
+    public void insertarFrente(NodoSimpleInt nuevoNodo) {
+        nuevoNodo.setSiguiente(primero);
+        primero = nuevoNodo;
+    }
+
+    /**
+     * Busca el primer nodo que contiene el valor indicado.
+     *
+     * @param buscado el valor a buscar.
+     * @return el nodo que contiene el valor, o {@code null} si no se encuentra.
+     */
+    public NodoSimpleInt buscar(int buscado) {
+
+        NodoSimpleInt actual = primero;
+        while (actual != null && !(actual.getDato() == buscado)) {
+            actual = actual.getSiguiente();
+        }
+        return actual;
+    }
+
+    /**
+     * Elimina el primer nodo que contiene el valor indicado.
+     *
+     * @param buscado el valor a buscar.
+     * @return el nodo eliminado si se encuentra, o {@code null} si no existe o
+     * la lista está vacía.
+     */
+    public NodoSimpleInt eliminar(int buscado) {
+
+        if (primero == null) {
+            return null;
+        }
+
+        NodoSimpleInt actual = primero;
+        NodoSimpleInt anterior = null;
+        while (actual != null && !(actual.getDato() == buscado)) {
+            anterior = actual;
+            actual = actual.getSiguiente();
+        }
+
+        if (actual == null) {
+            return null;
+        }
+        return desenganchar(anterior, actual);
+    }
+
+    /**
+     * Elimina un nodo de la lista desvinculándolo de la cadena de nodos.
+     *
+     * @param anterior el nodo previo al nodo a eliminar.
+     * @param actual el nodo que se va a eliminar.
+     * @return el nodo eliminado.
+     */
+    public NodoSimpleInt desenganchar(NodoSimpleInt anterior, NodoSimpleInt actual) {
+
+        if (actual == primero) {
+            primero = actual.getSiguiente();
+        } else {
+            anterior.setSiguiente(actual.getSiguiente());
+        }
+        return actual;
+    }
+
+    public NodoSimpleInt getPrimero() {
+        return primero;
+    }
+
+    public void setPrimero(NodoSimpleInt primero) {
+        this.primero = primero;
+    }
+
+}
@@ -0,0 +1,200 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Marcas que dividen la cadena de nodos de una {@link ListaSimple} en tramos
+ * de alrededor de {@value #TAMANIO_TRAMO} nodos, para que
+ * {@link SpliteradorLista} pueda partir la lista sin recorrerla.
+ *
+ * Se marca uno de cada {@value #TAMANIO_TRAMO} nodos insertados al frente y
+ * uno de cada {@value #TAMANIO_TRAMO} agregados al final. Cada marca tiene
+ * una posicion que crece hacia el frente de la lista: las marcas del frente
+ * toman posiciones nuevas por arriba y las del final por abajo. Si se
+ * desengancha un nodo marcado, la marca pasa a su siguiente, o desaparece si
+ * el siguiente ya es la marca anterior. Cuando se reemplaza la cadena
+ * completa, las marcas se invalidan y se recalculan con un unico recorrido la
+ * proxima vez que se piden.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+class MarcasTramos<T> {
+
+    static final int TAMANIO_TRAMO = 1024;
+
+    private final TreeMap<Long, NodoSimple<T>> marcas = new TreeMap<>();
+    private final Map<NodoSimple<T>, Long> posiciones = new IdentityHashMap<>();
+    private long siguienteFrente;
+    private long siguienteFinal = -1;
+    private int desdeMarcaFrente;
+    private int desdeMarcaFinal;
+    private boolean validas = true;
+
+    /**
+     * Registra un nodo recien insertado al frente de la lista.
+     *
+     * @param nodo el nuevo primer nodo de la lista.
+     */
+    void registrarFrente(NodoSimple<T> nodo) {
+        if (validas && ++desdeMarcaFrente == TAMANIO_TRAMO) {
+            marcar(nodo, siguienteFrente++);
+            desdeMarcaFrente = 0;
+        }
+    }
+
+    /**
+     * Registra una cadena de nodos recien insertada al frente de la lista.
+     * Sigue la cuenta de {@link #registrarFrente}: se marca cada nodo que
+     * queda a {@value #TAMANIO_TRAMO} nodos de la marca del frente anterior,
+     * asi que una serie de cadenas cortas no deja marcas de mas. La cadena se
+     * recorre otra vez solo si le toca alguna marca.
+     *
+     * @param primeroCadena el primer nodo de la cadena.
+     * @param ultimoCadena el ultimo nodo de la cadena.
+     * @return la cantidad de nodos de la cadena.
+     */
+    int registrarCadenaFrente(NodoSimple<T> primeroCadena, NodoSimple<T> ultimoCadena) {
+        int cantidad = 0;
+        for (NodoSimple<T> p = primeroCadena; p != null; p = p.getSiguiente()) {
+            cantidad++;
+            if (p == ultimoCadena) {
+                break;
+            }
+        }
+        if (!validas) {
+            return cantidad;
+        }
+
+        // Contando desde el final de la cadena, el nodo j (desde el frente)
+        // queda a desdeMarcaFrente + cantidad - j nodos de la marca anterior.
+        long hastaElFrente = (long) desdeMarcaFrente + cantidad;
+        if (hastaElFrente >= TAMANIO_TRAMO) {
+            List<NodoSimple<T>> nuevas = new ArrayList<>();
+            int primeraMarca = (int) (hastaElFrente % TAMANIO_TRAMO);
+            int j = 0;
+            for (NodoSimple<T> p = primeroCadena; j <= cantidad - TAMANIO_TRAMO + desdeMarcaFrente; p = p.getSiguiente(), j++) {
+                if (j >= primeraMarca && (j - primeraMarca) % TAMANIO_TRAMO == 0) {
+                    nuevas.add(p);
+                }
+            }
+            for (int i = nuevas.size() - 1; i >= 0; i--) {
+                marcar(nuevas.get(i), siguienteFrente++);
+            }
+        }
+        desdeMarcaFrente = (int) (hastaElFrente % TAMANIO_TRAMO);
+        return cantidad;
+    }
+
+    /**
+     * Registra un nodo recien agregado al final de la lista.
+     *
+     * @param nodo el nuevo ultimo nodo de la lista.
+     */
+    void registrarFinal(NodoSimple<T> nodo) {
+        if (validas && ++desdeMarcaFinal == TAMANIO_TRAMO) {
+            marcar(nodo, siguienteFinal--);
+            desdeMarcaFinal = 0;
+        }
+    }
+
+    /**
+     * Incorpora las marcas de otra lista cuya cadena se agrega al final de
+     * esta. El primer nodo de la otra lista tambien queda marcado.
+     *
+     * @param otras las marcas de la otra lista.
+     * @param primeroOtra el primer nodo de la otra lista.
+     */
+    void agregarFinal(MarcasTramos<T> otras, NodoSimple<T> primeroOtra) {
+        if (!validas || !otras.validas) {
+            invalidar();
+            return;
+        }
+        marcar(primeroOtra, siguienteFinal--);
+        for (NodoSimple<T> marca : otras.marcas.descendingMap().values()) {
+            if (marca != primeroOtra) {
+                marcar(marca, siguienteFinal--);
+            }
+        }
+        desdeMarcaFinal = otras.desdeMarcaFinal;
+    }
+
+    /**
+     * Registra que un nodo salio de la lista. El nodo debe conservar todavia
+     * el enlace a su siguiente.
+     *
+     * @param nodo el nodo desenganchado.
+     */
+    void quitar(NodoSimple<T> nodo) {
+        Long posicion = posiciones.remove(nodo);
+        if (posicion == null) {
+            return;
+        }
+        marcas.remove(posicion);
+        NodoSimple<T> siguiente = nodo.getSiguiente();
+        Map.Entry<Long, NodoSimple<T>> anterior = marcas.lowerEntry(posicion);
+        if (siguiente != null && (anterior == null || anterior.getValue() != siguiente)) {
+            marcar(siguiente, posicion);
+        }
+    }
+
+    /**
+     * Descarta las marcas para recalcularlas la proxima vez que se pidan.
+     */
+    void invalidar() {
+        validas = false;
+        marcas.clear();
+        posiciones.clear();
+        siguienteFrente = 0;
+        siguienteFinal = -1;
+        desdeMarcaFrente = 0;
+        desdeMarcaFinal = 0;
+    }
+
+    /**
+     * @param primero el primer nodo de la lista.
+     * @return los nodos marcados en el orden de la lista, sin incluir al
+     * primero.
+     */
+    @SuppressWarnings("unchecked")
+    NodoSimple<T>[] limites(NodoSimple<T> primero) {
+        if (!validas) {
+            recalcular(primero);
+        }
+        List<NodoSimple<T>> limites = new ArrayList<>(marcas.size());
+        for (NodoSimple<T> marca : marcas.descendingMap().values()) {
+            if (marca != primero) {
+                limites.add(marca);
+            }
+        }
+        return limites.toArray((NodoSimple<T>[]) new NodoSimple<?>[limites.size()]);
+    }
+
+    private void marcar(NodoSimple<T> nodo, long posicion) {
+        marcas.put(posicion, nodo);
+        posiciones.put(nodo, posicion);
+    }
+
+    /**
+     * Marca uno de cada {@value #TAMANIO_TRAMO} nodos contando desde el
+     * primero.
+     */
+    private void recalcular(NodoSimple<T> primero) {
+        List<NodoSimple<T>> desdeElFrente = new ArrayList<>();
+        int contador = 0;
+        for (NodoSimple<T> p = primero; p != null; p = p.getSiguiente()) {
+            if (contador++ % TAMANIO_TRAMO == 0) {
+                desdeElFrente.add(p);
+            }
+        }
+        for (int i = desdeElFrente.size() - 1; i >= 0; i--) {
+            marcar(desdeElFrente.get(i), siguienteFrente++);
+        }
+        validas = true;
+    }
+
+}
@@ -0,0 +1,113 @@
+package listas_genericas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MonitorLista} que acumula contadores de inserciones, eliminaciones,
+ * aciertos y fallos, y histogramas de nodos recorridos y de duracion de las
+ * busquedas. Se puede consultar en cualquier momento, incluso mientras la
+ * lista se usa desde otro hilo, y compartir entre varias listas.
+ *
+ * @author Carlos Álvarez
+ */
+public class MetricasLista implements MonitorLista {
+
+    private final boolean midiendoTiempo;
+    private final LongAdder inserciones = new LongAdder();
+    private final LongAdder eliminaciones = new LongAdder();
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final Histograma recorridos = new Histograma();
+    private final Histograma latencias = new Histograma();
+
+    /**
+     * Crea las metricas midiendo tambien la duracion de las busquedas.
+     */
+    public MetricasLista() {
+        this(true);
+    }
+
+    /**
+     * @param midiendoTiempo si se mide la duracion de las busquedas, que
+     * agrega dos lecturas del reloj a cada una.
+     */
+    public MetricasLista(boolean midiendoTiempo) {
+        this.midiendoTiempo = midiendoTiempo;
+    }
+
+    @Override
+    public boolean isMidiendoTiempo() {
+        return midiendoTiempo;
+    }
+
+    @Override
+    public void insertados(int cantidad) {
+        inserciones.add(cantidad);
+    }
+
+    @Override
+    public void eliminados(int cantidad) {
+        eliminaciones.add(cantidad);
+    }
+
+    @Override
+    public void busqueda(Object clave, boolean encontrado, int recorridos, long nanos) {
+        (encontrado ? aciertos : fallos).increment();
+        this.recorridos.registrar(recorridos);
+        if (midiendoTiempo) {
+            latencias.registrar(nanos);
+        }
+    }
+
+    public long getInserciones() {
+        return inserciones.sum();
+    }
+
+    public long getEliminaciones() {
+        return eliminaciones.sum();
+    }
+
+    public long getAciertos() {
+        return aciertos.sum();
+    }
+
+    public long getFallos() {
+        return fallos.sum();
+    }
+
+    /**
+     * @return el histograma de nodos recorridos por busqueda.
+     */
+    public Histograma getRecorridos() {
+        return recorridos;
+    }
+
+    /**
+     * @return el histograma de duracion de las busquedas, en nanosegundos.
+     */
+    public Histograma getLatencias() {
+        return latencias;
+    }
+
+    /**
+     * Vuelve a cero todas las metricas.
+     */
+    public void reiniciar() {
+        inserciones.reset();
+        eliminaciones.reset();
+        aciertos.reset();
+        fallos.reset();
+        recorridos.reiniciar();
+        latencias.reiniciar();
+    }
+
+    @Override
+    public String toString() {
+        return "Inserciones: " + getInserciones()
+                + "\nEliminaciones: " + getEliminaciones()
+                + "\nBusquedas: " + getAciertos() + " aciertos, " + getFallos() + " fallos"
+                + "\nNodos recorridos: " + recorridos
+                + "\nLatencia (ns): " + latencias;
+    }
+
+}
@@ -0,0 +1,57 @@
+package listas_genericas;
+
+/**
+ * Recibe los eventos de una {@link ListaSimple}: inserciones, eliminaciones y
+ * busquedas con su resultado, la cantidad de nodos recorridos y su duracion.
+ *
+ * Todos los metodos tienen una implementacion vacia, y {@link #NINGUNO} es el
+ * monitor que usa la lista por defecto. Con el, las llamadas quedan vacias y
+ * no se mide el tiempo de las busquedas.
+ *
+ * Los eventos se informan desde el hilo que modifica o consulta la lista.
+ *
+ * @author Carlos Álvarez
+ */
+public interface MonitorLista {
+
+    /**
+     * Monitor que ignora todos los eventos.
+     */
+    MonitorLista NINGUNO = new MonitorLista() {
+    };
+
+    /**
+     * @return si la lista debe medir la duracion de las busquedas. Se
+     * consulta una vez, al asignar el monitor.
+     */
+    default boolean isMidiendoTiempo() {
+        return false;
+    }
+
+    /**
+     * @param cantidad la cantidad de elementos insertados en una operacion.
+     */
+    default void insertados(int cantidad) {
+    }
+
+    /**
+     * @param cantidad la cantidad de elementos eliminados en una operacion.
+     */
+    default void eliminados(int cantidad) {
+    }
+
+    /**
+     * Informa una busqueda por clave, hecha por {@link ListaSimple#buscar},
+     * {@link ListaSimple#buscarClave} o {@link ListaSimple#eliminar}.
+     *
+     * @param clave la clave buscada.
+     * @param encontrado si habia un elemento con esa clave.
+     * @param recorridos la cantidad de nodos comparados; cero si la busqueda
+     * se resolvio con el indice.
+     * @param nanos la duracion de la busqueda, o cero si el monitor no mide
+     * el tiempo.
+     */
+    default void busqueda(Object clave, boolean encontrado, int recorridos, long nanos) {
+    }
+
+}
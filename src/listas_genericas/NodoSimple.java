@@ -1,35 +1,33 @@
 package listas_genericas;
 
-import entidades.Cancion;
-
-
 /**
  * Representa un nodo simple de una estructura de datos enlazada.
  *
+ * @param <T> el tipo de dato almacenado en el nodo.
  * @author Carlos Álvarez
  */
-public class NodoSimple {
+public class NodoSimple<T> {
 
-    private Cancion dato;
-    private NodoSimple siguiente;
+    private T dato;
+    private NodoSimple<T> siguiente;
 
-    public NodoSimple(Cancion dato) {
+    public NodoSimple(T dato) {
         this.dato = dato;
     }
 
-    public Cancion getDato() {
+    public T getDato() {
         return dato;
     }
 
-    public void setDato(Cancion dato) {
+    public void setDato(T dato) {
         this.dato = dato;
     }
 
-    public NodoSimple getSiguiente() {
+    public NodoSimple<T> getSiguiente() {
         return siguiente;
     }
 
-    public void setSiguiente(NodoSimple siguiente) {
+    public void setSiguiente(NodoSimple<T> siguiente) {
         this.siguiente = siguiente;
     }
 
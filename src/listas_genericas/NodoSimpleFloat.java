@@ -0,0 +1,39 @@
+package listas_genericas;
+
+/**
+ * Nodo de una {@link ListaSimpleFloat}. Guarda el dato como {@code float}
+ * primitivo, sin la caja de {@link Float}.
+ *
+ * @author Carlos Álvarez
+ */
+public class NodoSimpleFloat {
+
+    private float dato;
+    private NodoSimpleFloat siguiente;
+
+    public NodoSimpleFloat(float dato) {
+        this.dato = dato;
+    }
+
+    public float getDato() {
+        return dato;
+    }
+
+    public void setDato(float dato) {
+        this.dato = dato;
+    }
+
+    public NodoSimpleFloat getSiguiente() {
+        return siguiente;
+    }
+
+    public void setSiguiente(NodoSimpleFloat siguiente) {
+        this.siguiente = siguiente;
+    }
+
+    @Override
+    public String toString() {
+        return "NodoSimpleFloat{" + "dato=" + dato + ", siguiente=" + siguiente + '}';
+    }
+
+}
@@ -0,0 +1,39 @@
+package listas_genericas;
+
+/**
+ * Nodo de una {@link ListaSimpleInt}. Guarda el dato como {@code int}
+ * primitivo, sin la caja de {@link Integer}.
+ *
+ * @author Carlos Álvarez
+ */
+public class NodoSimpleInt {
+
+    private int dato;
+    private NodoSimpleInt siguiente;
+
+    public NodoSimpleInt(int dato) {
+        this.dato = dato;
+    }
+
+    public int getDato() {
+        return dato;
+    }
+
+    public void setDato(int dato) {
+        this.dato = dato;
+    }
+
+    public NodoSimpleInt getSiguiente() {
+        return siguiente;
+    }
+
+    public void setSiguiente(NodoSimpleInt siguiente) {
+        this.siguiente = siguiente;
+    }
+
+    @Override
+    public String toString() {
+        return "NodoSimpleInt{" + "dato=" + dato + ", siguiente=" + siguiente + '}';
+    }
+
+}
@@ -0,0 +1,39 @@
+package listas_genericas;
+
+/**
+ * Nodo de una {@link ListaSimpleLong}. Guarda el dato como {@code long}
+ * primitivo, sin la caja de {@link Long}.
+ *
+ * @author Carlos Álvarez
+ */
+public class NodoSimpleLong {
+
+    private long dato;
+    private NodoSimpleLong siguiente;
+
+    public NodoSimpleLong(long dato) {
+        this.dato = dato;
+    }
+
+    public long getDato() {
+        return dato;
+    }
+
+    public void setDato(long dato) {
+        this.dato = dato;
+    }
+
+    public NodoSimpleLong getSiguiente() {
+        return siguiente;
+    }
+
+    public void setSiguiente(NodoSimpleLong siguiente) {
+        this.siguiente = siguiente;
+    }
+
+    @Override
+    public String toString() {
+        return "NodoSimpleLong{" + "dato=" + dato + ", siguiente=" + siguiente + '}';
+    }
+
+}
@@ -0,0 +1,260 @@
+package listas_genericas;
+
+import java.util.Comparator;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Operaciones masivas de {@link ListaSimple} ejecutadas con fork/join.
+ *
+ * La cadena se corta en los limites de tramo que registra
+ * {@link MarcasTramos}: cada tarea recorre de forma secuencial hasta
+ * {@value #TRAMOS_POR_TAREA} tramos consecutivos y los resultados parciales se
+ * combinan en el orden de la lista. Las tareas se ejecutan en el
+ * {@link java.util.concurrent.ForkJoinPool} desde el que se llama, o en el
+ * comun si se llama desde fuera de uno.
+ *
+ * @author Carlos Álvarez
+ */
+final class OperacionesParalelas {
+
+    static final int TRAMOS_POR_TAREA = 8;
+
+    /**
+     * Procesa de forma secuencial los nodos desde {@code desde} hasta
+     * {@code hasta}, sin incluirlo.
+     */
+    @FunctionalInterface
+    private interface Segmento<T, R> {
+
+        R procesar(NodoSimple<T> desde, NodoSimple<T> hasta);
+    }
+
+    /**
+     * Cadena de nodos terminada en {@code null}, con su primer y su ultimo
+     * nodo y su cantidad de nodos.
+     */
+    static final class Cadena<T> {
+
+        final NodoSimple<T> primero;
+        final NodoSimple<T> ultimo;
+        final int cantidad;
+
+        private Cadena(NodoSimple<T> primero, NodoSimple<T> ultimo, int cantidad) {
+            this.primero = primero;
+            this.ultimo = ultimo;
+            this.cantidad = cantidad;
+        }
+    }
+
+    /**
+     * Nodo a partir del cual sigue el ordenamiento de un segmento.
+     */
+    private static final class Cursor<T> {
+
+        private NodoSimple<T> nodo;
+    }
+
+    /**
+     * Las tareas nunca se serializan: solo viven dentro del pool que las
+     * ejecuta.
+     */
+    @SuppressWarnings("serial")
+    private static final class Tarea<T, R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final NodoSimple<T>[] inicios;
+        private final int desde;
+        private final int hasta;
+        private final Segmento<T, R> segmento;
+        private final BinaryOperator<R> combinador;
+
+        private Tarea(NodoSimple<T>[] inicios, int desde, int hasta, Segmento<T, R> segmento, BinaryOperator<R> combinador) {
+            this.inicios = inicios;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.segmento = segmento;
+            this.combinador = combinador;
+        }
+
+        @Override
+        protected R compute() {
+            if (hasta - desde <= TRAMOS_POR_TAREA) {
+                return segmento.procesar(inicios[desde], hasta < inicios.length ? inicios[hasta] : null);
+            }
+            int medio = (desde + hasta) >>> 1;
+            Tarea<T, R> izquierda = new Tarea<>(inicios, desde, medio, segmento, combinador);
+            izquierda.fork();
+            R derecha = new Tarea<>(inicios, medio, hasta, segmento, combinador).compute();
+            return combinador.apply(izquierda.join(), derecha);
+        }
+    }
+
+    private OperacionesParalelas() {
+    }
+
+    /**
+     * @return la cadena con los datos de los nodos que cumplen el predicado,
+     * en el mismo orden, o {@code null} si no hay ninguno.
+     */
+    static <T> Cadena<T> filtrar(NodoSimple<T>[] inicios, Predicate<? super T> predicado) {
+        return ejecutar(inicios, (desde, hasta) -> {
+            NodoSimple<T> primero = null;
+            NodoSimple<T> ultimo = null;
+            int cantidad = 0;
+            for (NodoSimple<T> p = desde; p != hasta; p = p.getSiguiente()) {
+                if (predicado.test(p.getDato())) {
+                    NodoSimple<T> nuevo = new NodoSimple<>(p.getDato());
+                    if (ultimo == null) {
+                        primero = nuevo;
+                    } else {
+                        ultimo.setSiguiente(nuevo);
+                    }
+                    ultimo = nuevo;
+                    cantidad++;
+                }
+            }
+            return primero == null ? null : new Cadena<>(primero, ultimo, cantidad);
+        }, OperacionesParalelas::concatenar);
+    }
+
+    /**
+     * @return la cadena con el resultado de aplicar la funcion a cada dato,
+     * en el mismo orden, o {@code null} si la lista esta vacia.
+     */
+    static <T, R> Cadena<R> mapear(NodoSimple<T>[] inicios, Function<? super T, ? extends R> funcion) {
+        return ejecutar(inicios, (desde, hasta) -> {
+            NodoSimple<R> primero = null;
+            NodoSimple<R> ultimo = null;
+            int cantidad = 0;
+            for (NodoSimple<T> p = desde; p != hasta; p = p.getSiguiente()) {
+                NodoSimple<R> nuevo = new NodoSimple<>(funcion.apply(p.getDato()));
+                if (ultimo == null) {
+                    primero = nuevo;
+                } else {
+                    ultimo.setSiguiente(nuevo);
+                }
+                ultimo = nuevo;
+                cantidad++;
+            }
+            return primero == null ? null : new Cadena<>(primero, ultimo, cantidad);
+        }, OperacionesParalelas::concatenar);
+    }
+
+    static <T, R> R reducir(NodoSimple<T>[] inicios, R identidad, BiFunction<R, ? super T, R> acumulador, BinaryOperator<R> combinador) {
+        return ejecutar(inicios, (desde, hasta) -> {
+            R resultado = identidad;
+            for (NodoSimple<T> p = desde; p != hasta; p = p.getSiguiente()) {
+                resultado = acumulador.apply(resultado, p.getDato());
+            }
+            return resultado;
+        }, combinador);
+    }
+
+    static <T> long contar(NodoSimple<T>[] inicios, Predicate<? super T> predicado) {
+        return ejecutar(inicios, (desde, hasta) -> {
+            long cantidad = 0;
+            for (NodoSimple<T> p = desde; p != hasta; p = p.getSiguiente()) {
+                if (predicado.test(p.getDato())) {
+                    cantidad++;
+                }
+            }
+            return cantidad;
+        }, Long::sum);
+    }
+
+    /**
+     * Ordena la cadena reenlazando sus nodos, sin copiarlos. Cada tarea
+     * separa sus tramos del resto de la cadena, los ordena con un merge sort
+     * sobre los enlaces y las cadenas ordenadas se mezclan de a pares al
+     * combinar las tareas. El orden es estable.
+     *
+     * @return la cadena ordenada.
+     */
+    static <T> Cadena<T> ordenar(NodoSimple<T>[] inicios, Comparator<? super T> comparador) {
+        return ejecutar(inicios, (desde, hasta) -> {
+            int cantidad = 1;
+            NodoSimple<T> ultimo = desde;
+            while (ultimo.getSiguiente() != hasta) {
+                ultimo = ultimo.getSiguiente();
+                cantidad++;
+            }
+            ultimo.setSiguiente(null);
+            Cursor<T> cursor = new Cursor<>();
+            cursor.nodo = desde;
+            return ordenar(cursor, cantidad, comparador);
+        }, (izquierda, derecha) -> mezclar(izquierda, derecha, comparador));
+    }
+
+    private static <T, R> R ejecutar(NodoSimple<T>[] inicios, Segmento<T, R> segmento, BinaryOperator<R> combinador) {
+        return new Tarea<>(inicios, 0, inicios.length, segmento, combinador).invoke();
+    }
+
+    private static <T> Cadena<T> concatenar(Cadena<T> izquierda, Cadena<T> derecha) {
+        if (izquierda == null) {
+            return derecha;
+        }
+        if (derecha == null) {
+            return izquierda;
+        }
+        izquierda.ultimo.setSiguiente(derecha.primero);
+        return new Cadena<>(izquierda.primero, derecha.ultimo, izquierda.cantidad + derecha.cantidad);
+    }
+
+    /**
+     * Ordena los {@code cantidad} nodos que siguen al cursor y lo deja en el
+     * nodo siguiente a ellos.
+     */
+    private static <T> Cadena<T> ordenar(Cursor<T> cursor, int cantidad, Comparator<? super T> comparador) {
+        if (cantidad == 1) {
+            NodoSimple<T> nodo = cursor.nodo;
+            cursor.nodo = nodo.getSiguiente();
+            nodo.setSiguiente(null);
+            return new Cadena<>(nodo, nodo, 1);
+        }
+        Cadena<T> izquierda = ordenar(cursor, cantidad / 2, comparador);
+        Cadena<T> derecha = ordenar(cursor, cantidad - cantidad / 2, comparador);
+        return mezclar(izquierda, derecha, comparador);
+    }
+
+    /**
+     * Mezcla dos cadenas ordenadas. Ante elementos iguales toma primero los
+     * de la izquierda.
+     */
+    private static <T> Cadena<T> mezclar(Cadena<T> izquierda, Cadena<T> derecha, Comparator<? super T> comparador) {
+        int cantidad = izquierda.cantidad + derecha.cantidad;
+        NodoSimple<T> a = izquierda.primero;
+        NodoSimple<T> b = derecha.primero;
+        NodoSimple<T> primero;
+        if (comparador.compare(a.getDato(), b.getDato()) <= 0) {
+            primero = a;
+            a = a.getSiguiente();
+        } else {
+            primero = b;
+            b = b.getSiguiente();
+        }
+        NodoSimple<T> ultimo = primero;
+        while (a != null && b != null) {
+            if (comparador.compare(a.getDato(), b.getDato()) <= 0) {
+                ultimo.setSiguiente(a);
+                ultimo = a;
+                a = a.getSiguiente();
+            } else {
+                ultimo.setSiguiente(b);
+                ultimo = b;
+                b = b.getSiguiente();
+            }
+        }
+        if (a != null) {
+            ultimo.setSiguiente(a);
+            return new Cadena<>(primero, izquierda.ultimo, cantidad);
+        }
+        ultimo.setSiguiente(b);
+        return new Cadena<>(primero, b != null ? derecha.ultimo : ultimo, cantidad);
+    }
+
+}
@@ -0,0 +1,104 @@
+package listas_genericas;
+
+/**
+ * Politica de una {@link CacheLista}: decide como se reorganiza la lista con
+ * cada acierto y si un elemento nuevo entra cuando la cache esta llena.
+ *
+ * La cache mantiene sus elementos en una {@link ListaSimple} indexada y
+ * siempre desaloja el ultimo nodo, de modo que cada politica expresa su orden
+ * de preferencia moviendo nodos con {@link ListaSimple#moverAlFrente} y
+ * {@link ListaSimple#moverDespues}, que con el indice activo son O(1). Los
+ * elementos nuevos se insertan al frente y la politica puede reubicarlos en
+ * {@link #insertado}.
+ *
+ * Las politicas de {@link #lfu()} y {@link #tinyLfu(int)} guardan estado
+ * propio, por lo que cada cache necesita su propia instancia.
+ *
+ * @param <T> el tipo de dato almacenado en la cache.
+ * @author Carlos Álvarez
+ */
+public interface PoliticaDesalojo<T> {
+
+    /**
+     * Reorganiza la lista despues de encontrar un elemento.
+     *
+     * @param lista la lista de la cache.
+     * @param nodo el nodo encontrado.
+     */
+    void acierto(ListaSimple<T> lista, NodoSimple<T> nodo);
+
+    /**
+     * Recibe un elemento recien insertado al frente de la lista.
+     *
+     * @param lista la lista de la cache.
+     * @param nodo el nodo insertado, que es el primero de la lista.
+     */
+    default void insertado(ListaSimple<T> lista, NodoSimple<T> nodo) {
+    }
+
+    /**
+     * Recibe un elemento que va a salir de la cache, por desalojo o porque se
+     * quito. Se llama antes de desengancharlo.
+     *
+     * @param nodo el nodo que sale.
+     */
+    default void quitado(NodoSimple<T> nodo) {
+    }
+
+    /**
+     * Se llama con cada consulta a la cache, encuentre o no el elemento, y
+     * con cada {@link CacheLista#poner}.
+     *
+     * @param clave la clave consultada.
+     */
+    default void accedido(Object clave) {
+    }
+
+    /**
+     * Decide si un elemento nuevo entra a la cache llena, desalojando al
+     * ultimo de la lista.
+     *
+     * @param claveNueva la clave del elemento nuevo.
+     * @param claveVictima la clave del ultimo elemento de la lista.
+     * @return si el elemento nuevo debe entrar.
+     */
+    default boolean admitir(Object claveNueva, Object claveVictima) {
+        return true;
+    }
+
+    /**
+     * @return la politica LRU: cada acierto mueve el elemento al frente y se
+     * desaloja el usado hace mas tiempo.
+     */
+    static <T> PoliticaDesalojo<T> lru() {
+        return new DesalojoLru<>();
+    }
+
+    /**
+     * @return la politica de transposicion: cada acierto adelanta el elemento
+     * un solo lugar, de modo que solo los muy consultados llegan al frente.
+     */
+    static <T> PoliticaDesalojo<T> transposicion() {
+        return new DesalojoTransposicion<>();
+    }
+
+    /**
+     * @return la politica LFU: la lista queda ordenada por cantidad de
+     * aciertos y se desaloja el menos consultado; entre iguales, el que lleva
+     * mas tiempo sin consultarse.
+     */
+    static <T> PoliticaDesalojo<T> lfu() {
+        return new DesalojoLfu<>();
+    }
+
+    /**
+     * @param capacidad la capacidad de la cache, para dimensionar el
+     * contador de frecuencias.
+     * @return la politica LRU con admision TinyLFU: un elemento nuevo solo
+     * entra a la cache llena si se consulto mas veces que el que desalojaria.
+     */
+    static <T> PoliticaDesalojo<T> tinyLfu(int capacidad) {
+        return new DesalojoTinyLfu<>(capacidad);
+    }
+
+}
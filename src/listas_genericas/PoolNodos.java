@@ -0,0 +1,124 @@
+package listas_genericas;
+
+/**
+ * Pool acotado de nodos libres de una {@link ListaSimple}, para reutilizar
+ * los nodos de los elementos eliminados en las inserciones siguientes en
+ * lugar de crear nodos nuevos.
+ *
+ * Un nodo que vuelve al pool pierde su dato y su siguiente, para no retener
+ * objetos que ya no estan en la lista. Si el pool esta lleno, el nodo se
+ * descarta y queda para el recolector.
+ *
+ * Igual que la lista, no es seguro para usar desde varios hilos a la vez.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+public final class PoolNodos<T> {
+
+    private final NodoSimple<T>[] libres;
+    private int cantidad;
+    private long pedidos;
+    private long reutilizados;
+    private long devueltos;
+    private long descartados;
+
+    /**
+     * @param capacidad la cantidad maxima de nodos libres que se guardan.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    @SuppressWarnings("unchecked")
+    PoolNodos(int capacidad) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad del pool debe ser mayor a 0.");
+        }
+        this.libres = (NodoSimple<T>[]) new NodoSimple<?>[capacidad];
+    }
+
+    /**
+     * @param dato el dato del nodo.
+     * @return un nodo libre con ese dato, o uno nuevo si no hay libres.
+     */
+    NodoSimple<T> obtener(T dato) {
+        pedidos++;
+        if (cantidad == 0) {
+            return new NodoSimple<>(dato);
+        }
+        reutilizados++;
+        NodoSimple<T> nodo = libres[--cantidad];
+        libres[cantidad] = null;
+        nodo.setDato(dato);
+        return nodo;
+    }
+
+    /**
+     * Devuelve al pool un nodo que ya no esta en ninguna lista.
+     *
+     * @param nodo el nodo libre.
+     */
+    void devolver(NodoSimple<T> nodo) {
+        nodo.setDato(null);
+        nodo.setSiguiente(null);
+        if (cantidad == libres.length) {
+            descartados++;
+            return;
+        }
+        devueltos++;
+        libres[cantidad++] = nodo;
+    }
+
+    public int getCapacidad() {
+        return libres.length;
+    }
+
+    /**
+     * @return la cantidad de nodos libres disponibles.
+     */
+    public int getDisponibles() {
+        return cantidad;
+    }
+
+    /**
+     * @return la cantidad de nodos pedidos para insertar.
+     */
+    public long getPedidos() {
+        return pedidos;
+    }
+
+    /**
+     * @return la cantidad de pedidos que se resolvieron con un nodo libre.
+     */
+    public long getReutilizados() {
+        return reutilizados;
+    }
+
+    /**
+     * @return la cantidad de nodos que volvieron al pool.
+     */
+    public long getDevueltos() {
+        return devueltos;
+    }
+
+    /**
+     * @return la cantidad de nodos liberados que no entraron porque el pool
+     * estaba lleno.
+     */
+    public long getDescartados() {
+        return descartados;
+    }
+
+    /**
+     * @return la fraccion de pedidos que reutilizaron un nodo, entre 0 y 1.
+     */
+    public double getTasaAciertos() {
+        return pedidos == 0 ? 0 : (double) reutilizados / pedidos;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolNodos{disponibles=" + cantidad + "/" + libres.length + ", pedidos=" + pedidos
+                + ", reutilizados=" + reutilizados + String.format(" (%.1f%%)", getTasaAciertos() * 100)
+                + ", descartados=" + descartados + '}';
+    }
+
+}
@@ -0,0 +1,97 @@
+package listas_genericas;
+
+/**
+ * Estimador aproximado de la frecuencia de consulta de cada clave (un
+ * count-min sketch), que usa {@link DesalojoTinyLfu} para decidir la
+ * admision de elementos nuevos sin guardar un contador por clave.
+ *
+ * Cada clave incrementa un contador en cada una de {@value #FILAS} filas y
+ * su frecuencia estimada es el minimo de esos contadores, que nunca es menor
+ * a la real. Los contadores se saturan en {@value #MAXIMO} y, cada vez que se
+ * registran diez consultas por cada elemento de la cache, todos se dividen
+ * por dos, de modo que el historial antiguo pierde peso y la estimacion sigue
+ * los cambios de popularidad.
+ *
+ * @author Carlos Álvarez
+ */
+final class SketchFrecuencias {
+
+    static final int FILAS = 4;
+    static final int MAXIMO = 15;
+
+    private static final int[] SEMILLAS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int[][] contadores;
+    private final int mascara;
+    private final int periodo;
+    private int registradas;
+
+    /**
+     * @param capacidad la capacidad de la cache.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    SketchFrecuencias(int capacidad) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor a 0.");
+        }
+        int ancho = Integer.highestOneBit(Math.max(16, Math.min(capacidad, 1 << 26)) * 2 - 1);
+        this.contadores = new int[FILAS][ancho];
+        this.mascara = ancho - 1;
+        this.periodo = capacidad > Integer.MAX_VALUE / 10 ? Integer.MAX_VALUE : capacidad * 10;
+    }
+
+    /**
+     * Registra una consulta de la clave.
+     *
+     * @param clave la clave consultada.
+     */
+    void registrar(Object clave) {
+        int hash = dispersar(clave);
+        for (int fila = 0; fila < FILAS; fila++) {
+            int[] contadoresFila = contadores[fila];
+            int posicion = posicion(hash, fila);
+            if (contadoresFila[posicion] < MAXIMO) {
+                contadoresFila[posicion]++;
+            }
+        }
+        if (++registradas == periodo) {
+            envejecer();
+        }
+    }
+
+    /**
+     * @param clave la clave.
+     * @return la cantidad estimada de consultas recientes de la clave.
+     */
+    int frecuencia(Object clave) {
+        int hash = dispersar(clave);
+        int minimo = MAXIMO;
+        for (int fila = 0; fila < FILAS; fila++) {
+            minimo = Math.min(minimo, contadores[fila][posicion(hash, fila)]);
+        }
+        return minimo;
+    }
+
+    /**
+     * Divide todos los contadores por dos.
+     */
+    private void envejecer() {
+        for (int[] contadoresFila : contadores) {
+            for (int i = 0; i < contadoresFila.length; i++) {
+                contadoresFila[i] >>>= 1;
+            }
+        }
+        registradas /= 2;
+    }
+
+    private int posicion(int hash, int fila) {
+        int h = hash * SEMILLAS[fila];
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    private static int dispersar(Object clave) {
+        int h = clave == null ? 0 : clave.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+}
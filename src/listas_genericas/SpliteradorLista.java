@@ -0,0 +1,94 @@
+package listas_genericas;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link Spliterator} sobre los nodos de una {@link ListaSimple} que se parte
+ * en los limites de tramo registrados por {@link MarcasTramos}, sin recorrer
+ * la lista. Cada division entrega la primera mitad de los tramos restantes,
+ * por lo que un stream paralelo reparte la lista en O(log n) divisiones.
+ *
+ * No admite modificaciones de la lista mientras se usa.
+ *
+ * @param <T> el tipo de dato almacenado en la lista.
+ * @author Carlos Álvarez
+ */
+class SpliteradorLista<T> implements Spliterator<T> {
+
+    private NodoSimple<T> actual;
+    private final NodoSimple<T> fin;
+    private final NodoSimple<T>[] limites;
+    private int desde;
+    private final int hasta;
+
+    /**
+     * @param actual el primer nodo a recorrer.
+     * @param fin el nodo donde termina el recorrido, sin incluirlo, o
+     * {@code null} para llegar al final de la lista.
+     * @param limites los limites de tramo de la lista, en orden.
+     * @param desde el primer limite posterior a {@code actual}.
+     * @param hasta el limite igual a {@code fin}, o la cantidad de limites.
+     */
+    SpliteradorLista(NodoSimple<T> actual, NodoSimple<T> fin, NodoSimple<T>[] limites, int desde, int hasta) {
+        this.actual = actual;
+        this.fin = fin;
+        this.limites = limites;
+        this.desde = desde;
+        this.hasta = hasta;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> accion) {
+        if (actual == null || actual == fin) {
+            return false;
+        }
+        T dato = actual.getDato();
+        avanzar();
+        accion.accept(dato);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> accion) {
+        NodoSimple<T> p = actual;
+        actual = fin;
+        desde = hasta;
+        for (; p != null && p != fin; p = p.getSiguiente()) {
+            accion.accept(p.getDato());
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (desde >= hasta || actual == null || actual == fin) {
+            return null;
+        }
+        int medio = (desde + hasta) >>> 1;
+        SpliteradorLista<T> prefijo = new SpliteradorLista<>(actual, limites[medio], limites, desde, medio);
+        actual = limites[medio];
+        desde = medio + 1;
+        return prefijo;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (actual == null || actual == fin) {
+            return 0;
+        }
+        return (long) (hasta - desde + 1) * MarcasTramos.TAMANIO_TRAMO;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    private void avanzar() {
+        actual = actual.getSiguiente();
+        if (desde < hasta && actual == limites[desde]) {
+            desde++;
+        }
+    }
+
+}
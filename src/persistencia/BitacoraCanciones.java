@@ -0,0 +1,687 @@
+package persistencia;
+
+import entidades.Cancion;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+
+/**
+ * Bitacora de escritura anticipada (write-ahead log) para una
+ * {@link ListaSimple} de canciones.
+ *
+ * Cada insercion, eliminacion o actualizacion hecha a traves de la bitacora se
+ * agrega al final del archivo como un registro binario con su largo y su
+ * CRC32C, antes de aplicarse sobre la lista. Al abrir la bitacora se
+ * reproducen todos los registros para reconstruir la lista; si el ultimo
+ * registro quedo escrito a medias (por ejemplo por un corte de energia), se
+ * descarta y el archivo se trunca en el ultimo registro valido. La cantidad de
+ * bytes descartados queda en {@link #getBytesDescartados()}.
+ *
+ * Las escrituras usan commit en grupo: los registros se acumulan en un buffer
+ * y el primer hilo que necesita durabilidad escribe y fuerza a disco todo lo
+ * acumulado con un unico {@link FileChannel#force}, mientras los demas hilos
+ * esperan ese mismo force. Con {@link #setEsperarDurabilidad(boolean)} en
+ * {@code false} las operaciones vuelven sin esperar y el force ocurre en el
+ * siguiente {@link #sincronizar()}.
+ *
+ * Cuando el archivo acumula muchos mas registros que canciones vivas, se
+ * compacta: se reescribe con una insercion por cancion y reemplaza al archivo
+ * anterior de forma atomica.
+ *
+ * La lista debe modificarse solo a traves de la bitacora mientras esta este
+ * abierta, y debe comparar las canciones por una clave (por ejemplo
+ * {@code Cancion::getTitulo}), ya que al reproducir las eliminaciones y
+ * actualizaciones las canciones se ubican por esa clave.
+ *
+ * @author Carlos Álvarez
+ */
+public class BitacoraCanciones implements Closeable {
+
+    static final int LARGO_ENCABEZADO = 8;
+
+    private static final int IDENTIFICADOR = 0x5745534C; // "LSEW"
+    private static final int VERSION = 1;
+    private static final int LARGO_CABECERA_REGISTRO = 8;
+    private static final int TAMANIO_BUFFER = 1 << 16;
+    private static final long UMBRAL_COMPACTACION_POR_DEFECTO = 1 << 20;
+
+    private static final byte INSERTAR = 1;
+    private static final byte ELIMINAR = 2;
+    private static final byte ACTUALIZAR = 3;
+
+    private final Path archivo;
+    private final ListaSimple<Cancion> lista;
+    private final CRC32C crc = new CRC32C();
+    private FileChannel canal;
+
+    // Registros agregados que todavia no se escribieron, y el buffer libre
+    // para el proximo intercambio (null mientras hay una escritura en curso).
+    private ByteBuffer pendiente = nuevoBuffer(TAMANIO_BUFFER);
+    private ByteBuffer libre = nuevoBuffer(TAMANIO_BUFFER);
+
+    private long secuencia;
+    private long durable;
+    private boolean escribiendo;
+    private IOException falla;
+
+    private boolean esperarDurabilidad = true;
+    private long umbralCompactacion = UMBRAL_COMPACTACION_POR_DEFECTO;
+    private long registros;
+    private long vivas;
+    private long grupos;
+    private long compactaciones;
+    private long bytesDescartados;
+
+    private BitacoraCanciones(Path archivo, ListaSimple<Cancion> lista) {
+        this.archivo = archivo;
+        this.lista = lista;
+    }
+
+    /**
+     * Abre la bitacora de un archivo, creandolo si no existe, y reproduce sus
+     * registros al frente de la lista.
+     *
+     * @param archivo el archivo de la bitacora.
+     * @param lista la lista a reconstruir. Normalmente esta vacia.
+     * @return la bitacora abierta, lista para registrar operaciones.
+     * @throws IOException si el archivo no se puede leer o no es una
+     * bitacora.
+     */
+    public static BitacoraCanciones abrir(Path archivo, ListaSimple<Cancion> lista) throws IOException {
+        BitacoraCanciones bitacora = new BitacoraCanciones(archivo, lista);
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (canal.size() == 0) {
+                escribirEncabezado(canal);
+                canal.force(true);
+            } else {
+                long fin = bitacora.reproducir(canal);
+                if (fin < canal.size()) {
+                    bitacora.bytesDescartados = canal.size() - fin;
+                    canal.truncate(fin);
+                    canal.force(true);
+                }
+            }
+            canal.position(canal.size());
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+        bitacora.canal = canal;
+        return bitacora;
+    }
+
+    /**
+     * Registra e inserta una cancion al frente de la lista.
+     *
+     * @param cancion la cancion a insertar.
+     * @throws IOException si no se pudo escribir la bitacora.
+     */
+    public void insertarFrente(Cancion cancion) throws IOException {
+        long registro;
+        synchronized (this) {
+            verificarAbierta();
+            registro = agregar(INSERTAR, cancion, null);
+            lista.insertarFrente(cancion);
+            vivas++;
+            compactarSiCorresponde();
+        }
+        confirmar(registro);
+    }
+
+    /**
+     * Registra y elimina de la lista la primera cancion con la misma clave
+     * que la buscada.
+     *
+     * @param buscada la cancion a eliminar.
+     * @return el nodo eliminado, o {@code null} si no habia ninguna cancion
+     * con esa clave. En ese caso no se registra nada.
+     * @throws IOException si no se pudo escribir la bitacora.
+     */
+    public NodoSimple<Cancion> eliminar(Cancion buscada) throws IOException {
+        long registro;
+        NodoSimple<Cancion> eliminado;
+        synchronized (this) {
+            verificarAbierta();
+            NodoSimple<Cancion> encontrado = lista.buscar(buscada);
+            if (encontrado == null) {
+                return null;
+            }
+            registro = agregar(ELIMINAR, encontrado.getDato(), null);
+            eliminado = lista.eliminar(buscada);
+            vivas--;
+            compactarSiCorresponde();
+        }
+        confirmar(registro);
+        return eliminado;
+    }
+
+    /**
+     * Registra e inserta varias canciones al frente de la lista, en el orden
+     * de iteracion, esperando un unico force.
+     *
+     * @param canciones las canciones a insertar.
+     * @return la cantidad de canciones insertadas.
+     * @throws IOException si no se pudo escribir la bitacora.
+     */
+    public int insertarTodos(Iterable<Cancion> canciones) throws IOException {
+        List<Cancion> nuevas = new ArrayList<>();
+        canciones.forEach(nuevas::add);
+        if (nuevas.isEmpty()) {
+            return 0;
+        }
+        long registro;
+        synchronized (this) {
+            verificarAbierta();
+            // Al reproducir, cada insercion va al frente: se registran en
+            // orden inverso para que queden en el orden de iteracion.
+            for (int i = nuevas.size() - 1; i >= 0; i--) {
+                pendiente = codificar(pendiente, INSERTAR, nuevas.get(i), null);
+            }
+            registro = agregados(nuevas.size());
+            lista.insertarTodos(nuevas);
+            vivas += nuevas.size();
+            compactarSiCorresponde();
+        }
+        confirmar(registro);
+        return nuevas.size();
+    }
+
+    /**
+     * Registra y elimina de la lista todas las canciones cuya clave esta en
+     * la coleccion, en una sola pasada y esperando un unico force.
+     *
+     * @param claves las claves de las canciones a eliminar, por ejemplo sus
+     * titulos.
+     * @return la cantidad de canciones eliminadas.
+     * @throws IOException si no se pudo escribir la bitacora.
+     */
+    public int eliminarTodos(Collection<?> claves) throws IOException {
+        long registro;
+        int eliminadas;
+        synchronized (this) {
+            verificarAbierta();
+            eliminadas = lista.eliminarTodos(claves,
+                    cancion -> pendiente = codificar(pendiente, ELIMINAR, cancion, null));
+            if (eliminadas == 0) {
+                return 0;
+            }
+            registro = agregados(eliminadas);
+            vivas -= eliminadas;
+            compactarSiCorresponde();
+        }
+        confirmar(registro);
+        return eliminadas;
+    }
+
+    /**
+     * Registra y aplica nuevos datos a la cancion de un nodo, y reindexa el
+     * nodo en la lista. Los datos se copian con los setters de la cancion,
+     * por lo que sus observadores se enteran del cambio.
+     *
+     * @param nodo el nodo cuya cancion se actualiza.
+     * @param nueva una cancion con los datos nuevos, por ejemplo una copia
+     * editada con {@link Cancion#actualizarDatos()}.
+     * @throws IOException si no se pudo escribir la bitacora. En ese caso la
+     * cancion no se modifica.
+     * @throws IllegalArgumentException si algun dato nuevo no es valido. En
+     * ese caso no se registra nada.
+     */
+    public void actualizar(NodoSimple<Cancion> nodo, Cancion nueva) throws IOException {
+        long registro;
+        synchronized (this) {
+            verificarAbierta();
+            Cancion actual = nodo.getDato();
+            // Se validan los datos sobre una copia para no registrar un
+            // cambio que despues no se podria aplicar ni reproducir.
+            copiarDatos(nueva, new Cancion(actual.getTitulo(), actual.getArtista(),
+                    actual.getDuracion(), actual.getGenero()));
+            registro = agregar(ACTUALIZAR, actual, nueva);
+            copiarDatos(nueva, actual);
+            lista.reindexar(nodo);
+            compactarSiCorresponde();
+        }
+        confirmar(registro);
+    }
+
+    /**
+     * Escribe y fuerza a disco todos los registros agregados hasta el
+     * momento.
+     *
+     * @throws IOException si no se pudo escribir la bitacora.
+     */
+    public void sincronizar() throws IOException {
+        long registro;
+        synchronized (this) {
+            verificarAbierta();
+            registro = secuencia;
+        }
+        esperarDurable(registro);
+    }
+
+    /**
+     * Reescribe la bitacora con una insercion por cada cancion de la lista,
+     * en un archivo nuevo que reemplaza al actual de forma atomica.
+     *
+     * @throws IOException si no se pudo escribir el archivo nuevo. En ese caso
+     * la bitacora anterior sigue siendo valida.
+     */
+    public synchronized void compactar() throws IOException {
+        verificarAbierta();
+        esperarFinEscritura();
+
+        List<Cancion> canciones = new ArrayList<>();
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            canciones.add(p.getDato());
+        }
+
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".compactando");
+        try (FileChannel nuevo = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            escribirEncabezado(nuevo);
+            ByteBuffer buffer = nuevoBuffer(TAMANIO_BUFFER);
+            // Se escriben de atras hacia adelante para que al reproducirlas
+            // con insertarFrente queden en el mismo orden.
+            for (int i = canciones.size() - 1; i >= 0; i--) {
+                buffer = codificar(buffer, INSERTAR, canciones.get(i), null);
+                if (buffer.position() >= TAMANIO_BUFFER) {
+                    escribirTodo(nuevo, buffer);
+                }
+            }
+            escribirTodo(nuevo, buffer);
+            nuevo.force(true);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        SnapshotCanciones.forzarDirectorio(archivo);
+
+        canal.close();
+        canal = FileChannel.open(archivo, StandardOpenOption.WRITE);
+        canal.position(canal.size());
+        pendiente.clear();
+        registros = canciones.size();
+        vivas = canciones.size();
+        durable = secuencia;
+        compactaciones++;
+    }
+
+    /**
+     * Fuerza a disco los registros pendientes y cierra el archivo.
+     *
+     * @throws IOException si no se pudieron escribir los registros
+     * pendientes.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (canal == null) {
+            return;
+        }
+        try {
+            esperarFinEscritura();
+            if (falla == null) {
+                escribirTodo(canal, pendiente);
+                canal.force(false);
+                durable = secuencia;
+            }
+        } finally {
+            canal.close();
+            canal = null;
+            notifyAll();
+        }
+    }
+
+    public synchronized boolean isEsperarDurabilidad() {
+        return esperarDurabilidad;
+    }
+
+    /**
+     * @param esperarDurabilidad si cada operacion espera a que su registro
+     * este forzado a disco antes de volver.
+     */
+    public synchronized void setEsperarDurabilidad(boolean esperarDurabilidad) {
+        this.esperarDurabilidad = esperarDurabilidad;
+    }
+
+    public synchronized long getUmbralCompactacion() {
+        return umbralCompactacion;
+    }
+
+    /**
+     * @param umbralCompactacion la cantidad de registros a partir de la cual
+     * la bitacora se compacta automaticamente, si ademas tiene al menos el
+     * doble de registros que canciones vivas.
+     */
+    public synchronized void setUmbralCompactacion(long umbralCompactacion) {
+        if (umbralCompactacion < 1) {
+            throw new IllegalArgumentException("El umbral de compactacion debe ser mayor a 0.");
+        }
+        this.umbralCompactacion = umbralCompactacion;
+    }
+
+    /**
+     * @return la cantidad de registros del archivo, incluidos los que aun no
+     * se escribieron.
+     */
+    public synchronized long getRegistros() {
+        return registros;
+    }
+
+    /**
+     * @return la cantidad de forces hechos por commit en grupo. Comparada con
+     * la cantidad de operaciones indica cuantos registros se confirman, en
+     * promedio, con cada force.
+     */
+    public synchronized long getGrupos() {
+        return grupos;
+    }
+
+    public synchronized long getCompactaciones() {
+        return compactaciones;
+    }
+
+    /**
+     * @return la cantidad de bytes que se descartaron al abrir la bitacora,
+     * desde el primer registro incompleto o con CRC invalido hasta el final
+     * del archivo. Es 0 si el archivo estaba completo.
+     */
+    public synchronized long getBytesDescartados() {
+        return bytesDescartados;
+    }
+
+    /**
+     * Agrega un registro al buffer pendiente. Se llama con el monitor tomado.
+     *
+     * @return el numero de secuencia del registro.
+     */
+    private long agregar(byte tipo, Cancion cancion, Cancion otra) throws IOException {
+        pendiente = codificar(pendiente, tipo, cancion, otra);
+        return agregados(1);
+    }
+
+    /**
+     * Cuenta los registros recien codificados en el buffer pendiente.
+     *
+     * @return la secuencia del ultimo de ellos.
+     */
+    private long agregados(int cantidad) throws IOException {
+        // Si nadie esta escribiendo y el buffer ya es grande, se escribe sin
+        // forzar para que no crezca indefinidamente.
+        if (!escribiendo && pendiente.position() >= TAMANIO_BUFFER) {
+            escribirTodo(canal, pendiente);
+        }
+        registros += cantidad;
+        secuencia += cantidad;
+        return secuencia;
+    }
+
+    private void confirmar(long registro) throws IOException {
+        boolean esperar;
+        synchronized (this) {
+            esperar = esperarDurabilidad;
+        }
+        if (esperar) {
+            esperarDurable(registro);
+        }
+    }
+
+    /**
+     * Espera a que el registro indicado este forzado a disco. Si no hay otra
+     * escritura en curso, este hilo escribe y fuerza todo lo pendiente, que
+     * puede incluir registros de otros hilos.
+     */
+    private void esperarDurable(long registro) throws IOException {
+        ByteBuffer lote;
+        long hasta;
+        synchronized (this) {
+            while (true) {
+                if (durable >= registro) {
+                    return;
+                }
+                verificarAbierta();
+                if (!escribiendo) {
+                    break;
+                }
+                esperar();
+            }
+            escribiendo = true;
+            lote = pendiente;
+            pendiente = libre;
+            libre = null;
+            hasta = secuencia;
+        }
+
+        IOException error = null;
+        try {
+            escribirTodo(canal, lote);
+            canal.force(false);
+        } catch (IOException e) {
+            error = e;
+        }
+
+        synchronized (this) {
+            lote.clear();
+            libre = lote;
+            escribiendo = false;
+            if (error == null) {
+                durable = Math.max(durable, hasta);
+                grupos++;
+            } else {
+                falla = error;
+            }
+            notifyAll();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void compactarSiCorresponde() throws IOException {
+        if (registros >= umbralCompactacion && registros >= 2 * vivas) {
+            compactar();
+        }
+    }
+
+    private void esperarFinEscritura() throws IOException {
+        while (escribiendo) {
+            esperar();
+        }
+    }
+
+    private void esperar() throws IOException {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrumpido esperando la bitacora");
+        }
+    }
+
+    private void verificarAbierta() throws IOException {
+        if (falla != null) {
+            throw new IOException("La bitacora fallo al escribir y no acepta mas operaciones", falla);
+        }
+        if (canal == null) {
+            throw new IOException("La bitacora esta cerrada");
+        }
+    }
+
+    /**
+     * Reproduce los registros del archivo sobre la lista, hasta el final o
+     * hasta el primer registro incompleto o con CRC invalido.
+     *
+     * @return la posicion siguiente al ultimo registro valido.
+     */
+    private long reproducir(FileChannel canal) throws IOException {
+        long tamanio = canal.size();
+        ByteBuffer encabezado = ByteBuffer.allocate(LARGO_ENCABEZADO).order(ByteOrder.LITTLE_ENDIAN);
+        while (encabezado.hasRemaining() && canal.read(encabezado, encabezado.position()) > 0) {
+            // se sigue leyendo hasta completar el encabezado
+        }
+        encabezado.flip();
+        if (encabezado.remaining() < LARGO_ENCABEZADO || encabezado.getInt() != IDENTIFICADOR) {
+            throw new IOException("El archivo no es una bitacora de canciones: " + archivo);
+        }
+        int version = encabezado.getInt();
+        if (version != VERSION) {
+            throw new IOException("Version de bitacora no soportada: " + version);
+        }
+
+        SnapshotCanciones.LectorRegiones lector = new SnapshotCanciones.LectorRegiones(canal, tamanio);
+        long posicion = LARGO_ENCABEZADO;
+        while (posicion + LARGO_CABECERA_REGISTRO <= tamanio) {
+            ByteBuffer region = lector.region(posicion, LARGO_CABECERA_REGISTRO);
+            int largo = region.getInt(lector.relativa(posicion));
+            int crcEsperado = region.getInt(lector.relativa(posicion) + 4);
+            if (largo < 1 || largo > tamanio - posicion - LARGO_CABECERA_REGISTRO) {
+                break;
+            }
+            region = lector.region(posicion, LARGO_CABECERA_REGISTRO + largo);
+            int inicio = lector.relativa(posicion) + LARGO_CABECERA_REGISTRO;
+            crc.reset();
+            crc.update(region.duplicate().position(inicio).limit(inicio + largo));
+            if ((int) crc.getValue() != crcEsperado) {
+                break;
+            }
+            aplicar(region, inicio);
+            registros++;
+            posicion += LARGO_CABECERA_REGISTRO + largo;
+        }
+        return posicion;
+    }
+
+    private void aplicar(ByteBuffer region, int posicion) throws IOException {
+        byte tipo = region.get(posicion);
+        Cancion cancion = SnapshotCanciones.decodificar(region, posicion + 1, null);
+        switch (tipo) {
+            case INSERTAR:
+                lista.insertarFrente(cancion);
+                vivas++;
+                break;
+            case ELIMINAR:
+                NodoSimple<Cancion> eliminado = lista.eliminar(cancion);
+                if (eliminado != null) {
+                    lista.liberar(eliminado);
+                    vivas--;
+                }
+                break;
+            case ACTUALIZAR:
+                NodoSimple<Cancion> nodo = lista.buscar(cancion);
+                if (nodo != null) {
+                    copiarDatos(SnapshotCanciones.decodificar(region, saltarCancion(region, posicion + 1), null), nodo.getDato());
+                    lista.reindexar(nodo);
+                }
+                break;
+            default:
+                throw new IOException("Tipo de registro desconocido: " + tipo);
+        }
+    }
+
+    /**
+     * Copia en la cancion de la lista los datos que cambiaron, usando sus
+     * setters para que los observadores de la cancion se enteren.
+     */
+    private static void copiarDatos(Cancion origen, Cancion destino) {
+        if (!Objects.equals(origen.getTitulo(), destino.getTitulo())) {
+            destino.setTitulo(origen.getTitulo());
+        }
+        if (!Objects.equals(origen.getArtista(), destino.getArtista())) {
+            destino.setArtista(origen.getArtista());
+        }
+        if (Float.compare(origen.getDuracion(), destino.getDuracion()) != 0) {
+            destino.setDuración(origen.getDuracion());
+        }
+        if (!Objects.equals(origen.getGenero(), destino.getGenero())) {
+            destino.setGenero(origen.getGenero());
+        }
+    }
+
+    /**
+     * @return la posicion siguiente a la cancion codificada en
+     * {@code posicion}.
+     */
+    private static int saltarCancion(ByteBuffer region, int posicion) {
+        for (int campo = 0; campo < 3; campo++) {
+            posicion += 4 + Math.max(region.getInt(posicion), 0);
+            if (campo == 1) {
+                posicion += 4;
+            }
+        }
+        return posicion;
+    }
+
+    /**
+     * Agrega un registro al buffer, agrandandolo si hace falta. El registro
+     * es {@code [largo][crc][tipo][cancion][otra]}, con cada cancion
+     * codificada como en {@link SnapshotCanciones}.
+     *
+     * @return el buffer, que puede ser uno nuevo.
+     */
+    private ByteBuffer codificar(ByteBuffer buffer, byte tipo, Cancion cancion, Cancion otra) {
+        byte[][] textos = new byte[6][];
+        int largo = 1 + textos(cancion, textos, 0) + (otra == null ? 0 : textos(otra, textos, 3));
+        if (buffer.remaining() < LARGO_CABECERA_REGISTRO + largo) {
+            ByteBuffer mayor = nuevoBuffer(Math.max(buffer.capacity() * 2, buffer.position() + LARGO_CABECERA_REGISTRO + largo));
+            buffer.flip();
+            buffer = mayor.put(buffer);
+        }
+
+        int inicio = buffer.position();
+        buffer.putInt(largo).putInt(0).put(tipo);
+        escribirCancion(buffer, cancion, textos, 0);
+        if (otra != null) {
+            escribirCancion(buffer, otra, textos, 3);
+        }
+        crc.reset();
+        crc.update(buffer.array(), buffer.arrayOffset() + inicio + LARGO_CABECERA_REGISTRO, largo);
+        buffer.putInt(inicio + 4, (int) crc.getValue());
+        return buffer;
+    }
+
+    private static int textos(Cancion cancion, byte[][] textos, int desde) {
+        textos[desde] = SnapshotCanciones.bytes(cancion.getTitulo());
+        textos[desde + 1] = SnapshotCanciones.bytes(cancion.getArtista());
+        textos[desde + 2] = SnapshotCanciones.bytes(cancion.getGenero());
+        return 4 * 4 + SnapshotCanciones.largo(textos[desde]) + SnapshotCanciones.largo(textos[desde + 1])
+                + SnapshotCanciones.largo(textos[desde + 2]);
+    }
+
+    private static void escribirCancion(ByteBuffer buffer, Cancion cancion, byte[][] textos, int desde) {
+        SnapshotCanciones.escribir(buffer, textos[desde]);
+        SnapshotCanciones.escribir(buffer, textos[desde + 1]);
+        buffer.putFloat(cancion.getDuracion());
+        SnapshotCanciones.escribir(buffer, textos[desde + 2]);
+    }
+
+    private static void escribirEncabezado(FileChannel canal) throws IOException {
+        ByteBuffer encabezado = nuevoBuffer(LARGO_ENCABEZADO);
+        encabezado.putInt(IDENTIFICADOR).putInt(VERSION);
+        escribirTodo(canal, encabezado);
+    }
+
+    private static void escribirTodo(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static ByteBuffer nuevoBuffer(int capacidad) {
+        return ByteBuffer.allocate(capacidad).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+}
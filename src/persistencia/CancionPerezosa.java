@@ -0,0 +1,128 @@
+package persistencia;
+
+import entidades.Cancion;
+import java.nio.ByteBuffer;
+
+/**
+ * Cancion cargada desde un snapshot cuyos datos se decodifican recien la
+ * primera vez que se leen o modifican.
+ *
+ * Hasta entonces solo guarda la region mapeada del archivo y la posicion de su
+ * entrada. Despues de decodificar suelta la referencia a la region, para que
+ * el mapeo pueda liberarse cuando ya no quedan canciones pendientes. La
+ * decodificacion es segura aunque varios hilos lean la cancion a la vez: la
+ * hace uno solo y los datos se publican recien cuando estan completos.
+ *
+ * Leer cualquier dato decodifica la cancion entera, incluido el titulo. Por
+ * eso, si la lista destino tiene activo el indice por clave, insertarla ya
+ * decodifica todas las canciones y la carga perezosa no ahorra nada.
+ *
+ * @author Carlos Álvarez
+ */
+public class CancionPerezosa extends Cancion {
+
+    private transient ByteBuffer origen;
+    private transient int posicion;
+    private transient volatile boolean decodificada;
+
+    CancionPerezosa(ByteBuffer origen, int posicion) {
+        this.origen = origen;
+        this.posicion = posicion;
+    }
+
+    /**
+     * @return {@code true} si los datos ya fueron decodificados.
+     */
+    public boolean isDecodificada() {
+        return decodificada;
+    }
+
+    void asignar(String titulo, String artista, float duracion, String genero) {
+        asignarDatos(titulo, artista, duracion, genero);
+    }
+
+    private void decodificar() {
+        if (!decodificada) {
+            synchronized (this) {
+                if (!decodificada) {
+                    SnapshotCanciones.decodificar(origen, posicion, this);
+                    origen = null;
+                    decodificada = true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getTitulo() {
+        decodificar();
+        return super.getTitulo();
+    }
+
+    @Override
+    public String getArtista() {
+        decodificar();
+        return super.getArtista();
+    }
+
+    @Override
+    public float getDuracion() {
+        decodificar();
+        return super.getDuracion();
+    }
+
+    @Override
+    public String getGenero() {
+        decodificar();
+        return super.getGenero();
+    }
+
+    @Override
+    public void setTitulo(String titulo) {
+        decodificar();
+        super.setTitulo(titulo);
+    }
+
+    @Override
+    public void setArtista(String artista) {
+        decodificar();
+        super.setArtista(artista);
+    }
+
+    @Override
+    public void setDuración(float duracion) {
+        decodificar();
+        super.setDuración(duracion);
+    }
+
+    @Override
+    public void setGenero(String genero) {
+        decodificar();
+        super.setGenero(genero);
+    }
+
+    @Override
+    public String cargarTitulo() {
+        decodificar();
+        return super.cargarTitulo();
+    }
+
+    @Override
+    public String cargarArtista() {
+        decodificar();
+        return super.cargarArtista();
+    }
+
+    @Override
+    public float cargarDuracion() {
+        decodificar();
+        return super.cargarDuracion();
+    }
+
+    @Override
+    public String cargarGenero() {
+        decodificar();
+        return super.cargarGenero();
+    }
+
+}
@@ -0,0 +1,469 @@
+package persistencia;
+
+import entidades.Cancion;
+import entidades.CancionCodificada;
+import entidades.CodificadorCanciones;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+
+/**
+ * Carga masiva de canciones desde archivos CSV o TSV con las columnas
+ * {@code titulo, artista, duracion, genero}.
+ *
+ * El archivo se lee por regiones mapeadas en memoria, sin pasar por la consola
+ * ni por un {@code Reader}. Las filas se convierten en cadenas de
+ * {@link NodoSimple} que se enganchan al frente de la lista por lotes, con una
+ * sola escritura de enlace cada una. El resultado es el mismo que llamar a
+ * {@link ListaSimple#insertarFrente} con cada fila en el orden del archivo.
+ *
+ * Opcionalmente el archivo se divide en tramos que se interpretan en paralelo;
+ * las cadenas de cada tramo se enganchan luego en orden, por lo que la lista
+ * final es identica a la de la carga secuencial.
+ *
+ * Los campos pueden ir entre comillas dobles (con {@code ""} para una comilla
+ * dentro del campo), y entre comillas pueden incluir saltos de linea: las
+ * filas se separan solo en los saltos de linea que quedan fuera de comillas.
+ * Para eso, la carga paralela cuenta primero, tambien en paralelo, las
+ * comillas de cada porcion del archivo, y con esas cuentas ubica el comienzo
+ * de cada tramo en un salto de linea fuera de comillas. Una primera fila que
+ * empiece con {@code titulo} se toma como encabezado. Las filas invalidas se
+ * cuentan y se descartan.
+ *
+ * Con {@link #setCodificarTextos} las canciones se crean como
+ * {@link CancionCodificada}, que guarda el artista y el genero como codigos
+ * de los diccionarios del cargador en lugar de una cadena por fila. Los
+ * diccionarios se comparten entre las cargas del mismo cargador y se
+ * recolectan con el cuando ya no se usan sus canciones.
+ *
+ * @author Carlos Álvarez
+ */
+public class CargadorCanciones {
+
+    private static final long TAMANIO_REGION = 64L << 20;
+    private static final int TAMANIO_LOTE_POR_DEFECTO = 4096;
+
+    private final byte separador;
+    private final CodificadorCanciones codificador = new CodificadorCanciones();
+    private boolean paralelo;
+    private boolean codificarTextos;
+    private int tamanioLote = TAMANIO_LOTE_POR_DEFECTO;
+    private int cantidadTramos;
+
+    /**
+     * @param separador el caracter que separa los campos de cada fila.
+     */
+    public CargadorCanciones(char separador) {
+        if (separador > 0x7F || separador == '"' || separador == '\n') {
+            throw new IllegalArgumentException("Separador invalido: " + separador);
+        }
+        this.separador = (byte) separador;
+    }
+
+    /**
+     * @param archivo el archivo a cargar.
+     * @return un cargador con separador de tabulacion si el archivo termina
+     * en {@code .tsv}, o de coma en otro caso.
+     */
+    public static CargadorCanciones para(Path archivo) {
+        boolean tsv = archivo.getFileName().toString().toLowerCase().endsWith(".tsv");
+        return new CargadorCanciones(tsv ? '\t' : ',');
+    }
+
+    public boolean isParalelo() {
+        return paralelo;
+    }
+
+    /**
+     * @param paralelo si el archivo se interpreta en tramos paralelos.
+     */
+    public void setParalelo(boolean paralelo) {
+        this.paralelo = paralelo;
+    }
+
+    public boolean isCodificarTextos() {
+        return codificarTextos;
+    }
+
+    /**
+     * @param codificarTextos si el artista y el genero se guardan codificados
+     * con {@link CancionCodificada}.
+     */
+    public void setCodificarTextos(boolean codificarTextos) {
+        this.codificarTextos = codificarTextos;
+    }
+
+    /**
+     * @return el codificador de las canciones que crea este cargador, para
+     * armar filtros que comparan codigos.
+     */
+    public CodificadorCanciones getCodificador() {
+        return codificador;
+    }
+
+    /**
+     * Fija la cantidad de tramos de la carga paralela, en lugar del
+     * paralelismo del pool comun. Sirve para probar los cortes entre tramos
+     * en maquinas con un solo procesador.
+     *
+     * @param cantidadTramos la cantidad de tramos, o 0 para usar el
+     * paralelismo del pool comun.
+     */
+    void setCantidadTramos(int cantidadTramos) {
+        if (cantidadTramos < 0) {
+            throw new IllegalArgumentException("La cantidad de tramos no puede ser negativa.");
+        }
+        this.cantidadTramos = cantidadTramos;
+    }
+
+    public int getTamanioLote() {
+        return tamanioLote;
+    }
+
+    /**
+     * @param tamanioLote cantidad de filas que se enganchan juntas en la
+     * lista.
+     */
+    public void setTamanioLote(int tamanioLote) {
+        if (tamanioLote < 1) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor a 0.");
+        }
+        this.tamanioLote = tamanioLote;
+    }
+
+    /**
+     * Carga todas las canciones del archivo al frente de la lista.
+     *
+     * @param archivo el archivo CSV o TSV.
+     * @param lista la lista donde se insertan las canciones.
+     * @return la cantidad de filas cargadas y descartadas, y el tiempo que
+     * llevo la carga.
+     * @throws IOException si el archivo no se puede leer.
+     */
+    public ResultadoCarga cargar(Path archivo, ListaSimple<Cancion> lista) throws IOException {
+        long inicio = System.nanoTime();
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long tamanio = canal.size();
+            int cantidadTramos = !paralelo ? 1
+                    : this.cantidadTramos > 0 ? this.cantidadTramos
+                    : Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+            List<Tramo> tramos = cantidadTramos > 1
+                    ? dividir(canal, tamanio, cantidadTramos)
+                    : List.of(new Tramo(0, tamanio, true));
+
+            if (tramos.size() > 1) {
+                List<ForkJoinTask<?>> tareas = new ArrayList<>();
+                for (Tramo tramo : tramos) {
+                    tareas.add(ForkJoinPool.commonPool().submit(() -> tramo.interpretar(canal)));
+                }
+                for (ForkJoinTask<?> tarea : tareas) {
+                    tarea.join();
+                }
+            } else {
+                for (Tramo tramo : tramos) {
+                    tramo.interpretar(canal);
+                }
+            }
+
+            long filas = 0;
+            long invalidas = 0;
+            for (Tramo tramo : tramos) {
+                for (Lote lote : tramo.lotes) {
+                    lista.insertarCadenaFrente(lote.primero, lote.ultimo);
+                }
+                filas += tramo.filas;
+                invalidas += tramo.invalidas;
+            }
+            return new ResultadoCarga(filas, invalidas, System.nanoTime() - inicio);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Divide el archivo en tramos que empiezan siempre al comienzo de una
+     * fila. Las comillas de cada porcion se cuentan en paralelo; la paridad
+     * acumulada indica si el corte nominal de cada tramo cae entre comillas.
+     */
+    private List<Tramo> dividir(FileChannel canal, long tamanio, int cantidadTramos) throws IOException {
+        List<ForkJoinTask<Long>> cuentas = new ArrayList<>();
+        for (int i = 0; i < cantidadTramos; i++) {
+            long desde = tamanio * i / cantidadTramos;
+            long hasta = tamanio * (i + 1) / cantidadTramos;
+            cuentas.add(ForkJoinPool.commonPool().submit(() -> contarComillas(canal, desde, hasta)));
+        }
+        List<Tramo> tramos = new ArrayList<>();
+        long comillas = 0;
+        long desde = 0;
+        for (int i = 1; i <= cantidadTramos && desde < tamanio; i++) {
+            comillas += cuentas.get(i - 1).join();
+            long corte = tamanio * i / cantidadTramos;
+            if (i < cantidadTramos && corte <= desde) {
+                // El tramo anterior ya paso este corte; la paridad solo vale en el corte.
+                continue;
+            }
+            long hasta = i == cantidadTramos ? tamanio : finDeFila(canal, corte, tamanio, comillas % 2 == 1);
+            if (hasta > desde) {
+                tramos.add(new Tramo(desde, hasta, desde == 0));
+                desde = hasta;
+            }
+        }
+        return tramos;
+    }
+
+    private static long contarComillas(FileChannel canal, long desde, long hasta) {
+        try {
+            long comillas = 0;
+            for (long posicion = desde; posicion < hasta; posicion += TAMANIO_REGION) {
+                long largoRegion = Math.min(TAMANIO_REGION, hasta - posicion);
+                MappedByteBuffer region = canal.map(FileChannel.MapMode.READ_ONLY, posicion, largoRegion);
+                for (int i = 0; i < largoRegion; i++) {
+                    if (region.get(i) == '"') {
+                        comillas++;
+                    }
+                }
+            }
+            return comillas;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param entreComillas si {@code posicion} cae dentro de un campo entre
+     * comillas.
+     * @return la posicion siguiente al primer salto de linea fuera de
+     * comillas a partir de {@code posicion}, o el tamaño del archivo si no
+     * hay ninguno.
+     */
+    private static long finDeFila(FileChannel canal, long posicion, long tamanio, boolean entreComillas) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        while (posicion < tamanio) {
+            buffer.clear();
+            int leidos = canal.read(buffer, posicion);
+            if (leidos <= 0) {
+                break;
+            }
+            for (int i = 0; i < leidos; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    entreComillas = !entreComillas;
+                } else if (b == '\n' && !entreComillas) {
+                    return posicion + i + 1;
+                }
+            }
+            posicion += leidos;
+        }
+        return tamanio;
+    }
+
+    /**
+     * Cadena de nodos lista para engancharse en la lista.
+     */
+    private static final class Lote {
+
+        private final NodoSimple<Cancion> primero;
+        private final NodoSimple<Cancion> ultimo;
+
+        private Lote(NodoSimple<Cancion> primero, NodoSimple<Cancion> ultimo) {
+            this.primero = primero;
+            this.ultimo = ultimo;
+        }
+    }
+
+    /**
+     * Porcion del archivo que interpreta un unico hilo.
+     */
+    private final class Tramo {
+
+        private final long desde;
+        private final long hasta;
+        private final boolean puedeTenerEncabezado;
+        private final List<Lote> lotes = new ArrayList<>();
+        private final List<String> campos = new ArrayList<>(4);
+        private byte[] linea = new byte[512];
+        private byte[] campo = new byte[256];
+        private long filas;
+        private long invalidas;
+
+        private NodoSimple<Cancion> primeroLote;
+        private NodoSimple<Cancion> ultimoLote;
+        private int enLote;
+
+        private Tramo(long desde, long hasta, boolean puedeTenerEncabezado) {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.puedeTenerEncabezado = puedeTenerEncabezado;
+        }
+
+        private void interpretar(FileChannel canal) {
+            try {
+                long posicion = desde;
+                boolean primeraLinea = true;
+                while (posicion < hasta) {
+                    long largoRegion = Math.min(TAMANIO_REGION, hasta - posicion);
+                    MappedByteBuffer region = canal.map(FileChannel.MapMode.READ_ONLY, posicion, largoRegion);
+                    boolean ultimaRegion = posicion + largoRegion == hasta;
+
+                    // Las filas terminan en los saltos de linea fuera de comillas. Cada
+                    // region empieza al comienzo de una fila, y la fila que queda
+                    // incompleta al final de la region se vuelve a leer en la siguiente.
+                    boolean entreComillas = false;
+                    int inicioLinea = 0;
+                    int limite = (int) largoRegion;
+                    for (int i = 0; i <= limite; i++) {
+                        if (i < limite) {
+                            byte b = region.get(i);
+                            if (b == '"') {
+                                entreComillas = !entreComillas;
+                            }
+                            if (b != '\n' || entreComillas) {
+                                continue;
+                            }
+                        } else if (!ultimaRegion) {
+                            break;
+                        }
+                        if (i > inicioLinea || i < limite) {
+                            int largo = i - inicioLinea;
+                            if (largo > linea.length) {
+                                linea = new byte[Math.max(largo, linea.length * 2)];
+                            }
+                            region.get(inicioLinea, linea, 0, largo);
+                            procesarLinea(largo, primeraLinea && puedeTenerEncabezado);
+                            primeraLinea = false;
+                        }
+                        inicioLinea = i + 1;
+                    }
+                    if (ultimaRegion) {
+                        break;
+                    }
+                    if (inicioLinea == 0) {
+                        throw new IOException("Fila de mas de " + TAMANIO_REGION + " bytes en la posicion " + posicion);
+                    }
+                    posicion += inicioLinea;
+                }
+                cerrarLote();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void procesarLinea(int largo, boolean puedeSerEncabezado) {
+            if (largo > 0 && linea[largo - 1] == '\r') {
+                largo--;
+            }
+            if (largo == 0) {
+                return;
+            }
+            separarCampos(largo);
+            if (puedeSerEncabezado && campos.get(0).trim().equalsIgnoreCase("titulo")) {
+                return;
+            }
+
+            Cancion cancion = crearCancion();
+            if (cancion == null) {
+                invalidas++;
+                return;
+            }
+
+            // Cada fila nueva queda delante de las anteriores, como con insertarFrente.
+            NodoSimple<Cancion> nodo = new NodoSimple<>(cancion);
+            if (primeroLote == null) {
+                ultimoLote = nodo;
+            } else {
+                nodo.setSiguiente(primeroLote);
+            }
+            primeroLote = nodo;
+            filas++;
+            if (++enLote == tamanioLote) {
+                cerrarLote();
+            }
+        }
+
+        private void cerrarLote() {
+            if (primeroLote != null) {
+                lotes.add(new Lote(primeroLote, ultimoLote));
+                primeroLote = null;
+                ultimoLote = null;
+                enLote = 0;
+            }
+        }
+
+        private Cancion crearCancion() {
+            if (campos.size() != 4) {
+                return null;
+            }
+            String titulo = campos.get(0);
+            String artista = campos.get(1);
+            String genero = campos.get(3);
+            if (titulo.isBlank() || artista.isBlank() || genero.isBlank()) {
+                return null;
+            }
+            try {
+                float duracion = Float.parseFloat(campos.get(2).trim());
+                if (!(duracion > 0)) {
+                    return null;
+                }
+                return codificarTextos
+                        ? codificador.nueva(titulo, artista, duracion, genero)
+                        : new Cancion(titulo, artista, duracion, genero);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private void separarCampos(int largo) {
+            campos.clear();
+            int i = 0;
+            while (i <= largo) {
+                int largoCampo = 0;
+                if (i < largo && linea[i] == '"') {
+                    i++;
+                    while (i < largo) {
+                        if (linea[i] == '"') {
+                            if (i + 1 < largo && linea[i + 1] == '"') {
+                                largoCampo = agregarByte(largoCampo, (byte) '"');
+                                i += 2;
+                                continue;
+                            }
+                            i++;
+                            break;
+                        }
+                        largoCampo = agregarByte(largoCampo, linea[i++]);
+                    }
+                    while (i < largo && linea[i] != separador) {
+                        i++;
+                    }
+                } else {
+                    while (i < largo && linea[i] != separador) {
+                        largoCampo = agregarByte(largoCampo, linea[i++]);
+                    }
+                }
+                campos.add(new String(campo, 0, largoCampo, StandardCharsets.UTF_8));
+                i++;
+            }
+        }
+
+        private int agregarByte(int largoCampo, byte b) {
+            if (largoCampo == campo.length) {
+                campo = Arrays.copyOf(campo, campo.length * 2);
+            }
+            campo[largoCampo] = b;
+            return largoCampo + 1;
+        }
+    }
+
+}
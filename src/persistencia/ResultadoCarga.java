@@ -0,0 +1,51 @@
+package persistencia;
+
+/**
+ * Resumen de una carga masiva de canciones.
+ *
+ * @author Carlos Álvarez
+ */
+public class ResultadoCarga {
+
+    private final long filas;
+    private final long filasInvalidas;
+    private final long nanosegundos;
+
+    public ResultadoCarga(long filas, long filasInvalidas, long nanosegundos) {
+        this.filas = filas;
+        this.filasInvalidas = filasInvalidas;
+        this.nanosegundos = nanosegundos;
+    }
+
+    /**
+     * @return la cantidad de canciones insertadas en la lista.
+     */
+    public long getFilas() {
+        return filas;
+    }
+
+    /**
+     * @return la cantidad de filas descartadas por tener un formato invalido.
+     */
+    public long getFilasInvalidas() {
+        return filasInvalidas;
+    }
+
+    public long getNanosegundos() {
+        return nanosegundos;
+    }
+
+    /**
+     * @return las filas procesadas (validas e invalidas) por segundo.
+     */
+    public double filasPorSegundo() {
+        return nanosegundos == 0 ? 0 : (filas + filasInvalidas) * 1e9 / nanosegundos;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoCarga{" + "filas=" + filas + ", filasInvalidas=" + filasInvalidas
+                + ", segundos=" + nanosegundos / 1e9 + ", filasPorSegundo=" + (long) filasPorSegundo() + '}';
+    }
+
+}
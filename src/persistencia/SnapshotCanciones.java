@@ -0,0 +1,300 @@
+package persistencia;
+
+import entidades.Cancion;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+
+/**
+ * Guarda y recupera el contenido de una {@link ListaSimple} de canciones en un
+ * archivo binario compacto.
+ *
+ * El archivo empieza con un encabezado de {@value #LARGO_ENCABEZADO} bytes
+ * (identificador, version, cantidad de canciones, largo del cuerpo y CRC32C
+ * del cuerpo). El cuerpo tiene una entrada por cancion, en el orden de la
+ * lista: el largo de la entrada, y luego titulo, artista y genero como UTF-8
+ * precedidos por su largo ({@code -1} para {@code null}) y la duracion como
+ * {@code float}. Todos los numeros se guardan en little-endian.
+ *
+ * La carga lee el archivo mapeado en memoria. En modo perezoso cada cancion
+ * es una {@link CancionPerezosa} que decodifica sus datos recien cuando se
+ * los pide, por lo que cargar solo recorre los largos de las entradas.
+ *
+ * @author Carlos Álvarez
+ */
+public final class SnapshotCanciones {
+
+    static final int LARGO_ENCABEZADO = 32;
+
+    private static final int IDENTIFICADOR = 0x4345534C; // "LSEC"
+    private static final int VERSION = 1;
+    private static final int TAMANIO_BUFFER = 1 << 20;
+    private static final long TAMANIO_REGION = 1L << 30;
+
+    private SnapshotCanciones() {
+    }
+
+    /**
+     * Guarda todas las canciones de la lista. Se escribe un archivo nuevo que,
+     * una vez forzado a disco, reemplaza al anterior de forma atomica.
+     *
+     * @param lista la lista a guardar.
+     * @param archivo el archivo destino.
+     * @return la cantidad de canciones guardadas.
+     * @throws IOException si no se puede escribir el archivo. En ese caso el
+     * snapshot anterior, si existia, sigue intacto.
+     */
+    public static long guardar(ListaSimple<Cancion> lista, Path archivo) throws IOException {
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".guardando");
+        long cantidad;
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            cantidad = escribirSnapshot(lista, canal);
+            canal.force(true);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forzarDirectorio(archivo);
+        return cantidad;
+    }
+
+    private static long escribirSnapshot(ListaSimple<Cancion> lista, FileChannel canal) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANIO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        CRC32C crc = new CRC32C();
+        long cantidad = 0;
+        long largoCuerpo = 0;
+        canal.position(LARGO_ENCABEZADO);
+
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            Cancion cancion = p.getDato();
+            byte[] titulo = bytes(cancion.getTitulo());
+            byte[] artista = bytes(cancion.getArtista());
+            byte[] genero = bytes(cancion.getGenero());
+            int largoEntrada = 4 * 4 + largo(titulo) + largo(artista) + largo(genero);
+
+            if (buffer.remaining() < 4 + largoEntrada) {
+                largoCuerpo += vaciar(canal, buffer, crc);
+                if (buffer.capacity() < 4 + largoEntrada) {
+                    buffer = ByteBuffer.allocateDirect(4 + largoEntrada).order(ByteOrder.LITTLE_ENDIAN);
+                }
+            }
+            buffer.putInt(largoEntrada);
+            escribir(buffer, titulo);
+            escribir(buffer, artista);
+            buffer.putFloat(cancion.getDuracion());
+            escribir(buffer, genero);
+            cantidad++;
+        }
+        largoCuerpo += vaciar(canal, buffer, crc);
+
+        ByteBuffer encabezado = ByteBuffer.allocate(LARGO_ENCABEZADO).order(ByteOrder.LITTLE_ENDIAN);
+        encabezado.putInt(IDENTIFICADOR).putInt(VERSION).putLong(cantidad).putLong(largoCuerpo)
+                .putInt((int) crc.getValue()).putInt(0).flip();
+        while (encabezado.hasRemaining()) {
+            canal.write(encabezado, encabezado.position());
+        }
+        return cantidad;
+    }
+
+    /**
+     * Carga las canciones del archivo al frente de la lista, en el mismo
+     * orden en que fueron guardadas. Antes de cargar se verifica el CRC del
+     * cuerpo.
+     *
+     * @param archivo el archivo a cargar.
+     * @param lista la lista donde se insertan las canciones.
+     * @param perezosa si las canciones se decodifican recien al usarlas. En
+     * ese caso el archivo queda mapeado mientras haya canciones sin
+     * decodificar. No tiene efecto si la lista tiene activo el indice por
+     * clave, porque indexarlas las decodifica.
+     * @return la cantidad de canciones cargadas.
+     * @throws IOException si el archivo no se puede leer o esta corrupto.
+     */
+    public static long cargar(Path archivo, ListaSimple<Cancion> lista, boolean perezosa) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer encabezado = ByteBuffer.allocate(LARGO_ENCABEZADO).order(ByteOrder.LITTLE_ENDIAN);
+            while (encabezado.hasRemaining() && canal.read(encabezado, encabezado.position()) > 0) {
+                // se sigue leyendo hasta completar el encabezado
+            }
+            encabezado.flip();
+            if (encabezado.remaining() < LARGO_ENCABEZADO || encabezado.getInt() != IDENTIFICADOR) {
+                throw new IOException("El archivo no es un snapshot de canciones: " + archivo);
+            }
+            int version = encabezado.getInt();
+            if (version != VERSION) {
+                throw new IOException("Version de snapshot no soportada: " + version);
+            }
+            long cantidad = encabezado.getLong();
+            long largoCuerpo = encabezado.getLong();
+            int crcEsperado = encabezado.getInt();
+            if (LARGO_ENCABEZADO + largoCuerpo != canal.size()) {
+                throw new IOException("Snapshot truncado: " + archivo);
+            }
+
+            LectorRegiones lector = new LectorRegiones(canal, LARGO_ENCABEZADO + largoCuerpo);
+            if (lector.crc(LARGO_ENCABEZADO) != crcEsperado) {
+                throw new IOException("Snapshot corrupto (CRC invalido): " + archivo);
+            }
+
+            NodoSimple<Cancion> primero = null;
+            NodoSimple<Cancion> ultimo = null;
+            long posicion = LARGO_ENCABEZADO;
+            for (long i = 0; i < cantidad; i++) {
+                ByteBuffer region = lector.region(posicion, 4);
+                int largoEntrada = region.getInt(lector.relativa(posicion));
+                region = lector.region(posicion, 4 + largoEntrada);
+                int inicio = lector.relativa(posicion) + 4;
+
+                Cancion cancion = perezosa ? new CancionPerezosa(region, inicio) : decodificar(region, inicio, null);
+
+                NodoSimple<Cancion> nodo = new NodoSimple<>(cancion);
+                if (primero == null) {
+                    primero = nodo;
+                } else {
+                    ultimo.setSiguiente(nodo);
+                }
+                ultimo = nodo;
+                posicion += 4 + largoEntrada;
+            }
+
+            if (primero != null) {
+                lista.insertarCadenaFrente(primero, ultimo);
+            }
+            return cantidad;
+        }
+    }
+
+    /**
+     * Decodifica la entrada que empieza en {@code posicion}, sin su largo.
+     *
+     * @param destino la cancion perezosa que recibe los datos, o {@code null}
+     * para crear una cancion nueva.
+     * @return la cancion con los datos de la entrada.
+     */
+    static Cancion decodificar(ByteBuffer region, int posicion, CancionPerezosa destino) {
+        String titulo = leerTexto(region, posicion);
+        posicion += 4 + Math.max(region.getInt(posicion), 0);
+        String artista = leerTexto(region, posicion);
+        posicion += 4 + Math.max(region.getInt(posicion), 0);
+        float duracion = region.getFloat(posicion);
+        String genero = leerTexto(region, posicion + 4);
+
+        if (destino == null) {
+            return new Cancion(titulo, artista, duracion, genero);
+        }
+        destino.asignar(titulo, artista, duracion, genero);
+        return destino;
+    }
+
+    static String leerTexto(ByteBuffer region, int posicion) {
+        int largo = region.getInt(posicion);
+        if (largo < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[largo];
+        region.get(posicion + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static byte[] bytes(String texto) {
+        return texto == null ? null : texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int largo(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    static void escribir(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    /**
+     * Fuerza a disco el directorio del archivo, para que un reemplazo hecho
+     * con {@link Files#move} sobreviva a un corte. En los sistemas donde un
+     * directorio no se puede abrir como archivo (Windows) no hace nada.
+     */
+    static void forzarDirectorio(Path archivo) throws IOException {
+        Path directorio = archivo.toAbsolutePath().getParent();
+        if (directorio == null) {
+            return;
+        }
+        FileChannel canal;
+        try {
+            canal = FileChannel.open(directorio, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (canal) {
+            canal.force(true);
+        }
+    }
+
+    private static long vaciar(FileChannel canal, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        long escritos = buffer.remaining();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+        return escritos;
+    }
+
+    /**
+     * Acceso a un archivo mapeado en regiones de hasta 1 GB, para admitir
+     * archivos de mas de 2 GB. Cada pedido garantiza que el rango solicitado
+     * este completo dentro de una misma region.
+     */
+    static final class LectorRegiones {
+
+        private final FileChannel canal;
+        private final long tamanio;
+        private MappedByteBuffer region;
+        private long base = -1;
+
+        LectorRegiones(FileChannel canal, long tamanio) {
+            this.canal = canal;
+            this.tamanio = tamanio;
+        }
+
+        ByteBuffer region(long posicion, int largo) throws IOException {
+            if (base < 0 || posicion < base || posicion + largo > base + region.capacity()) {
+                if (posicion + largo > tamanio) {
+                    throw new IOException("Entrada fuera del snapshot en la posicion " + posicion);
+                }
+                long largoRegion = Math.min(TAMANIO_REGION, tamanio - posicion);
+                region = canal.map(FileChannel.MapMode.READ_ONLY, posicion, largoRegion);
+                region.order(ByteOrder.LITTLE_ENDIAN);
+                base = posicion;
+            }
+            return region;
+        }
+
+        int relativa(long posicion) {
+            return (int) (posicion - base);
+        }
+
+        int crc(long desde) throws IOException {
+            CRC32C crc = new CRC32C();
+            for (long p = desde; p < tamanio; p += TAMANIO_REGION) {
+                int largo = (int) Math.min(TAMANIO_REGION, tamanio - p);
+                crc.update(region(p, largo).duplicate().position(relativa(p)).limit(relativa(p) + largo));
+            }
+            return (int) crc.getValue();
+        }
+    }
+
+}
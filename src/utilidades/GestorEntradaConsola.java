@@ -3,15 +3,21 @@ package utilidades;
 /**
  * @author Carlos Álvarez
  */
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
+import java.util.NoSuchElementException;
 
 /**
  * Clase para facilitar operaciones de carga por teclado en consola estándar.
+ *
+ * Todas las lecturas comparten un unico {@code LectorBufferado} sobre
+ * {@code System.in}, de modo que la entrada se lee en bloques y ningun metodo
+ * se queda con datos que le corresponden al siguiente. Los numeros se
+ * interpretan directamente desde los bytes leidos y el texto se decodifica
+ * como UTF-8.
  */
 public class GestorEntradaConsola {
 
+    private static LectorBufferado lector;
+
     /**
      * Lee un string desde teclado. El string termina con un salto de linea
      *
@@ -19,24 +25,9 @@ public class GestorEntradaConsola {
      */
     public static String leerString() {
 
-        int ch;
-        String r = "";
-        boolean done = false;
-        while (!done) {
-            try {
-                ch = System.in.read();
-                if (ch < 0 || (char) ch == '\n') {
-                    done = true;
-                } else {
-                    if ((char) ch != '\r') {
-                        r = r + (char) ch;
-                    }
-                }
-            } catch (java.io.IOException e) {
-                done = true;
-            }
-        }
-        return r;
+        LectorBufferado entrada = lector();
+        entrada.leerLinea();
+        return entrada.lineaComoString();
     }
 
     /**
@@ -46,9 +37,11 @@ public class GestorEntradaConsola {
      */
     public static int leerEntero() {
 
+        LectorBufferado entrada = lector();
         while (true) {
+            leerLineaObligatoria(entrada);
             try {
-                return Integer.parseInt(leerString().trim());
+                return (int) entrada.parsearEntero(Integer.MIN_VALUE, Integer.MAX_VALUE);
             } catch (NumberFormatException e) {
                 System.out.print("ERROR! Escriba nuevamente: ");
 //                e.printStackTrace();
@@ -63,13 +56,7 @@ public class GestorEntradaConsola {
      */
     public static Integer leerInteger() {
 
-        while (true) {
-            try {
-                return Integer.parseInt(leerDato());
-            } catch (NumberFormatException e) {
-                System.out.print("ERROR! Escriba nuevamente: ");
-            }
-        }
+        return leerEntero();
     }
 
     /**
@@ -78,9 +65,11 @@ public class GestorEntradaConsola {
      * @return el flotante leido
      */
     public static float leerFlotante() {
+        LectorBufferado entrada = lector();
         while (true) {
+            leerLineaObligatoria(entrada);
             try {
-                return Float.parseFloat(leerString().trim());
+                return entrada.parsearFlotante();
             } catch (NumberFormatException e) {
                 System.out.print("ERROR! Intente nuevamente: ");
             }
@@ -94,9 +83,11 @@ public class GestorEntradaConsola {
      */
     public static double leerDouble() {
 
+        LectorBufferado entrada = lector();
         while (true) {
+            leerLineaObligatoria(entrada);
             try {
-                return Double.parseDouble(leerString().trim());
+                return entrada.parsearDouble();
             } catch (NumberFormatException e) {
                 System.out.print("ERROR! Intente nuevamente: ");
             }
@@ -106,13 +97,15 @@ public class GestorEntradaConsola {
     /**
      * Lee un long desde teclado. La entrada termina con un salto de linea
      *
-     * @return el valor cargado, como un double
+     * @return el valor cargado, como un long
      */
     public static long leerLong() {
 
+        LectorBufferado entrada = lector();
         while (true) {
+            leerLineaObligatoria(entrada);
             try {
-                return Long.parseLong(leerString().trim());
+                return entrada.parsearEntero(Long.MIN_VALUE, Long.MAX_VALUE);
             } catch (NumberFormatException e) {
                 System.out.print("ERROR! Intente nuevamente: ");
             }
@@ -125,27 +118,37 @@ public class GestorEntradaConsola {
      * @return el caracter leido (sin el salto de linea)
      */
     public static char leerCaracter() {
+        LectorBufferado entrada = lector();
         while (true) {
-            try {
-                return (char) leerDato().charAt(0);
-            } catch (NumberFormatException e) {
-                System.out.print("ERROR! Intente nuevamente: ");
+            leerLineaObligatoria(entrada);
+            String linea = entrada.lineaComoString();
+            if (!linea.isEmpty()) {
+                return linea.charAt(0);
             }
+            System.out.print("ERROR! Intente nuevamente: ");
         }
     }
 
-    private static String leerDato() {
-        String dato = "";
-        InputStreamReader isr = new InputStreamReader(System.in);
-        BufferedReader flujoE = new BufferedReader(isr);
-
-        try {
-            dato = flujoE.readLine();
-        } catch (IOException e) {
-            System.err.println("Error " + e.getMessage());
+    /**
+     * Devuelve el lector compartido, creando uno nuevo si {@code System.in}
+     * fue reemplazado.
+     */
+    private static LectorBufferado lector() {
+        if (lector == null || lector.getEntrada() != System.in) {
+            lector = new LectorBufferado(System.in);
         }
+        return lector;
+    }
 
-        return dato;
+    /**
+     * Lee una linea para un dato que se reintenta hasta ser valido. Si la
+     * entrada termino no hay forma de obtenerlo, por lo que se informa con
+     * una excepcion en lugar de reintentar indefinidamente.
+     */
+    private static void leerLineaObligatoria(LectorBufferado entrada) {
+        if (!entrada.leerLinea()) {
+            throw new NoSuchElementException("Fin de la entrada estandar.");
+        }
     }
 
     /**
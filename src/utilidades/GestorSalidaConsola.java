@@ -1,10 +1,5 @@
 package utilidades;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Clase encargada de gestionar y formatear la salida de datos en consola.
  * Proporciona métodos para mostrar información estructurada y legible en la
@@ -62,35 +57,11 @@ public class GestorSalidaConsola {
      * @return los titulos de la clase en formato tabla por consola
      */
     public static String generarTitulosColumnas(Class<?> aClass, int LIMITE_CARACTERES_LINEA_CONSOLA) {
-        // Obtener los atributos no constantes
-        Field[] fields = obtenerAtributosNoConstantes(aClass);
-        int cantidadAtributos = fields.length;
-
-        // Calcular el espacio disponible para cada atributo en la línea de consola
-        int espacioPorAtributo = (int) Math.floor(LIMITE_CARACTERES_LINEA_CONSOLA / (double) cantidadAtributos);
-
-        // Construir el string con los nombres de los atributos formateados
-        StringBuilder salida = new StringBuilder();
+        String salida = RenderizadorTabular.formatearTitulos(aClass, LIMITE_CARACTERES_LINEA_CONSOLA);
 
-        for (Field field : fields) {
-            String nombreAtributo = field.getName().toUpperCase();
-
-            // Ajustar el nombre a la longitud adecuada
-            if (nombreAtributo.length() > espacioPorAtributo) {
-                nombreAtributo = nombreAtributo.substring(0, espacioPorAtributo); // Recortar si es necesario
-            } else {
-                // Rellenar con espacios en blanco hasta alcanzar el espacio por atributo
-                while (nombreAtributo.length() < espacioPorAtributo) {
-                    nombreAtributo += " ";
-                }
-            }
-
-            salida.append(nombreAtributo);
-        }
+        System.out.println(salida);
 
-        System.out.println(salida.toString());
-        
-        return salida.toString();
+        return salida;
     }
 
     /**
@@ -98,6 +69,11 @@ public class GestorSalidaConsola {
      * instancia de clase, formateados para que cada atributo ocupe un espacio
      * determinado en la línea de la consola.
      *
+     * Las columnas de cada clase se resuelven una sola vez (ver
+     * {@link RenderizadorTabular}). Para mostrar muchas filas conviene usar
+     * directamente un {@link RenderizadorTabular}, que no imprime linea por
+     * linea.
+     *
      * @param aClass la clase de la cual se obtienen los atributos.
      * @param instancia la instancia de la cual se obtienen los valores de los
      * atributos.
@@ -106,67 +82,12 @@ public class GestorSalidaConsola {
      * @return los datos de la instancia en formato tabulado.
      */
     public static String mostrarTabulado(Class<?> aClass, Object instancia, int LIMITE_CARACTERES_LINEA_CONSOLA) {
-        // Obtener los atributos no constantes
-        Field[] fields = obtenerAtributosNoConstantes(aClass);
-        int cantidadAtributos = fields.length;
-
-        // Calcular el espacio disponible para cada atributo en la línea de consola
-        int espacioPorAtributo = (int) Math.floor(LIMITE_CARACTERES_LINEA_CONSOLA / (double) cantidadAtributos);
-
-        // Construir el string con los valores de los atributos formateados
-        StringBuilder salida = new StringBuilder();
-
-        for (Field field : fields) {
-            field.setAccessible(true);
-            try {
-                Object valor = field.get(instancia);
-                String valorAtributo = valor != null ? valor.toString() : "null";
-
-                // Ajustar el valor a la longitud adecuada
-                if (valorAtributo.length() > espacioPorAtributo) {
-                    valorAtributo = valorAtributo.substring(0, espacioPorAtributo); // Recortar si es necesario
-                } else {
-                    // Rellenar con espacios en blanco hasta alcanzar el espacio por atributo
-                    while (valorAtributo.length() < espacioPorAtributo) {
-                        valorAtributo += " ";
-                    }
-                }
-
-                salida.append(valorAtributo);
-
-            } catch (IllegalAccessException e) {
-                e.printStackTrace();
-            }
-        }
+        String salida = RenderizadorTabular.formatearFila(aClass, instancia, LIMITE_CARACTERES_LINEA_CONSOLA);
 
         // Mostrar en pantalla el string resultante
-        System.out.println(salida.toString());
-        
-        return salida.toString();
-    }
-
-    /**
-     * Obtiene los atributos no constantes (ni estáticos ni finales) de una
-     * clase.
-     *
-     * @param aClass la clase de la cual se obtienen los atributos.
-     * @return un arreglo de objetos {@link Field} representando los atributos
-     * no constantes de la clase.
-     */
-    private static Field[] obtenerAtributosNoConstantes(Class<?> aClass) {
-        List<Field> nonConstantFields = new ArrayList<>();
-
-        while (aClass != null && aClass != Object.class) {
-            Field[] fields = aClass.getDeclaredFields();
-            for (Field field : fields) {
-                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
-                    nonConstantFields.add(field);
-                }
-            }
-            aClass = aClass.getSuperclass();
-        }
+        System.out.println(salida);
 
-        return nonConstantFields.toArray(new Field[0]);
+        return salida;
     }
 
 }
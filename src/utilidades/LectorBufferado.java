@@ -0,0 +1,246 @@
+package utilidades;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Lector de lineas sobre un {@link InputStream} con un unico buffer de bytes
+ * reutilizado.
+ *
+ * Cada linea se copia a un arreglo de bytes que tambien se reutiliza, sin
+ * crear objetos por caracter. Los numeros se interpretan directamente desde
+ * esos bytes y el texto se decodifica como UTF-8 una sola vez por linea. Como
+ * el byte de salto de linea nunca aparece dentro de un caracter UTF-8 de
+ * varios bytes, cortar las lineas sobre los bytes es seguro.
+ *
+ * @author Carlos Álvarez
+ */
+class LectorBufferado {
+
+    private static final int TAMANIO_BUFFER = 1 << 16;
+
+    private static final float[] POTENCIAS_FLOAT = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+    private static final double[] POTENCIAS_DOUBLE = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream entrada;
+    private final byte[] buffer = new byte[TAMANIO_BUFFER];
+    private int posicion;
+    private int limite;
+
+    private byte[] linea = new byte[256];
+    private int largoLinea;
+
+    // Resultados auxiliares de mantisaDecimal.
+    private int decimales;
+    private boolean mantisaNegativa;
+
+    LectorBufferado(InputStream entrada) {
+        this.entrada = entrada;
+    }
+
+    InputStream getEntrada() {
+        return entrada;
+    }
+
+    /**
+     * Lee la siguiente linea, sin el salto de linea ni un {@code '\r'} final.
+     *
+     * @return {@code false} si la entrada termino antes de leer algun byte.
+     */
+    boolean leerLinea() {
+        largoLinea = 0;
+        boolean leyoAlgo = false;
+        while (true) {
+            if (posicion == limite && !llenarBuffer()) {
+                break;
+            }
+            leyoAlgo = true;
+
+            int inicio = posicion;
+            while (posicion < limite && buffer[posicion] != '\n') {
+                posicion++;
+            }
+            agregarALinea(inicio, posicion - inicio);
+
+            if (posicion < limite) {
+                posicion++;
+                break;
+            }
+        }
+        if (largoLinea > 0 && linea[largoLinea - 1] == '\r') {
+            largoLinea--;
+        }
+        return leyoAlgo;
+    }
+
+    /**
+     * @return la ultima linea leida, decodificada como UTF-8.
+     */
+    String lineaComoString() {
+        return new String(linea, 0, largoLinea, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Interpreta la ultima linea como un entero en el rango indicado, con las
+     * mismas reglas que {@code Long.parseLong(linea.trim())}.
+     *
+     * @throws NumberFormatException si la linea no es un entero valido o esta
+     * fuera de rango.
+     */
+    long parsearEntero(long minimo, long maximo) {
+        int desde = inicioSinBlancos();
+        int hasta = finSinBlancos(desde);
+        if (desde == hasta) {
+            throw new NumberFormatException("Linea vacia");
+        }
+
+        boolean negativo = false;
+        if (linea[desde] == '-' || linea[desde] == '+') {
+            negativo = linea[desde] == '-';
+            desde++;
+        }
+        if (desde == hasta) {
+            throw new NumberFormatException("Falta el numero");
+        }
+
+        // Se acumula en negativo para poder representar el minimo.
+        long limiteNegativo = negativo ? minimo : -maximo;
+        long multiploMinimo = limiteNegativo / 10;
+        long resultado = 0;
+        for (int i = desde; i < hasta; i++) {
+            int digito = linea[i] - '0';
+            if (digito < 0 || digito > 9) {
+                throw new NumberFormatException("Caracter invalido");
+            }
+            if (resultado < multiploMinimo) {
+                throw new NumberFormatException("Fuera de rango");
+            }
+            resultado *= 10;
+            if (resultado < limiteNegativo + digito) {
+                throw new NumberFormatException("Fuera de rango");
+            }
+            resultado -= digito;
+        }
+        return negativo ? resultado : -resultado;
+    }
+
+    /**
+     * Interpreta la ultima linea como un {@code float}. Los decimales simples
+     * (por ejemplo {@code 4.57}) se convierten sin crear objetos; cualquier
+     * otro formato se delega en {@link Float#parseFloat}.
+     *
+     * @throws NumberFormatException si la linea no es un numero valido.
+     */
+    float parsearFlotante() {
+        int desde = inicioSinBlancos();
+        int hasta = finSinBlancos(desde);
+        long mantisa = mantisaDecimal(desde, hasta, 1 << 24, POTENCIAS_FLOAT.length - 1);
+        if (mantisa != Long.MIN_VALUE) {
+            float valor = (float) mantisa / POTENCIAS_FLOAT[decimales];
+            return mantisaNegativa ? -valor : valor;
+        }
+        return Float.parseFloat(new String(linea, desde, hasta - desde, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Interpreta la ultima linea como un {@code double}, con el mismo criterio
+     * que {@link #parsearFlotante()}.
+     *
+     * @throws NumberFormatException si la linea no es un numero valido.
+     */
+    double parsearDouble() {
+        int desde = inicioSinBlancos();
+        int hasta = finSinBlancos(desde);
+        long mantisa = mantisaDecimal(desde, hasta, 1L << 53, POTENCIAS_DOUBLE.length - 1);
+        if (mantisa != Long.MIN_VALUE) {
+            double valor = (double) mantisa / POTENCIAS_DOUBLE[decimales];
+            return mantisaNegativa ? -valor : valor;
+        }
+        return Double.parseDouble(new String(linea, desde, hasta - desde, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Reconoce numeros de la forma {@code [+-]digitos[.digitos]} cuya mantisa
+     * y cantidad de decimales permiten una division exacta y correctamente
+     * redondeada. Devuelve la mantisa sin signo y deja en {@link #decimales}
+     * y {@link #mantisaNegativa} el resto, o {@code Long.MIN_VALUE} si el
+     * formato no es de ese tipo.
+     */
+    private long mantisaDecimal(int desde, int hasta, long mantisaMaxima, int decimalesMaximos) {
+        mantisaNegativa = false;
+        decimales = 0;
+        if (desde < hasta && (linea[desde] == '-' || linea[desde] == '+')) {
+            mantisaNegativa = linea[desde] == '-';
+            desde++;
+        }
+        if (desde == hasta) {
+            return Long.MIN_VALUE;
+        }
+
+        long mantisa = 0;
+        boolean hayPunto = false;
+        int digitos = 0;
+        for (int i = desde; i < hasta; i++) {
+            byte b = linea[i];
+            if (b == '.' && !hayPunto) {
+                hayPunto = true;
+                continue;
+            }
+            int digito = b - '0';
+            if (digito < 0 || digito > 9) {
+                return Long.MIN_VALUE;
+            }
+            mantisa = mantisa * 10 + digito;
+            digitos++;
+            if (hayPunto) {
+                decimales++;
+            }
+            if (mantisa > mantisaMaxima || decimales > decimalesMaximos) {
+                return Long.MIN_VALUE;
+            }
+        }
+        return digitos == 0 ? Long.MIN_VALUE : mantisa;
+    }
+
+    private int inicioSinBlancos() {
+        int desde = 0;
+        while (desde < largoLinea && (linea[desde] & 0xFF) <= ' ') {
+            desde++;
+        }
+        return desde;
+    }
+
+    private int finSinBlancos(int desde) {
+        int hasta = largoLinea;
+        while (hasta > desde && (linea[hasta - 1] & 0xFF) <= ' ') {
+            hasta--;
+        }
+        return hasta;
+    }
+
+    private void agregarALinea(int inicio, int cantidad) {
+        if (largoLinea + cantidad > linea.length) {
+            linea = Arrays.copyOf(linea, Math.max(linea.length * 2, largoLinea + cantidad));
+        }
+        System.arraycopy(buffer, inicio, linea, largoLinea, cantidad);
+        largoLinea += cantidad;
+    }
+
+    private boolean llenarBuffer() {
+        try {
+            int leidos = entrada.read(buffer, 0, buffer.length);
+            posicion = 0;
+            limite = Math.max(leidos, 0);
+            return leidos > 0;
+        } catch (IOException e) {
+            System.err.println("Error " + e.getMessage());
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,293 @@
+package utilidades;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Escribe instancias en formato de tabla, una fila por instancia, con el
+ * mismo formato que {@link GestorSalidaConsola#mostrarTabulado}.
+ *
+ * Las columnas de cada clase (sus atributos no constantes ni
+ * {@code transient}) se resuelven una sola vez y se guardan como
+ * {@link MethodHandle}s: se usa el getter publico del atributo si existe y, si
+ * no, el acceso directo al campo. Cada fila se arma en un {@code char[]}
+ * reutilizado y se escribe en un {@link BufferedWriter} grande, que solo se
+ * vacia cuando se llena o al llamar a {@link #vaciar()}.
+ *
+ * @author Carlos Álvarez
+ */
+public class RenderizadorTabular {
+
+    private static final int TAMANIO_BUFFER = 1 << 16;
+
+    private enum Tipo {
+        INT, LONG, FLOAT, DOUBLE, OBJETO
+    }
+
+    /**
+     * Una columna de la tabla: el nombre a mostrar y como leer su valor.
+     */
+    private static final class Columna {
+
+        private final char[] titulo;
+        private final Tipo tipo;
+        private final MethodHandle lector;
+
+        private Columna(String nombre, Tipo tipo, MethodHandle lector) {
+            this.titulo = nombre.toUpperCase().toCharArray();
+            this.tipo = tipo;
+            this.lector = lector;
+        }
+    }
+
+    private static final ClassValue<Columna[]> COLUMNAS = new ClassValue<>() {
+        @Override
+        protected Columna[] computeValue(Class<?> clase) {
+            return resolverColumnas(clase);
+        }
+    };
+
+    private final int limiteCaracteresLinea;
+    private final Writer salida;
+    private final StringBuilder valor = new StringBuilder(64);
+    private char[] linea = new char[0];
+
+    /**
+     * @param limiteCaracteresLinea la longitud maxima de cada linea.
+     * @param salida donde se escriben las filas. Si no es un
+     * {@link BufferedWriter} se envuelve en uno.
+     */
+    public RenderizadorTabular(int limiteCaracteresLinea, Writer salida) {
+        this.limiteCaracteresLinea = limiteCaracteresLinea;
+        this.salida = salida instanceof BufferedWriter ? salida : new BufferedWriter(salida, TAMANIO_BUFFER);
+    }
+
+    /**
+     * Crea un renderizador que escribe en la salida estandar sin pasar por
+     * {@code System.out}, para no sincronizar ni vaciar en cada linea.
+     *
+     * @param limiteCaracteresLinea la longitud maxima de cada linea.
+     * @return el renderizador.
+     */
+    public static RenderizadorTabular paraConsola(int limiteCaracteresLinea) {
+        Writer consola = new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8);
+        return new RenderizadorTabular(limiteCaracteresLinea, consola);
+    }
+
+    /**
+     * Escribe la fila de titulos de las columnas de una clase.
+     *
+     * @param clase la clase cuyas columnas se muestran.
+     */
+    public void escribirTitulos(Class<?> clase) {
+        Columna[] columnas = COLUMNAS.get(clase);
+        int largo = anchoColumna(limiteCaracteresLinea, columnas.length) * columnas.length;
+        armarTitulos(columnas, limiteCaracteresLinea, prepararLinea(largo));
+        escribirLinea(linea, largo);
+    }
+
+    /**
+     * Escribe una fila con los valores de los atributos no constantes de una
+     * instancia, segun las columnas de su clase.
+     *
+     * @param instancia la instancia a mostrar.
+     */
+    public void escribirFila(Object instancia) {
+        Columna[] columnas = COLUMNAS.get(instancia.getClass());
+        int largo = anchoColumna(limiteCaracteresLinea, columnas.length) * columnas.length;
+        armarFila(columnas, instancia, limiteCaracteresLinea, prepararLinea(largo), valor);
+        escribirLinea(linea, largo);
+    }
+
+    /**
+     * Escribe en el destino todo lo que quedo en el buffer.
+     */
+    public void vaciar() {
+        try {
+            salida.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Arma la fila de titulos de una clase como String.
+     *
+     * @param clase la clase cuyas columnas se muestran.
+     * @param limiteCaracteresLinea la longitud maxima de la linea.
+     * @return la fila formateada, sin salto de linea.
+     */
+    static String formatearTitulos(Class<?> clase, int limiteCaracteresLinea) {
+        Columna[] columnas = COLUMNAS.get(clase);
+        char[] fila = new char[anchoColumna(limiteCaracteresLinea, columnas.length) * columnas.length];
+        armarTitulos(columnas, limiteCaracteresLinea, fila);
+        return new String(fila);
+    }
+
+    /**
+     * Arma la fila de una instancia como String, usando las columnas de la
+     * clase indicada.
+     *
+     * @param clase la clase cuyas columnas se muestran.
+     * @param instancia la instancia a mostrar.
+     * @param limiteCaracteresLinea la longitud maxima de la linea.
+     * @return la fila formateada, sin salto de linea.
+     */
+    static String formatearFila(Class<?> clase, Object instancia, int limiteCaracteresLinea) {
+        Columna[] columnas = COLUMNAS.get(clase);
+        char[] fila = new char[anchoColumna(limiteCaracteresLinea, columnas.length) * columnas.length];
+        armarFila(columnas, instancia, limiteCaracteresLinea, fila, new StringBuilder());
+        return new String(fila);
+    }
+
+    private static int anchoColumna(int limiteCaracteresLinea, int cantidadColumnas) {
+        return cantidadColumnas == 0 ? 0 : limiteCaracteresLinea / cantidadColumnas;
+    }
+
+    private static void armarTitulos(Columna[] columnas, int limiteCaracteresLinea, char[] fila) {
+        int ancho = anchoColumna(limiteCaracteresLinea, columnas.length);
+        for (int i = 0; i < columnas.length; i++) {
+            char[] titulo = columnas[i].titulo;
+            int largo = Math.min(titulo.length, ancho);
+            System.arraycopy(titulo, 0, fila, i * ancho, largo);
+            Arrays.fill(fila, i * ancho + largo, (i + 1) * ancho, ' ');
+        }
+    }
+
+    private static void armarFila(Columna[] columnas, Object instancia, int limiteCaracteresLinea, char[] fila, StringBuilder valor) {
+        int ancho = anchoColumna(limiteCaracteresLinea, columnas.length);
+        for (int i = 0; i < columnas.length; i++) {
+            leerValor(columnas[i], instancia, valor);
+            int largo = Math.min(valor.length(), ancho);
+            valor.getChars(0, largo, fila, i * ancho);
+            Arrays.fill(fila, i * ancho + largo, (i + 1) * ancho, ' ');
+        }
+    }
+
+    private char[] prepararLinea(int largo) {
+        if (linea.length < largo) {
+            linea = new char[largo];
+        }
+        return linea;
+    }
+
+    private void escribirLinea(char[] fila, int largo) {
+        try {
+            salida.write(fila, 0, largo);
+            salida.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deja en {@code valor} el texto del valor de una columna.
+     */
+    private static void leerValor(Columna columna, Object instancia, StringBuilder valor) {
+        valor.setLength(0);
+        try {
+            switch (columna.tipo) {
+                case INT:
+                    valor.append((int) columna.lector.invokeExact(instancia));
+                    break;
+                case LONG:
+                    valor.append((long) columna.lector.invokeExact(instancia));
+                    break;
+                case FLOAT:
+                    valor.append((float) columna.lector.invokeExact(instancia));
+                    break;
+                case DOUBLE:
+                    valor.append((double) columna.lector.invokeExact(instancia));
+                    break;
+                default:
+                    Object objeto = (Object) columna.lector.invokeExact(instancia);
+                    if (objeto instanceof CharSequence) {
+                        valor.append((CharSequence) objeto);
+                    } else {
+                        valor.append(objeto);
+                    }
+            }
+        } catch (Throwable e) {
+            throw new IllegalStateException("No se pudo leer la columna " + new String(columna.titulo), e);
+        }
+    }
+
+    /**
+     * Resuelve las columnas de una clase: sus atributos ni estaticos ni
+     * finales, desde la clase hacia sus superclases. Tambien se omiten los
+     * atributos {@code transient}, que las subclases usan para estado interno
+     * que no forma parte de los datos (por ejemplo, el origen de una carga
+     * perezosa).
+     */
+    private static Columna[] resolverColumnas(Class<?> clase) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<Columna> columnas = new ArrayList<>();
+
+        for (Class<?> actual = clase; actual != null && actual != Object.class; actual = actual.getSuperclass()) {
+            for (Field campo : actual.getDeclaredFields()) {
+                int modificadores = campo.getModifiers();
+                if (Modifier.isStatic(modificadores) || Modifier.isFinal(modificadores) || Modifier.isTransient(modificadores)) {
+                    continue;
+                }
+                try {
+                    MethodHandle lector = lectorDe(lookup, clase, campo);
+                    Tipo tipo = tipoDe(lector.type().returnType());
+                    Class<?> retorno = tipo == Tipo.OBJETO ? Object.class : lector.type().returnType();
+                    columnas.add(new Columna(campo.getName(), tipo, lector.asType(MethodType.methodType(retorno, Object.class))));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("No se puede acceder al atributo " + campo.getName(), e);
+                }
+            }
+        }
+        return columnas.toArray(new Columna[0]);
+    }
+
+    /**
+     * Busca el getter publico del atributo ({@code getX} o {@code isX}) y, si
+     * no existe, accede al campo directamente.
+     */
+    private static MethodHandle lectorDe(MethodHandles.Lookup lookup, Class<?> clase, Field campo) throws IllegalAccessException {
+        String nombre = Character.toUpperCase(campo.getName().charAt(0)) + campo.getName().substring(1);
+        for (String prefijo : new String[]{"get", "is"}) {
+            try {
+                Method getter = clase.getMethod(prefijo + nombre);
+                if (getter.getReturnType() == campo.getType()) {
+                    return lookup.unreflect(getter);
+                }
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // se prueba con el siguiente prefijo o con el campo
+            }
+        }
+        campo.setAccessible(true);
+        return lookup.unreflectGetter(campo);
+    }
+
+    private static Tipo tipoDe(Class<?> clase) {
+        if (clase == int.class) {
+            return Tipo.INT;
+        } else if (clase == long.class) {
+            return Tipo.LONG;
+        } else if (clase == float.class) {
+            return Tipo.FLOAT;
+        } else if (clase == double.class) {
+            return Tipo.DOUBLE;
+        }
+        return Tipo.OBJETO;
+    }
+
+}
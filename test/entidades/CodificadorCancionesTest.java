@@ -0,0 +1,65 @@
+package entidades;
+
+import java.io.StringWriter;
+import java.util.function.Predicate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import utilidades.RenderizadorTabular;
+
+/**
+ * Pruebas de {@link CodificadorCanciones} y {@link CancionCodificada}: cada
+ * codificador tiene sus propios diccionarios, sus filtros solo comparan
+ * codigos de sus canciones, y una cancion codificada se muestra igual que una
+ * {@link Cancion} con los mismos datos.
+ *
+ * @author Carlos Álvarez
+ */
+public class CodificadorCancionesTest {
+
+    @Test
+    public void losCodificadoresNoCompartenDiccionarios() {
+        CodificadorCanciones primero = new CodificadorCanciones();
+        CodificadorCanciones segundo = new CodificadorCanciones();
+        CancionCodificada rock = primero.nueva("A", "Artista", 3, "Rock");
+        CancionCodificada jazz = segundo.nueva("B", "Otro", 4, "Jazz");
+
+        assertEquals(rock.getCodigoGenero(), jazz.getCodigoGenero());
+        assertEquals("Rock", rock.getGenero());
+        assertEquals("Jazz", jazz.getGenero());
+        assertEquals(1, primero.getGeneros().tamanio());
+        assertEquals(DiccionarioCadenas.SIN_VALOR, primero.getGeneros().codigo("Jazz"));
+    }
+
+    @Test
+    public void losFiltrosComparanCodigosSoloDeSusCanciones() {
+        CodificadorCanciones primero = new CodificadorCanciones();
+        CodificadorCanciones segundo = new CodificadorCanciones();
+        primero.nueva("A", "Artista", 3, "Rock");
+        Predicate<Cancion> rock = primero.delGenero("Rock");
+
+        assertTrue(rock.test(primero.nueva("B", "Artista", 3, "Rock")));
+        assertTrue(rock.test(segundo.nueva("C", "Otro", 3, "Rock")));
+        assertFalse(rock.test(segundo.nueva("D", "Otro", 3, "Jazz")));
+        assertTrue(rock.test(new Cancion("E", "Otro", 3, "Rock")));
+        assertFalse(primero.delArtista("Otro").test(segundo.nueva("F", "Artista", 3, "Pop")));
+    }
+
+    @Test
+    public void seMuestraIgualQueUnaCancion() {
+        CodificadorCanciones codificador = new CodificadorCanciones();
+        String esperada = fila(new Cancion("Titulo", "Artista", 3.5f, "Rock"));
+
+        assertEquals(esperada, fila(codificador.nueva("Titulo", "Artista", 3.5f, "Rock")));
+    }
+
+    private static String fila(Cancion cancion) {
+        StringWriter salida = new StringWriter();
+        RenderizadorTabular renderizador = new RenderizadorTabular(80, salida);
+        renderizador.escribirFila(cancion);
+        renderizador.vaciar();
+        return salida.toString();
+    }
+
+}
@@ -0,0 +1,228 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import static listas_genericas.DatosPrueba.datos;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Pruebas de {@link CacheLista} con cada {@link PoliticaDesalojo}: sobre una
+ * traza aleatoria, el orden de la lista y los aciertos deben coincidir con
+ * un modelo simple de la misma politica.
+ *
+ * @author Carlos Álvarez
+ */
+public class CacheListaTest {
+
+    private static final int CAPACIDAD = 50;
+    private static final int CONSULTAS = 50000;
+
+    @Test
+    public void lruCoincideConLinkedHashMap() {
+        CacheLista<Integer> cache = new CacheLista<>(CAPACIDAD, x -> x);
+        LinkedHashMap<Integer, Integer> modelo = new LinkedHashMap<>(16, 0.75f, true);
+        Random aleatorio = new Random(7);
+        long aciertos = 0;
+
+        for (int i = 0; i < CONSULTAS; i++) {
+            int clave = clave(aleatorio);
+            cache.obtener(clave, x -> (Integer) x);
+            if (modelo.get(clave) != null) {
+                aciertos++;
+            } else {
+                if (modelo.size() == CAPACIDAD) {
+                    modelo.remove(modelo.keySet().iterator().next());
+                }
+                modelo.put(clave, clave);
+            }
+            if (i % 997 == 0) {
+                verificarInvariantes(cache);
+                List<Integer> esperado = new ArrayList<>(modelo.keySet());
+                Collections.reverse(esperado);
+                assertEquals(esperado, datos(cache));
+            }
+        }
+        assertEquals(aciertos, cache.getAciertos());
+    }
+
+    @Test
+    public void lfuCoincideConModeloDeFuerzaBruta() {
+        CacheLista<Integer> cache = new CacheLista<>(CAPACIDAD, x -> x, PoliticaDesalojo.lfu());
+        // Por clave: frecuencia y momento del ultimo uso.
+        Map<Integer, int[]> modelo = new HashMap<>();
+        Random aleatorio = new Random(7);
+        long aciertos = 0;
+
+        for (int i = 0; i < CONSULTAS; i++) {
+            int clave = clave(aleatorio);
+            cache.obtener(clave, x -> (Integer) x);
+            int[] uso = modelo.get(clave);
+            if (uso != null) {
+                aciertos++;
+                uso[0]++;
+                uso[1] = i;
+            } else {
+                if (modelo.size() == CAPACIDAD) {
+                    modelo.remove(Collections.min(modelo.keySet(), (x, y) -> -compararUsos(modelo.get(x), modelo.get(y))));
+                }
+                modelo.put(clave, new int[]{1, i});
+            }
+            if (i % 997 == 0) {
+                verificarInvariantes(cache);
+                List<Integer> esperado = new ArrayList<>(modelo.keySet());
+                esperado.sort((x, y) -> compararUsos(modelo.get(x), modelo.get(y)));
+                assertEquals(esperado, datos(cache));
+            }
+        }
+        assertEquals(aciertos, cache.getAciertos());
+    }
+
+    @Test
+    public void transposicionCoincideConArreglo() {
+        CacheLista<Integer> cache = new CacheLista<>(CAPACIDAD, x -> x, PoliticaDesalojo.transposicion());
+        List<Integer> modelo = new ArrayList<>();
+        Random aleatorio = new Random(7);
+        long aciertos = 0;
+
+        for (int i = 0; i < CONSULTAS; i++) {
+            int clave = clave(aleatorio);
+            cache.obtener(clave, x -> (Integer) x);
+            int posicion = modelo.indexOf(clave);
+            if (posicion >= 0) {
+                aciertos++;
+                if (posicion > 0) {
+                    Collections.swap(modelo, posicion, posicion - 1);
+                }
+            } else {
+                if (modelo.size() == CAPACIDAD) {
+                    modelo.remove(CAPACIDAD - 1);
+                }
+                modelo.add(0, clave);
+            }
+            if (i % 997 == 0) {
+                verificarInvariantes(cache);
+                assertEquals(modelo, datos(cache));
+            }
+        }
+        assertEquals(aciertos, cache.getAciertos());
+    }
+
+    /**
+     * Con TinyLFU, un recorrido de claves que se consultan una sola vez casi
+     * no desaloja a las claves populares, mientras que con LRU las desaloja a
+     * todas. El sketch es aproximado: una clave nueva que choca con claves
+     * populares en todas sus filas puede entrar, por eso se tolera una
+     * fraccion. La traza es mas corta que el periodo de envejecimiento del
+     * sketch, para que las frecuencias no se dividan.
+     */
+    @Test
+    public void tinyLfuNoAdmiteUnRecorrido() {
+        CacheLista<Integer> tinyLfu = new CacheLista<>(CAPACIDAD, x -> x, PoliticaDesalojo.tinyLfu(CAPACIDAD));
+        CacheLista<Integer> lru = new CacheLista<>(CAPACIDAD, x -> x);
+        int recorrido = 2 * CAPACIDAD;
+        for (CacheLista<Integer> cache : List.of(tinyLfu, lru)) {
+            for (int vuelta = 0; vuelta < 8; vuelta++) {
+                for (int clave = 0; clave < CAPACIDAD; clave++) {
+                    cache.obtener(clave, x -> (Integer) x);
+                }
+            }
+            for (int clave = 1000; clave < 1000 + recorrido; clave++) {
+                cache.obtener(clave, x -> (Integer) x);
+            }
+            verificarInvariantes(cache);
+        }
+
+        assertEquals(0, populares(lru));
+        assertTrue(populares(tinyLfu) >= CAPACIDAD * 3 / 4);
+        assertTrue(tinyLfu.getRechazados() >= recorrido * 3 / 4);
+        assertEquals(recorrido, tinyLfu.getRechazados() + tinyLfu.getDesalojos());
+    }
+
+    /**
+     * Sin consultas, {@link CacheLista#poner} tambien registra el acceso: una
+     * clave nueva entra a la cache llena a mas tardar cuando se pone por
+     * segunda vez.
+     */
+    @Test
+    public void tinyLfuAdmitePonerRepetido() {
+        CacheLista<Integer> cache = new CacheLista<>(CAPACIDAD, x -> x, PoliticaDesalojo.tinyLfu(CAPACIDAD));
+        for (int clave = 0; clave < CAPACIDAD; clave++) {
+            assertTrue(cache.poner(clave));
+        }
+        int nueva = CAPACIDAD;
+        Integer victima = ultimo(cache);
+
+        // La primera vez la frecuencia estimada puede empatar con la del
+        // ultimo; la segunda ya la supera.
+        assertTrue(cache.poner(nueva) || cache.poner(nueva));
+        assertTrue(cache.contiene(nueva));
+        assertFalse(cache.contiene(victima));
+        verificarInvariantes(cache);
+    }
+
+    @Test
+    public void quitarYPonerConservanLasInvariantes() {
+        CacheLista<Integer> cache = new CacheLista<>(CAPACIDAD, x -> x, PoliticaDesalojo.lfu());
+        Random aleatorio = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            cache.obtener(clave(aleatorio), x -> (Integer) x);
+        }
+        Integer primero = cache.iterator().next();
+
+        assertEquals(primero, cache.quitar(primero));
+        verificarInvariantes(cache);
+        assertEquals(CAPACIDAD - 1, cache.tamanio());
+        assertTrue(cache.poner(primero));
+        assertTrue(cache.poner(primero));
+        verificarInvariantes(cache);
+        assertEquals(CAPACIDAD, cache.tamanio());
+    }
+
+    /**
+     * Mayor frecuencia primero y, a igual frecuencia, el usado mas
+     * recientemente.
+     */
+    private static int compararUsos(int[] x, int[] y) {
+        return x[0] != y[0] ? Integer.compare(y[0], x[0]) : Integer.compare(y[1], x[1]);
+    }
+
+    private static void verificarInvariantes(CacheLista<Integer> cache) {
+        assertTrue(cache.tamanio() <= cache.getCapacidad());
+        Set<Integer> vistos = new HashSet<>();
+        for (Integer clave : cache) {
+            assertTrue(vistos.add(clave));
+            assertTrue(cache.contiene(clave));
+        }
+        assertEquals(cache.tamanio(), vistos.size());
+    }
+
+    private static int populares(CacheLista<Integer> cache) {
+        int populares = 0;
+        for (int clave = 0; clave < CAPACIDAD; clave++) {
+            if (cache.contiene(clave)) {
+                populares++;
+            }
+        }
+        return populares;
+    }
+
+    private static Integer ultimo(CacheLista<Integer> cache) {
+        List<Integer> elementos = datos(cache);
+        return elementos.get(elementos.size() - 1);
+    }
+
+    private static int clave(Random aleatorio) {
+        return (int) Math.min(299, Math.abs(aleatorio.nextGaussian() * 60));
+    }
+
+}
@@ -0,0 +1,58 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import entidades.CodificadorCanciones;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Pruebas de {@link ColumnasCanciones} con listas que mezclan canciones
+ * comunes y codificadas por distintos codificadores: las consultas por genero
+ * y artista deben coincidir con las cadenas de cada cancion, y armar las
+ * columnas no debe agregar valores a los diccionarios de los codificadores.
+ *
+ * @author Carlos Álvarez
+ */
+public class ColumnasCancionesTest {
+
+    @Test
+    public void codigosDeDistintosCodificadoresNoSeConfunden() {
+        CodificadorCanciones primero = new CodificadorCanciones();
+        CodificadorCanciones segundo = new CodificadorCanciones();
+        ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+        lista.insertarFinal(primero.nueva("A", "Uno", 3, "Rock"));
+        lista.insertarFinal(segundo.nueva("B", "Dos", 4, "Jazz"));
+        lista.insertarFinal(new Cancion("C", "Uno", 5, "Jazz"));
+        lista.insertarFinal(primero.nueva("D", "Dos", 6, "Jazz"));
+        lista.insertarFinal(segundo.nueva("E", "Uno", 7, "Rock"));
+
+        ColumnasCanciones columnas = ColumnasCanciones.de(lista);
+
+        assertEquals(2, columnas.contarGenero("Rock"));
+        assertEquals(3, columnas.contarGenero("Jazz"));
+        assertEquals(0, columnas.contarGenero("Pop"));
+        assertEquals(3, columnas.contarArtista("Uno"));
+        assertEquals(5, columnas.promedioDuracionGenero("Jazz"), 0);
+        Map<String, Integer> esperado = new LinkedHashMap<>();
+        esperado.put("Rock", 2);
+        esperado.put("Jazz", 3);
+        assertEquals(esperado, columnas.contarPorGenero());
+    }
+
+    @Test
+    public void noModificaLosDiccionariosDeLosCodificadores() {
+        CodificadorCanciones codificador = new CodificadorCanciones();
+        ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+        lista.insertarFinal(codificador.nueva("A", "Uno", 3, "Rock"));
+        lista.insertarFinal(new Cancion("B", "Dos", 4, "Jazz"));
+
+        ColumnasCanciones columnas = ColumnasCanciones.de(lista);
+
+        assertEquals(1, columnas.contarGenero("Jazz"));
+        assertEquals(1, codificador.getGeneros().tamanio());
+        assertEquals(1, codificador.getArtistas().tamanio());
+    }
+
+}
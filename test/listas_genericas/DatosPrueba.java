@@ -0,0 +1,85 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Ayudas compartidas por las pruebas: canciones y listas de ejemplo, y
+ * recorridos que pasan el contenido de una lista a un {@link List} para
+ * compararlo. Es publica para que la usen tambien las pruebas de
+ * {@code persistencia}.
+ *
+ * @author Carlos Álvarez
+ */
+public final class DatosPrueba {
+
+    private DatosPrueba() {
+    }
+
+    /**
+     * @param indexada si la lista activa el indice de claves.
+     * @return una lista de canciones vacia con el titulo como clave.
+     */
+    public static ListaSimple<Cancion> nuevaLista(boolean indexada) {
+        ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+        if (indexada) {
+            lista.activarIndice();
+        }
+        return lista;
+    }
+
+    public static Cancion cancion(String titulo, float duracion) {
+        return cancion(titulo, "Artista", duracion);
+    }
+
+    public static Cancion cancion(String titulo, String artista) {
+        return cancion(titulo, artista, 1);
+    }
+
+    public static Cancion cancion(String titulo, String artista, float duracion) {
+        return new Cancion(titulo, artista, duracion, "Genero");
+    }
+
+    /**
+     * @return el nodo en la posicion dada, contando desde 0 en el primero.
+     */
+    public static <T> NodoSimple<T> nodo(ListaSimple<T> lista, int posicion) {
+        NodoSimple<T> p = lista.getPrimero();
+        for (int i = 0; i < posicion; i++) {
+            p = p.getSiguiente();
+        }
+        return p;
+    }
+
+    public static <T> List<T> datos(Iterable<T> elementos) {
+        return datos(elementos.iterator());
+    }
+
+    public static <T> List<T> datos(Iterator<T> elementos) {
+        List<T> datos = new ArrayList<>();
+        elementos.forEachRemaining(datos::add);
+        return datos;
+    }
+
+    public static List<String> titulos(Iterable<? extends Cancion> canciones) {
+        List<String> titulos = new ArrayList<>();
+        for (Cancion cancion : canciones) {
+            titulos.add(cancion.getTitulo());
+        }
+        return titulos;
+    }
+
+    /**
+     * @return cada cancion como {@code titulo|artista|duracion|genero}.
+     */
+    public static List<String> textos(Iterable<? extends Cancion> canciones) {
+        List<String> textos = new ArrayList<>();
+        for (Cancion c : canciones) {
+            textos.add(c.getTitulo() + "|" + c.getArtista() + "|" + c.getDuracion() + "|" + c.getGenero());
+        }
+        return textos;
+    }
+
+}
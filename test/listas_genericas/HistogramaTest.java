@@ -0,0 +1,117 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Pruebas de {@link Histograma}: cada cubo debe cubrir un rango contiguo con
+ * error relativo menor a {@code 2^-precision}, y los percentiles deben quedar
+ * entre el valor exacto y el limite superior de su cubo.
+ *
+ * @author Carlos Álvarez
+ */
+public class HistogramaTest {
+
+    private static final int[] PRECISIONES = {0, 3, Histograma.PRECISION_POR_DEFECTO, 10};
+
+    @Test
+    public void losCubosTienenErrorRelativoAcotado() {
+        for (int precision : PRECISIONES) {
+            for (long valor : valores(new Random(precision))) {
+                Histograma histograma = new Histograma(precision);
+                histograma.registrar(valor);
+                histograma.registrar(Long.MAX_VALUE);
+
+                // Con dos valores, la mediana es el limite superior del cubo del primero.
+                long limite = histograma.getPercentil(50);
+                String mensaje = "precision " + precision + ", valor " + valor;
+                assertTrue(mensaje, limite >= valor);
+                if (valor < 2L << precision) {
+                    assertEquals(mensaje, valor, limite);
+                } else {
+                    // El ancho del cubo es 2^(k - precision) para valor en [2^k, 2^(k+1)).
+                    assertTrue(mensaje, limite - valor < valor >>> precision);
+                }
+                assertEquals(mensaje, limite == Long.MAX_VALUE ? 2 : 1, histograma.contarEntre(limite, limite));
+                if (limite < Long.MAX_VALUE) {
+                    assertEquals(mensaje, 1, histograma.contarEntre(limite + 1, Long.MAX_VALUE));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void losPercentilesQuedanEntreElValorYSuCubo() {
+        for (int precision : PRECISIONES) {
+            Histograma histograma = new Histograma(precision);
+            Random aleatorio = new Random(precision);
+            List<Long> registrados = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                long valor = (long) Math.abs(aleatorio.nextGaussian() * 1_000_000);
+                histograma.registrar(valor);
+                registrados.add(valor);
+            }
+            long[] ordenados = registrados.stream().mapToLong(Long::longValue).sorted().toArray();
+
+            for (double percentil : new double[]{0, 0.1, 25, 50, 90, 99, 99.9, 100}) {
+                int rango = (int) Math.max(1, Math.ceil(percentil / 100 * ordenados.length));
+                long exacto = ordenados[rango - 1];
+                long informado = histograma.getPercentil(percentil);
+                String mensaje = "precision " + precision + ", p" + percentil;
+                assertTrue(mensaje, informado >= exacto);
+                assertTrue(mensaje, informado <= histograma.getMaximo());
+                assertTrue(mensaje, informado - exacto <= exacto >>> precision);
+            }
+            assertEquals(ordenados[ordenados.length - 1], histograma.getPercentil(100));
+            assertEquals(ordenados.length, histograma.contarEntre(0, Long.MAX_VALUE));
+            assertEquals(Arrays.stream(ordenados).average().getAsDouble(), histograma.getPromedio(), 1e-6);
+        }
+    }
+
+    @Test
+    public void casosLimite() {
+        Histograma histograma = new Histograma();
+        assertEquals(0, histograma.getPercentil(50));
+        assertEquals(0, histograma.getPromedio(), 0);
+
+        histograma.registrar(-5);
+        histograma.registrar(40);
+        assertEquals(0, histograma.getPercentil(0));
+        assertEquals(40, histograma.getPercentil(100));
+        assertEquals(1, histograma.contarEntre(-10, 0));
+        assertEquals(0, histograma.contarEntre(-10, -1));
+        assertEquals(0, histograma.contarEntre(50, 10));
+
+        histograma.reiniciar();
+        assertEquals(0, histograma.getCantidad());
+        assertEquals(0, histograma.getMaximo());
+        assertEquals(0, histograma.contarEntre(0, Long.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rechazaUnaPrecisionFueraDeRango() {
+        new Histograma(11);
+    }
+
+    /**
+     * Valores de todas las magnitudes, con los bordes de cada potencia de
+     * dos.
+     */
+    private static List<Long> valores(Random aleatorio) {
+        List<Long> valores = new ArrayList<>(List.of(0L, 1L, 2L, 3L, Long.MAX_VALUE, Long.MAX_VALUE - 1));
+        for (int bits = 1; bits < 63; bits++) {
+            long potencia = 1L << bits;
+            valores.add(potencia - 1);
+            valores.add(potencia);
+            valores.add(potencia + 1);
+            valores.add(potencia + (aleatorio.nextLong() & (potencia - 1)));
+        }
+        return valores;
+    }
+
+}
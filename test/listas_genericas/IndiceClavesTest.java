@@ -0,0 +1,164 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.util.Random;
+import static listas_genericas.DatosPrueba.cancion;
+import static listas_genericas.DatosPrueba.datos;
+import static listas_genericas.DatosPrueba.nodo;
+import static listas_genericas.DatosPrueba.nuevaLista;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Pruebas del indice por clave de {@link ListaSimple}: con el indice activo,
+ * {@link ListaSimple#buscar}, {@link ListaSimple#eliminar} y
+ * {@link ListaSimple#anterior} deben responder lo mismo que el recorrido de la
+ * cadena, tambien con claves repetidas.
+ *
+ * @author Carlos Álvarez
+ */
+public class IndiceClavesTest {
+
+    private static final int CLAVES = 40;
+
+    @Test
+    public void buscarDevuelveElPrimeroConLaClave() {
+        ListaSimple<Cancion> lista = nuevaLista(true);
+        Cancion ultima = cancion("A", 1);
+        Cancion primera = cancion("A", 2);
+        lista.insertarFinal(cancion("B", 0));
+        lista.insertarFinal(ultima);
+        lista.insertarFrente(primera);
+
+        assertSame(primera, lista.buscar(cancion("A", 0)).getDato());
+        assertNull(lista.buscar(cancion("C", 0)));
+    }
+
+    @Test
+    public void eliminarQuitaLosRepetidosEnElOrdenDeLaLista() {
+        ListaSimple<Cancion> lista = nuevaLista(true);
+        Cancion a1 = cancion("A", 1);
+        Cancion a2 = cancion("A", 2);
+        Cancion a3 = cancion("A", 3);
+        lista.insertarFinal(a1);
+        lista.insertarFinal(cancion("B", 0));
+        lista.insertarFinal(a2);
+        lista.insertarFinal(a3);
+
+        assertSame(a1, lista.eliminar(cancion("A", 0)).getDato());
+        assertSame(a2, lista.eliminar(cancion("A", 0)).getDato());
+        assertSame(a3, lista.eliminar(cancion("A", 0)).getDato());
+        assertNull(lista.eliminar(cancion("A", 0)));
+        assertEquals(1, lista.tamanio());
+        assertSame(lista.getPrimero(), lista.getUltimo());
+    }
+
+    @Test
+    public void activarConElementosConstruyeElIndice() {
+        ListaSimple<Cancion> lista = nuevaLista(false);
+        for (int i = 0; i < 100; i++) {
+            lista.insertarFinal(cancion("T" + (i % 10), i));
+        }
+        lista.activarIndice();
+
+        assertTrue(lista.isIndexada());
+        assertEquals(0, lista.buscar(cancion("T0", 0)).getDato().getDuracion(), 0);
+        verificarAnteriores(lista);
+    }
+
+    @Test
+    public void reindexarUbicaElNodoEnSuNuevoGrupo() {
+        ListaSimple<Cancion> lista = nuevaLista(true);
+        Cancion primera = cancion("A", 1);
+        Cancion movida = cancion("B", 2);
+        lista.insertarFinal(primera);
+        lista.insertarFinal(movida);
+        lista.insertarFinal(cancion("A", 3));
+
+        NodoSimple<Cancion> nodo = lista.buscar(movida);
+        movida.setTitulo("A");
+        lista.reindexar(nodo);
+
+        assertNull(lista.buscar(cancion("B", 0)));
+        assertSame(primera, lista.eliminar(cancion("A", 0)).getDato());
+        assertSame(movida, lista.eliminar(cancion("A", 0)).getDato());
+    }
+
+    /**
+     * Aplica la misma secuencia aleatoria de operaciones a una lista indexada
+     * y a otra sin indice, que comparten los datos, y compara sus respuestas
+     * despues de cada operacion.
+     */
+    @Test
+    public void operacionesAleatoriasCoincidenConElRecorrido() {
+        ListaSimple<Cancion> indexada = nuevaLista(true);
+        ListaSimple<Cancion> recorrida = nuevaLista(false);
+        Random aleatorio = new Random(1);
+
+        for (int i = 0; i < 5000; i++) {
+            Cancion sonda = cancion("T" + aleatorio.nextInt(CLAVES), 0);
+            switch (aleatorio.nextInt(6)) {
+                case 0:
+                case 1: {
+                    Cancion nueva = cancion(sonda.getTitulo(), i);
+                    if (aleatorio.nextBoolean()) {
+                        indexada.insertarFrente(nueva);
+                        recorrida.insertarFrente(nueva);
+                    } else {
+                        indexada.insertarFinal(nueva);
+                        recorrida.insertarFinal(nueva);
+                    }
+                    break;
+                }
+                case 2: {
+                    NodoSimple<Cancion> eliminado = indexada.eliminar(sonda);
+                    NodoSimple<Cancion> esperado = recorrida.eliminar(sonda);
+                    assertSame(esperado == null ? null : esperado.getDato(), eliminado == null ? null : eliminado.getDato());
+                    break;
+                }
+                case 3: {
+                    NodoSimple<Cancion> nodo = indexada.buscar(sonda);
+                    if (nodo != null) {
+                        nodo.getDato().setTitulo("T" + aleatorio.nextInt(CLAVES));
+                        indexada.reindexar(nodo);
+                    }
+                    break;
+                }
+                default: {
+                    if (indexada.tamanio() < 2) {
+                        break;
+                    }
+                    int desde = aleatorio.nextInt(indexada.tamanio());
+                    int hasta = aleatorio.nextInt(indexada.tamanio() + 1) - 1;
+                    if (desde == hasta) {
+                        break;
+                    }
+                    indexada.moverDespues(hasta < 0 ? null : nodo(indexada, hasta), nodo(indexada, desde));
+                    recorrida.moverDespues(hasta < 0 ? null : nodo(recorrida, hasta), nodo(recorrida, desde));
+                    break;
+                }
+            }
+            assertEquals(datos(recorrida), datos(indexada));
+            for (int clave = 0; clave < CLAVES; clave++) {
+                Cancion buscada = cancion("T" + clave, 0);
+                NodoSimple<Cancion> esperado = recorrida.buscar(buscada);
+                NodoSimple<Cancion> encontrado = indexada.buscar(buscada);
+                assertSame(esperado == null ? null : esperado.getDato(), encontrado == null ? null : encontrado.getDato());
+            }
+            verificarAnteriores(indexada);
+        }
+    }
+
+    private static void verificarAnteriores(ListaSimple<Cancion> lista) {
+        NodoSimple<Cancion> anterior = null;
+        for (NodoSimple<Cancion> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            assertSame(anterior, lista.anterior(p));
+            anterior = p;
+        }
+        assertSame(anterior, lista.getUltimo());
+    }
+
+}
@@ -0,0 +1,118 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import static listas_genericas.DatosPrueba.cancion;
+import static listas_genericas.DatosPrueba.datos;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Pruebas del indice por duracion de {@link ListaCanciones}: cada consulta de
+ * rango debe devolver exactamente las canciones con duracion entre los
+ * extremos, de la mas corta a la mas larga, tambien con suficientes
+ * canciones para dividir y vaciar hojas del arbol.
+ *
+ * @author Carlos Álvarez
+ */
+public class IndiceRangoTest {
+
+    @Test
+    public void losExtremosSonInclusivos() {
+        ListaCanciones lista = new ListaCanciones();
+        lista.activarIndiceDuracion();
+        Cancion corta = cancion("1", 2);
+        Cancion media = cancion("2", 3);
+        Cancion larga = cancion("3", 4);
+        lista.insertarFrente(larga);
+        lista.insertarFrente(corta);
+        lista.insertarFrente(media);
+
+        assertEquals(List.of(corta, media, larga), datos(lista.entre(2, 4)));
+        assertEquals(List.of(media), datos(lista.entre(2.5f, 3.5f)));
+        assertFalse(lista.entre(4, 2).hasNext());
+        assertEquals(List.of(corta, media), datos(lista.entre(Float.NEGATIVE_INFINITY, Math.nextDown(4f))));
+    }
+
+    @Test
+    public void cambiarLaDuracionMueveLaCancion() {
+        ListaCanciones lista = new ListaCanciones();
+        lista.activarIndiceDuracion();
+        Cancion cancion = cancion("1", 2);
+        lista.insertarFrente(cancion);
+
+        cancion.setDuración(6);
+
+        assertFalse(lista.entre(1, 3).hasNext());
+        assertEquals(List.of(cancion), datos(lista.entre(5, 7)));
+    }
+
+    /**
+     * Inserta, elimina, mueve y cambia la duracion de canciones al azar, con
+     * muchas duraciones repetidas, y compara las consultas con un recorrido de
+     * la lista.
+     */
+    @Test
+    public void operacionesAleatoriasCoincidenConElRecorrido() {
+        ListaCanciones lista = new ListaCanciones();
+        lista.activarIndiceDuracion();
+        List<Cancion> vivas = new ArrayList<>();
+        Random aleatorio = new Random(7);
+
+        for (int i = 0; i < 30000; i++) {
+            int operacion = aleatorio.nextInt(10);
+            if (operacion < 5 || vivas.isEmpty()) {
+                Cancion nueva = cancion("T" + i, duracion(aleatorio));
+                if (aleatorio.nextBoolean()) {
+                    lista.insertarFrente(nueva);
+                } else {
+                    lista.insertarFinal(nueva);
+                }
+                vivas.add(nueva);
+            } else if (operacion < 7) {
+                lista.eliminar(vivas.remove(aleatorio.nextInt(vivas.size())));
+            } else if (operacion < 9) {
+                vivas.get(aleatorio.nextInt(vivas.size())).setDuración(duracion(aleatorio));
+            } else if (lista.tamanio() > 1) {
+                NodoSimple<Cancion> nodo = lista.buscar(vivas.get(aleatorio.nextInt(vivas.size())));
+                NodoSimple<Cancion> destino = lista.getUltimo();
+                if (destino != nodo) {
+                    lista.moverDespues(destino, nodo);
+                }
+            }
+            if (i % 500 == 0) {
+                verificar(lista, aleatorio);
+            }
+        }
+        verificar(lista, aleatorio);
+    }
+
+    private static void verificar(ListaCanciones lista, Random aleatorio) {
+        float minima = aleatorio.nextInt(40) / 4f;
+        float maxima = minima + aleatorio.nextInt(20) / 4f;
+        Set<Cancion> esperadas = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Cancion cancion : lista) {
+            if (cancion.getDuracion() >= minima && cancion.getDuracion() <= maxima) {
+                esperadas.add(cancion);
+            }
+        }
+        List<Cancion> obtenidas = datos(lista.entre(minima, maxima));
+        for (int i = 1; i < obtenidas.size(); i++) {
+            assertTrue(obtenidas.get(i - 1).getDuracion() <= obtenidas.get(i).getDuracion());
+        }
+        assertEquals(esperadas.size(), obtenidas.size());
+        assertTrue(esperadas.containsAll(obtenidas));
+    }
+
+    private static float duracion(Random aleatorio) {
+        return (1 + aleatorio.nextInt(40)) / 4f;
+    }
+
+}
@@ -0,0 +1,137 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import static listas_genericas.DatosPrueba.cancion;
+import static listas_genericas.DatosPrueba.nodo;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Pruebas de los indices secundarios por artista y genero de
+ * {@link ListaCanciones}: cada consulta debe devolver las canciones con ese
+ * valor en el orden de la lista, tambien despues de mover nodos y de cambiar
+ * los datos de las canciones.
+ *
+ * @author Carlos Álvarez
+ */
+public class IndiceSecundarioTest {
+
+    private static final int ARTISTAS = 8;
+    private static final int GENEROS = 4;
+
+    @Test
+    public void moverDespuesConservaElOrdenDelGrupo() {
+        ListaCanciones lista = new ListaCanciones();
+        lista.activarIndicesSecundarios();
+        Cancion a1 = cancion("1", "A");
+        Cancion b = cancion("2", "B");
+        Cancion a2 = cancion("3", "A");
+        Cancion a3 = cancion("4", "A");
+        lista.insertarFinal(a1);
+        lista.insertarFinal(b);
+        lista.insertarFinal(a2);
+        lista.insertarFinal(a3);
+
+        // a3 queda entre b y a2: a1, b, a3, a2.
+        lista.moverDespues(lista.buscar(b), lista.buscar(a3));
+
+        assertEquals(List.of(a1, a3, a2), consulta(lista, "A"));
+    }
+
+    @Test
+    public void cambiarElArtistaConservaElOrdenDelGrupo() {
+        ListaCanciones lista = new ListaCanciones();
+        lista.activarIndicesSecundarios();
+        Cancion a1 = cancion("1", "A");
+        Cancion cambiada = cancion("2", "B");
+        Cancion a2 = cancion("3", "A");
+        lista.insertarFinal(a1);
+        lista.insertarFinal(cambiada);
+        lista.insertarFinal(a2);
+
+        cambiada.setArtista("A");
+
+        assertEquals(List.of(a1, cambiada, a2), consulta(lista, "A"));
+        assertEquals(0, lista.contar(ListaCanciones.INDICE_ARTISTA, "B"));
+    }
+
+    @Test
+    public void operacionesAleatoriasCoincidenConElRecorrido() {
+        ListaCanciones lista = new ListaCanciones();
+        Random aleatorio = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            lista.insertarFrente(cancionAleatoria(aleatorio, i));
+        }
+        lista.activarIndice();
+        lista.activarIndicesSecundarios();
+
+        for (int i = 0; i < 5000; i++) {
+            NodoSimple<Cancion> nodo = lista.tamanio() == 0 ? null : nodo(lista, aleatorio.nextInt(lista.tamanio()));
+            switch (aleatorio.nextInt(7)) {
+                case 0:
+                    lista.insertarFrente(cancionAleatoria(aleatorio, i));
+                    break;
+                case 1:
+                    lista.insertarFinal(cancionAleatoria(aleatorio, i));
+                    break;
+                case 2:
+                    if (nodo != null) {
+                        lista.eliminar(nodo.getDato());
+                    }
+                    break;
+                case 3:
+                    if (nodo != null) {
+                        nodo.getDato().setArtista("A" + aleatorio.nextInt(ARTISTAS));
+                    }
+                    break;
+                case 4:
+                    if (nodo != null) {
+                        nodo.getDato().setGenero("G" + aleatorio.nextInt(GENEROS));
+                    }
+                    break;
+                default:
+                    if (nodo != null && lista.tamanio() > 1) {
+                        int hasta = aleatorio.nextInt(lista.tamanio() + 1) - 1;
+                        NodoSimple<Cancion> destino = hasta < 0 ? null : nodo(lista, hasta);
+                        if (destino != nodo) {
+                            lista.moverDespues(destino, nodo);
+                        }
+                    }
+            }
+            verificar(lista, ListaCanciones.INDICE_ARTISTA, "A", ARTISTAS, Cancion::getArtista);
+            verificar(lista, ListaCanciones.INDICE_GENERO, "G", GENEROS, Cancion::getGenero);
+        }
+    }
+
+    private static void verificar(ListaCanciones lista, String indice, String prefijo, int valores,
+            Function<Cancion, String> extractor) {
+        for (int v = 0; v < valores; v++) {
+            String valor = prefijo + v;
+            List<Cancion> esperadas = new ArrayList<>();
+            for (Cancion cancion : lista) {
+                if (valor.equals(extractor.apply(cancion))) {
+                    esperadas.add(cancion);
+                }
+            }
+            List<Cancion> obtenidas = new ArrayList<>();
+            lista.consultar(indice, valor).forEachRemaining(obtenidas::add);
+            assertEquals(indice + " " + valor, esperadas, obtenidas);
+            assertEquals(esperadas.size(), lista.contar(indice, valor));
+        }
+    }
+
+    private static List<Cancion> consulta(ListaCanciones lista, String artista) {
+        List<Cancion> canciones = new ArrayList<>();
+        lista.porArtista(artista).forEachRemaining(canciones::add);
+        return canciones;
+    }
+
+    private static Cancion cancionAleatoria(Random aleatorio, int numero) {
+        return new Cancion("T" + numero, "A" + aleatorio.nextInt(ARTISTAS), 1, "G" + aleatorio.nextInt(GENEROS));
+    }
+
+}
@@ -0,0 +1,73 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Pruebas de {@link ListaDesenrollada}: despues de insertar al frente y
+ * eliminar en cualquier posicion, con nodos chicos para forzar corrimientos y
+ * fusiones, el recorrido debe coincidir con el de una {@link LinkedList}.
+ *
+ * @author Carlos Álvarez
+ */
+public class ListaDesenrolladaTest {
+
+    @Test
+    public void insertarFrenteConservaElOrden() {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>(x -> x, 4);
+        for (int i = 0; i < 10; i++) {
+            lista.insertarFrente(i);
+        }
+        assertEquals(List.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0), datos(lista));
+        assertEquals(10, lista.tamanio());
+    }
+
+    @Test
+    public void eliminarElPrimeroYVolverAInsertar() {
+        ListaDesenrollada<Integer> lista = new ListaDesenrollada<>(x -> x, 4);
+        for (int i = 0; i < 6; i++) {
+            lista.insertarFrente(i);
+        }
+        assertEquals(Integer.valueOf(5), lista.eliminar(5));
+        assertEquals(Integer.valueOf(4), lista.eliminar(4));
+        lista.insertarFrente(10);
+        lista.insertarFrente(11);
+        lista.insertarFrente(12);
+        assertEquals(List.of(12, 11, 10, 3, 2, 1, 0), datos(lista));
+    }
+
+    @Test
+    public void operacionesAleatoriasCoincidenConUnaLinkedList() {
+        for (int tamanioNodo : new int[]{2, 3, 4, 8}) {
+            ListaDesenrollada<Integer> lista = new ListaDesenrollada<>(x -> x, tamanioNodo);
+            LinkedList<Integer> esperada = new LinkedList<>();
+            Random aleatorio = new Random(tamanioNodo);
+            for (int i = 0; i < 20000; i++) {
+                int valor = aleatorio.nextInt(64);
+                if (aleatorio.nextInt(5) < 3) {
+                    lista.insertarFrente(valor);
+                    esperada.addFirst(valor);
+                } else {
+                    Integer eliminado = esperada.removeFirstOccurrence(valor) ? valor : null;
+                    assertEquals(eliminado, lista.eliminar(valor));
+                }
+                assertEquals(esperada.size(), lista.tamanio());
+                if (i % 16 == 0) {
+                    assertEquals(esperada, datos(lista));
+                }
+            }
+            assertEquals(esperada, datos(lista));
+        }
+    }
+
+    private static List<Integer> datos(ListaDesenrollada<Integer> lista) {
+        List<Integer> datos = new ArrayList<>();
+        lista.paraCada(datos::add);
+        return datos;
+    }
+
+}
@@ -0,0 +1,135 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import static listas_genericas.DatosPrueba.cancion;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Pruebas de {@link ListaOrdenada}: despues de inserciones y eliminaciones
+ * al azar, la cadena, las busquedas y los rangos deben coincidir con un
+ * arreglo ordenado de forma estable.
+ *
+ * @author Carlos Álvarez
+ */
+public class ListaOrdenadaTest {
+
+    private static final Comparator<Cancion> POR_DURACION = Comparator.comparingDouble(Cancion::getDuracion);
+
+    @Test
+    public void coincideConUnArregloOrdenado() {
+        ListaOrdenada<Cancion> lista = new ListaOrdenada<>(POR_DURACION);
+        List<Cancion> modelo = new ArrayList<>();
+        Random aleatorio = new Random(9);
+
+        for (int i = 0; i < 20_000; i++) {
+            Cancion clave = cancion("T" + i, aleatorio.nextInt(50));
+            if (aleatorio.nextInt(10) < 6) {
+                Cancion insertada = lista.insertar(clave).getDato();
+                assertSame(clave, insertada);
+                // Despues de las iguales que ya estaban.
+                int posicion = 0;
+                while (posicion < modelo.size() && POR_DURACION.compare(modelo.get(posicion), clave) <= 0) {
+                    posicion++;
+                }
+                modelo.add(posicion, clave);
+            } else {
+                int posicion = primeraIgual(modelo, clave);
+                NodoSimple<Cancion> eliminado = lista.eliminar(clave);
+                if (posicion < 0) {
+                    assertNull(eliminado);
+                } else {
+                    assertSame(modelo.remove(posicion), eliminado.getDato());
+                    assertNull(eliminado.getSiguiente());
+                }
+            }
+            if (i % 1000 == 0) {
+                verificar(lista, modelo, aleatorio);
+            }
+        }
+        verificar(lista, modelo, aleatorio);
+    }
+
+    @Test
+    public void listaVacia() {
+        ListaOrdenada<Integer> lista = new ListaOrdenada<>();
+
+        assertNull(lista.eliminar(1));
+        assertNull(lista.buscar(1));
+        assertNull(lista.getPrimero());
+        assertTrue(lista.rango(0, 10).isEmpty());
+
+        NodoSimple<Integer> nodo = lista.insertar(1);
+        assertSame(nodo, lista.eliminar(1));
+        assertEquals(0, lista.tamanio());
+        assertNull(lista.getPrimero());
+    }
+
+    @Test
+    public void ordenNaturalYRangoConAmbosExtremos() {
+        ListaOrdenada<Integer> lista = new ListaOrdenada<>();
+        for (int valor : new int[]{5, 1, 9, 3, 7, 3, 10, 0}) {
+            lista.insertar(valor);
+        }
+
+        assertEquals(List.of(0, 1, 3, 3, 5, 7, 9, 10), cadena(lista));
+        assertEquals(List.of(3, 3, 5, 7), lista.rango(3, 7));
+        assertEquals(List.of(3, 3, 5), lista.rango(2, 6));
+        assertEquals(List.of(), lista.rango(11, 20));
+        assertEquals(List.of(0), lista.rango(-5, 0));
+        assertEquals(List.of(), lista.rango(7, 3));
+    }
+
+    private static void verificar(ListaOrdenada<Cancion> lista, List<Cancion> modelo, Random aleatorio) {
+        assertEquals(modelo.size(), lista.tamanio());
+        List<Cancion> cadena = cadena(lista);
+        assertEquals(modelo.size(), cadena.size());
+        for (int i = 0; i < modelo.size(); i++) {
+            assertSame(modelo.get(i), cadena.get(i));
+        }
+
+        for (int duracion = 0; duracion < 50; duracion++) {
+            Cancion clave = cancion("", duracion);
+            int posicion = primeraIgual(modelo, clave);
+            NodoSimple<Cancion> encontrado = lista.buscar(clave);
+            if (posicion < 0) {
+                assertNull(encontrado);
+            } else {
+                assertSame(modelo.get(posicion), encontrado.getDato());
+            }
+        }
+
+        Cancion desde = cancion("", aleatorio.nextInt(50));
+        Cancion hasta = cancion("", desde.getDuracion() + aleatorio.nextInt(10));
+        List<Cancion> esperado = modelo.stream()
+                .filter(c -> POR_DURACION.compare(c, desde) >= 0 && POR_DURACION.compare(c, hasta) <= 0)
+                .collect(Collectors.toList());
+        assertEquals(esperado, lista.rango(desde, hasta));
+    }
+
+    private static int primeraIgual(List<Cancion> modelo, Cancion clave) {
+        for (int i = 0; i < modelo.size(); i++) {
+            if (POR_DURACION.compare(modelo.get(i), clave) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <T> List<T> cadena(ListaOrdenada<T> lista) {
+        List<T> datos = new ArrayList<>();
+        for (NodoSimple<T> p = lista.getPrimero(); p != null; p = p.getSiguiente()) {
+            datos.add(p.getDato());
+        }
+        return datos;
+    }
+
+}
@@ -0,0 +1,135 @@
+package listas_genericas;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Pruebas de {@link ListaSimpleConcurrente} con varios hilos a la vez: cada
+ * elemento debe eliminarse exactamente una vez aunque varios hilos lo
+ * intenten, y al terminar la lista debe contener justo lo insertado y no
+ * eliminado.
+ *
+ * @author Carlos Álvarez
+ */
+public class ListaSimpleConcurrenteTest {
+
+    private static final int HILOS = 8;
+    private static final int ELEMENTOS = 2000;
+
+    @Test
+    public void operacionesBasicas() {
+        ListaSimpleConcurrente<Integer> lista = new ListaSimpleConcurrente<>();
+        lista.insertarFrente(1);
+        lista.insertarFrente(2);
+        lista.insertarFrente(1);
+
+        assertEquals(List.of(1, 2, 1), datos(lista));
+        assertEquals(Integer.valueOf(1), lista.eliminar(1));
+        assertEquals(List.of(2, 1), datos(lista));
+        assertNull(lista.eliminar(3));
+    }
+
+    /**
+     * Todos los hilos intentan eliminar todos los elementos: la suma de las
+     * eliminaciones exitosas de cada elemento debe ser 1.
+     */
+    @Test
+    public void cadaElementoSeEliminaUnaSolaVez() throws Exception {
+        for (int ronda = 0; ronda < 100; ronda++) {
+            ListaSimpleConcurrente<Integer> lista = new ListaSimpleConcurrente<>();
+            for (int i = 0; i < ELEMENTOS; i++) {
+                lista.insertarFrente(i);
+            }
+            AtomicIntegerArray eliminaciones = new AtomicIntegerArray(ELEMENTOS);
+            ejecutar(hilo -> {
+                for (int i = 0; i < ELEMENTOS; i++) {
+                    int elemento = (i + hilo * ELEMENTOS / HILOS) % ELEMENTOS;
+                    if (lista.eliminar(elemento) != null) {
+                        eliminaciones.incrementAndGet(elemento);
+                    }
+                }
+            });
+            for (int i = 0; i < ELEMENTOS; i++) {
+                assertEquals("elemento " + i, 1, eliminaciones.get(i));
+            }
+            assertTrue(datos(lista).isEmpty());
+        }
+    }
+
+    /**
+     * Cada hilo inserta sus propios elementos y elimina los pares mientras los
+     * demas hacen lo mismo; al final deben quedar exactamente los impares.
+     */
+    @Test
+    public void insercionesYEliminacionesConcurrentes() throws Exception {
+        ListaSimpleConcurrente<Integer> lista = new ListaSimpleConcurrente<>();
+        ejecutar(hilo -> {
+            int base = hilo * ELEMENTOS;
+            for (int i = 0; i < ELEMENTOS; i++) {
+                lista.insertarFrente(base + i);
+                if (i % 2 == 1) {
+                    assertEquals(Integer.valueOf(base + i - 1), lista.eliminar(base + i - 1));
+                }
+            }
+        });
+        Set<Integer> esperados = new HashSet<>();
+        for (int i = 0; i < HILOS * ELEMENTOS; i++) {
+            if (i % 2 == 1) {
+                esperados.add(i);
+            }
+        }
+        List<Integer> datos = datos(lista);
+        assertEquals(esperados.size(), datos.size());
+        assertEquals(esperados, new HashSet<>(datos));
+    }
+
+    private interface Tarea {
+
+        void ejecutar(int hilo) throws Exception;
+    }
+
+    /**
+     * Ejecuta la tarea en {@link #HILOS} hilos que arrancan a la vez y
+     * propaga la primera falla.
+     */
+    private static void ejecutar(Tarea tarea) throws Exception {
+        ExecutorService hilos = Executors.newFixedThreadPool(HILOS);
+        try {
+            CountDownLatch largada = new CountDownLatch(1);
+            List<Future<?>> resultados = new ArrayList<>();
+            for (int h = 0; h < HILOS; h++) {
+                int hilo = h;
+                resultados.add(hilos.submit(() -> {
+                    largada.await();
+                    tarea.ejecutar(hilo);
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> resultado : resultados) {
+                resultado.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            hilos.shutdownNow();
+        }
+    }
+
+    private static List<Integer> datos(ListaSimpleConcurrente<Integer> lista) {
+        List<Integer> datos = new ArrayList<>();
+        lista.paraCada(datos::add);
+        return datos;
+    }
+
+}
@@ -0,0 +1,133 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import static listas_genericas.DatosPrueba.datos;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Pruebas de las operaciones paralelas de {@link ListaSimple}: con distintas
+ * cantidades de tramos, {@link ListaSimple#ordenar} debe dar el mismo orden
+ * estable que {@link List#sort}, y {@link ListaSimple#filtrar},
+ * {@link ListaSimple#mapear}, {@link ListaSimple#reducir} y
+ * {@link ListaSimple#contar} lo mismo que un recorrido secuencial.
+ *
+ * @author Carlos Álvarez
+ */
+public class OperacionesParalelasTest {
+
+    /**
+     * Tamanios de una cadena con uno, uno justo, dos, nueve y cuarenta
+     * tramos.
+     */
+    private static final int[] TAMANIOS = {1, 100, MarcasTramos.TAMANIO_TRAMO, MarcasTramos.TAMANIO_TRAMO + 1,
+        9 * MarcasTramos.TAMANIO_TRAMO, 40 * MarcasTramos.TAMANIO_TRAMO};
+
+    private static final Comparator<Cancion> POR_DURACION = Comparator.comparingDouble(Cancion::getDuracion);
+
+    @Test
+    public void ordenarEsEstableComoListSort() {
+        for (int tamanio : TAMANIOS) {
+            for (boolean porLotes : new boolean[]{false, true}) {
+                ListaSimple<Cancion> lista = nuevaLista(tamanio, porLotes);
+                List<Cancion> esperado = datos(lista);
+                esperado.sort(POR_DURACION);
+
+                lista.ordenar(POR_DURACION);
+
+                List<Cancion> obtenido = datos(lista);
+                assertEquals(tamanio, lista.tamanio());
+                for (int i = 0; i < tamanio; i++) {
+                    assertSame(esperado.get(i), obtenido.get(i));
+                }
+                assertSame(esperado.get(tamanio - 1), lista.getUltimo().getDato());
+                for (Cancion cancion : esperado) {
+                    assertSame(cancion, lista.buscar(cancion).getDato());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void ordenarConUnComparadorQueFallaDejaLaListaIntacta() {
+        ListaSimple<Cancion> lista = nuevaLista(9 * MarcasTramos.TAMANIO_TRAMO, false);
+        List<Cancion> antes = datos(lista);
+        Cancion rota = antes.get(antes.size() / 2);
+        Comparator<Cancion> falla = (a, b) -> {
+            if (a == rota || b == rota) {
+                throw new IllegalStateException("comparador roto");
+            }
+            return POR_DURACION.compare(a, b);
+        };
+
+        try {
+            lista.ordenar(falla);
+            fail("Se esperaba la excepcion del comparador");
+        } catch (IllegalStateException e) {
+            // Fork/join puede relanzarla como una copia con la original de causa.
+        }
+
+        assertEquals(antes, datos(lista));
+        assertEquals(antes.size(), lista.tamanio());
+        assertSame(antes.get(antes.size() - 1), lista.getUltimo().getDato());
+        for (Cancion cancion : antes) {
+            assertSame(cancion, lista.buscar(cancion).getDato());
+        }
+        assertEquals(antes.size(), lista.contar(cancion -> true));
+
+        lista.ordenar(POR_DURACION);
+        antes.sort(POR_DURACION);
+        assertEquals(antes, datos(lista));
+    }
+
+    @Test
+    public void filtrarMapearReducirYContarCoincidenConElRecorrido() {
+        for (int tamanio : TAMANIOS) {
+            for (boolean porLotes : new boolean[]{false, true}) {
+                ListaSimple<Cancion> lista = nuevaLista(tamanio, porLotes);
+                List<Cancion> datos = datos(lista);
+
+                List<Cancion> cortas = datos.stream().filter(c -> c.getDuracion() < 20).collect(Collectors.toList());
+                assertEquals(cortas, datos(lista.filtrar(c -> c.getDuracion() < 20)));
+                List<String> titulos = datos.stream().map(Cancion::getTitulo).collect(Collectors.toList());
+                assertEquals(titulos, datos(lista.mapear(Cancion::getTitulo)));
+                String concatenados = String.join("", titulos);
+                assertEquals(concatenados, lista.reducir("", (total, c) -> total + c.getTitulo(), String::concat));
+                assertEquals(cortas.size(), lista.contar(c -> c.getDuracion() < 20));
+            }
+        }
+    }
+
+    /**
+     * Con {@code porLotes}, las canciones se agregan en cadenas de tamanio
+     * aleatorio con {@link ListaSimple#insertarTodos}, que marcan tramos
+     * distintos a los de las inserciones de a una.
+     */
+    private static ListaSimple<Cancion> nuevaLista(int tamanio, boolean porLotes) {
+        ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+        lista.activarIndice();
+        Random aleatorio = new Random(tamanio);
+        List<Cancion> lote = new ArrayList<>();
+        for (int i = 0; i < tamanio; i++) {
+            Cancion cancion = new Cancion("T" + i, "Artista", aleatorio.nextInt(50), "Genero");
+            if (!porLotes) {
+                lista.insertarFinal(cancion);
+            } else {
+                lote.add(cancion);
+                if (aleatorio.nextInt(300) == 0 || i == tamanio - 1) {
+                    lista.insertarTodos(lote);
+                    lote.clear();
+                }
+            }
+        }
+        return lista;
+    }
+
+}
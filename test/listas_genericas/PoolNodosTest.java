@@ -0,0 +1,90 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.util.List;
+import static listas_genericas.DatosPrueba.cancion;
+import static listas_genericas.DatosPrueba.titulos;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * Pruebas del pool de nodos de {@link ListaSimple}: los nodos liberados
+ * pierden su dato, el pool respeta su capacidad, y las inserciones que
+ * reutilizan nodos dejan consistentes la lista y sus indices.
+ *
+ * @author Carlos Álvarez
+ */
+public class PoolNodosTest {
+
+    @Test
+    public void liberarLimpiaElNodoYLaInsercionLoReutiliza() {
+        ListaCanciones lista = nuevaLista(4);
+        for (int i = 0; i < 3; i++) {
+            lista.insertarFinal(cancion("T" + i, "A"));
+        }
+        NodoSimple<Cancion> nodo = lista.eliminar(cancion("T1", ""));
+        lista.liberar(nodo);
+
+        assertNull(nodo.getDato());
+        assertNull(nodo.getSiguiente());
+        assertEquals(1, lista.getPool().getDisponibles());
+
+        Cancion nueva = cancion("N", "A");
+        lista.insertarFinal(nueva);
+        assertSame(nodo, lista.getUltimo());
+        assertSame(nueva, nodo.getDato());
+        assertEquals(1, lista.getPool().getReutilizados());
+        assertEquals(0, lista.getPool().getDisponibles());
+    }
+
+    @Test
+    public void eliminarTodosDevuelveNodosHastaLaCapacidad() {
+        ListaCanciones lista = nuevaLista(4);
+        for (int i = 0; i < 10; i++) {
+            lista.insertarFinal(cancion("T" + i, "A"));
+        }
+
+        assertEquals(6, lista.eliminarTodos(List.of("T1", "T2", "T3", "T4", "T5", "T6")));
+        assertEquals(4, lista.getPool().getDisponibles());
+        assertEquals(4, lista.getPool().getDevueltos());
+        assertEquals(2, lista.getPool().getDescartados());
+        assertEquals(List.of("T0", "T7", "T8", "T9"), titulos(lista));
+    }
+
+    @Test
+    public void losNodosReutilizadosQuedanEnLosIndices() {
+        ListaCanciones lista = nuevaLista(4);
+        for (int i = 0; i < 10; i++) {
+            lista.insertarFinal(cancion("T" + i, "A"));
+        }
+        NodoSimple<Cancion> nodo = lista.eliminar(cancion("T3", ""));
+        Cancion eliminada = nodo.getDato();
+        lista.liberar(nodo);
+        lista.eliminarTodos(List.of("T1", "T2", "T4", "T5", "T6"));
+
+        lista.insertarTodos(List.of(cancion("N1", "A"), cancion("N2", "A")));
+        lista.insertarFrente(cancion("N3", "B"));
+        // La cancion ya no esta en la lista: cambiarla no debe tocar los indices.
+        eliminada.setArtista("Z");
+
+        assertEquals(3, lista.getPool().getReutilizados());
+        assertEquals(List.of("N3", "N1", "N2", "T0", "T7", "T8", "T9"), titulos(lista));
+        assertEquals(6, lista.contar(ListaCanciones.INDICE_ARTISTA, "A"));
+        assertEquals(1, lista.contar(ListaCanciones.INDICE_ARTISTA, "B"));
+        assertEquals(0, lista.contar(ListaCanciones.INDICE_ARTISTA, "Z"));
+        for (Cancion cancion : lista) {
+            assertSame(cancion, lista.buscar(cancion).getDato());
+        }
+    }
+
+    private static ListaCanciones nuevaLista(int capacidadPool) {
+        ListaCanciones lista = new ListaCanciones();
+        lista.activarIndice();
+        lista.activarIndicesSecundarios();
+        lista.activarPool(capacidadPool);
+        return lista;
+    }
+
+}
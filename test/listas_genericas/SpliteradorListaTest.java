@@ -0,0 +1,178 @@
+package listas_genericas;
+
+import entidades.Cancion;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import static listas_genericas.DatosPrueba.datos;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Pruebas del {@link SpliteradorLista} y de las operaciones paralelas de
+ * {@link ListaSimple}: las partes de cualquier division deben cubrir la lista
+ * completa, en orden y sin repetir elementos, y los streams y las operaciones
+ * masivas deben dar lo mismo que un recorrido secuencial.
+ *
+ * @author Carlos Álvarez
+ */
+public class SpliteradorListaTest {
+
+    @Test
+    public void lasPartesCubrenLaListaEnOrden() {
+        ListaSimple<Integer> lista = new ListaSimple<>();
+        for (int i = 0; i < 100_000; i++) {
+            lista.insertarFrente(i);
+        }
+
+        List<Spliterator<Integer>> partes = new ArrayList<>();
+        dividir(lista.spliterator(), 5 * MarcasTramos.TAMANIO_TRAMO, partes);
+
+        assertTrue(partes.size() > 1);
+        List<Integer> recorrido = new ArrayList<>();
+        for (Spliterator<Integer> parte : partes) {
+            parte.forEachRemaining(recorrido::add);
+        }
+        assertEquals(datos(lista), recorrido);
+    }
+
+    @Test
+    public void avanzarYDividirSeCombinan() {
+        ListaSimple<Integer> lista = new ListaSimple<>();
+        for (int i = 0; i < 10 * MarcasTramos.TAMANIO_TRAMO; i++) {
+            lista.insertarFinal(i);
+        }
+
+        Spliterator<Integer> resto = lista.spliterator();
+        List<Integer> recorrido = new ArrayList<>();
+        for (int i = 0; i < MarcasTramos.TAMANIO_TRAMO + 7; i++) {
+            resto.tryAdvance(recorrido::add);
+        }
+        Spliterator<Integer> prefijo = resto.trySplit();
+        prefijo.forEachRemaining(recorrido::add);
+        resto.forEachRemaining(recorrido::add);
+
+        assertEquals(datos(lista), recorrido);
+        assertNull(resto.trySplit());
+    }
+
+    /**
+     * Las cadenas cortas insertadas al frente, mezcladas con inserciones de
+     * a una, siguen marcando un nodo de cada
+     * {@value MarcasTramos#TAMANIO_TRAMO} contando desde el final, y no uno
+     * por cadena.
+     */
+    @Test
+    public void lasCadenasCortasNoAgreganMarcas() {
+        MarcasTramos<Integer> marcas = new MarcasTramos<>();
+        Random aleatorio = new Random(5);
+        NodoSimple<Integer> primero = null;
+        int tamanio = 0;
+        while (tamanio < 20 * MarcasTramos.TAMANIO_TRAMO) {
+            int largo = aleatorio.nextInt(10) == 0 ? 1 + aleatorio.nextInt(3000) : 1 + aleatorio.nextInt(30);
+            NodoSimple<Integer> primeroCadena = new NodoSimple<>(tamanio);
+            NodoSimple<Integer> ultimoCadena = primeroCadena;
+            for (int i = 1; i < largo; i++) {
+                NodoSimple<Integer> nodo = new NodoSimple<>(tamanio + i);
+                ultimoCadena.setSiguiente(nodo);
+                ultimoCadena = nodo;
+            }
+            ultimoCadena.setSiguiente(primero);
+            primero = primeroCadena;
+            if (largo == 1 && aleatorio.nextBoolean()) {
+                marcas.registrarFrente(primero);
+            } else {
+                assertEquals(largo, marcas.registrarCadenaFrente(primeroCadena, ultimoCadena));
+            }
+            tamanio += largo;
+        }
+
+        List<NodoSimple<Integer>> nodos = new ArrayList<>();
+        for (NodoSimple<Integer> p = primero; p != null; p = p.getSiguiente()) {
+            nodos.add(p);
+        }
+        List<Integer> esperados = new ArrayList<>();
+        for (int desdeElFinal = (tamanio - 1) / MarcasTramos.TAMANIO_TRAMO; desdeElFinal > 0; desdeElFinal--) {
+            esperados.add(nodos.get(tamanio - desdeElFinal * MarcasTramos.TAMANIO_TRAMO).getDato());
+        }
+        List<Integer> limites = new ArrayList<>();
+        for (NodoSimple<Integer> limite : marcas.limites(primero)) {
+            limites.add(limite.getDato());
+        }
+        assertEquals(esperados, limites);
+    }
+
+    /**
+     * Despues de inserciones al frente y al final y de eliminaciones al azar,
+     * que dejan tramos de distinto largo, compara los streams y las
+     * operaciones paralelas con el recorrido de la lista.
+     */
+    @Test
+    public void streamsYOperacionesParalelasCoincidenConElRecorrido() {
+        ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+        lista.activarIndice();
+        List<String> vivos = new ArrayList<>();
+        Random aleatorio = new Random(3);
+
+        for (int i = 0; i < 60_000; i++) {
+            if (aleatorio.nextInt(10) < 7 || vivos.isEmpty()) {
+                Cancion nueva = new Cancion("T" + i, "Artista", 1 + aleatorio.nextInt(8), "Genero");
+                if (aleatorio.nextBoolean()) {
+                    lista.insertarFrente(nueva);
+                } else {
+                    lista.insertarFinal(nueva);
+                }
+                vivos.add(nueva.getTitulo());
+            } else {
+                String titulo = vivos.remove(aleatorio.nextInt(vivos.size()));
+                lista.eliminar(new Cancion(titulo, "Artista", 1, "Genero"));
+            }
+            if (i % 10_000 == 0) {
+                verificar(lista);
+            }
+        }
+        verificar(lista);
+
+        List<Cancion> esperada = new ArrayList<>(datos(lista));
+        esperada.sort(Comparator.comparing(Cancion::getDuracion));
+        lista.ordenar(Comparator.comparing(Cancion::getDuracion));
+        assertEquals(esperada, datos(lista));
+        verificar(lista);
+    }
+
+    private static void verificar(ListaSimple<Cancion> lista) {
+        List<Cancion> esperados = datos(lista);
+        assertEquals(lista.tamanio(), esperados.size());
+        assertEquals(esperados, lista.stream().collect(Collectors.toList()));
+        assertEquals(esperados, lista.parallelStream().collect(Collectors.toList()));
+
+        List<Cancion> cortas = esperados.stream().filter(c -> c.getDuracion() < 5).collect(Collectors.toList());
+        assertEquals(cortas, datos(lista.filtrar(c -> c.getDuracion() < 5)));
+        assertEquals(cortas.size(), lista.contar(c -> c.getDuracion() < 5));
+        assertEquals(esperados.stream().map(Cancion::getTitulo).collect(Collectors.toList()),
+                datos(lista.mapear(Cancion::getTitulo)));
+        double total = 0;
+        for (Cancion cancion : esperados) {
+            total += cancion.getDuracion();
+        }
+        assertEquals(total, lista.reducir(0.0, (suma, c) -> suma + c.getDuracion(), Double::sum), 1e-6);
+    }
+
+    private static <T> void dividir(Spliterator<T> spliterator, long tamanioMinimo, List<Spliterator<T>> partes) {
+        if (spliterator.estimateSize() > tamanioMinimo) {
+            Spliterator<T> prefijo = spliterator.trySplit();
+            if (prefijo != null) {
+                dividir(prefijo, tamanioMinimo, partes);
+                dividir(spliterator, tamanioMinimo, partes);
+                return;
+            }
+        }
+        partes.add(spliterator);
+    }
+
+}
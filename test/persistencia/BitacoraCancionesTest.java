@@ -0,0 +1,190 @@
+package persistencia;
+
+import entidades.Cancion;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+import static listas_genericas.DatosPrueba.cancion;
+import static listas_genericas.DatosPrueba.nuevaLista;
+import static listas_genericas.DatosPrueba.textos;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Pruebas de {@link BitacoraCanciones}: reproducir la bitacora debe
+ * reconstruir la misma lista, y un final incompleto o corrupto debe
+ * descartarse e informarse sin perder los registros anteriores.
+ *
+ * @author Carlos Álvarez
+ */
+public class BitacoraCancionesTest {
+
+    @Rule
+    public TemporaryFolder carpeta = new TemporaryFolder();
+
+    /**
+     * Aplica operaciones aleatorias, con compactaciones en el medio, y
+     * compara la lista con la que se reconstruye al reabrir.
+     */
+    @Test
+    public void reproducirReconstruyeLaLista() throws Exception {
+        Path archivo = archivo("canciones.wal");
+        ListaSimple<Cancion> lista = nuevaLista(true);
+        Random aleatorio = new Random(1);
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, lista)) {
+            bitacora.setUmbralCompactacion(2000);
+            for (int i = 0; i < 10000; i++) {
+                Cancion sonda = cancion("T" + aleatorio.nextInt(1000), "A", 1);
+                switch (aleatorio.nextInt(3)) {
+                    case 0:
+                        bitacora.insertarFrente(cancion(sonda.getTitulo(), "A" + i, i / 7f + 1));
+                        break;
+                    case 1:
+                        bitacora.eliminar(sonda);
+                        break;
+                    default:
+                        NodoSimple<Cancion> nodo = lista.buscar(sonda);
+                        if (nodo != null) {
+                            bitacora.actualizar(nodo, cancion("T" + aleatorio.nextInt(1000), "X" + i, i / 3f + 1));
+                        }
+                }
+            }
+            assertTrue(bitacora.getCompactaciones() > 0);
+        }
+
+        ListaSimple<Cancion> reconstruida = nuevaLista(true);
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, reconstruida)) {
+            assertEquals(0, bitacora.getBytesDescartados());
+        }
+        assertEquals(textos(lista), textos(reconstruida));
+    }
+
+    @Test
+    public void unRegistroIncompletoSeDescarta() throws Exception {
+        Path archivo = archivo("canciones.wal");
+        ListaSimple<Cancion> lista = nuevaLista(true);
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, lista)) {
+            bitacora.insertarFrente(cancion("A", "A", 1));
+            bitacora.insertarFrente(cancion("B", "B", 2));
+        }
+        long completo = Files.size(archivo);
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, nuevaLista(true))) {
+            bitacora.insertarFrente(cancion("C", "C", 3));
+        }
+        long largoUltimo = Files.size(archivo) - completo;
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.truncate(Files.size(archivo) - 3);
+        }
+
+        ListaSimple<Cancion> reconstruida = nuevaLista(true);
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, reconstruida)) {
+            assertEquals(largoUltimo - 3, bitacora.getBytesDescartados());
+        }
+        assertEquals(textos(lista), textos(reconstruida));
+        assertEquals(completo, Files.size(archivo));
+    }
+
+    @Test
+    public void unCrcInvalidoDescartaDesdeEseRegistro() throws Exception {
+        Path archivo = archivo("canciones.wal");
+        ListaSimple<Cancion> lista = nuevaLista(true);
+        long hastaA;
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, lista)) {
+            bitacora.insertarFrente(cancion("A", "A", 1));
+            hastaA = Files.size(archivo);
+            bitacora.insertarFrente(cancion("B", "B", 2));
+            bitacora.insertarFrente(cancion("C", "C", 3));
+        }
+        long tamanio = Files.size(archivo);
+        // Cambia el ultimo byte del registro de B (su genero).
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long posicion = hastaA + (tamanio - hastaA) / 2 - 1;
+            ByteBuffer dato = ByteBuffer.allocate(1);
+            canal.read(dato, posicion);
+            dato.put(0, (byte) (dato.get(0) ^ 1)).rewind();
+            canal.write(dato, posicion);
+        }
+
+        ListaSimple<Cancion> reconstruida = nuevaLista(true);
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, reconstruida)) {
+            assertEquals(tamanio - hastaA, bitacora.getBytesDescartados());
+        }
+        assertEquals(List.of("A|A|1.0|Genero"), textos(reconstruida));
+    }
+
+    /**
+     * Una actualizacion con datos invalidos no debe registrarse ni modificar
+     * la cancion.
+     */
+    @Test
+    public void actualizarConDatosInvalidosNoRegistraNada() throws Exception {
+        Path archivo = archivo("canciones.wal");
+        ListaSimple<Cancion> lista = nuevaLista(true);
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, lista)) {
+            bitacora.insertarFrente(cancion("A", "A", 1));
+            long registros = bitacora.getRegistros();
+            try {
+                bitacora.actualizar(lista.getPrimero(), cancion("B", " ", 2));
+                fail("Se esperaba IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // esperado
+            }
+            assertEquals(registros, bitacora.getRegistros());
+            assertEquals(List.of("A|A|1.0|Genero"), textos(lista));
+        }
+        ListaSimple<Cancion> reconstruida = nuevaLista(true);
+        BitacoraCanciones.abrir(archivo, reconstruida).close();
+        assertEquals(textos(lista), textos(reconstruida));
+    }
+
+    @Test
+    public void commitEnGrupoDesdeVariosHilos() throws Exception {
+        Path archivo = archivo("canciones.wal");
+        ListaSimple<Cancion> lista = nuevaLista(true);
+        try (BitacoraCanciones bitacora = BitacoraCanciones.abrir(archivo, lista)) {
+            Thread[] hilos = new Thread[8];
+            Exception[] fallas = new Exception[hilos.length];
+            for (int h = 0; h < hilos.length; h++) {
+                int hilo = h;
+                hilos[h] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 200; i++) {
+                            bitacora.insertarFrente(cancion("H" + hilo + "-" + i, "A", 1));
+                        }
+                    } catch (Exception e) {
+                        fallas[hilo] = e;
+                    }
+                });
+                hilos[h].start();
+            }
+            for (Thread hilo : hilos) {
+                hilo.join();
+            }
+            for (Exception falla : fallas) {
+                if (falla != null) {
+                    throw falla;
+                }
+            }
+            assertEquals(1600, lista.tamanio());
+            assertTrue(bitacora.getGrupos() <= 1600);
+        }
+        ListaSimple<Cancion> reconstruida = nuevaLista(true);
+        BitacoraCanciones.abrir(archivo, reconstruida).close();
+        assertEquals(textos(lista), textos(reconstruida));
+    }
+
+    private Path archivo(String nombre) {
+        return carpeta.getRoot().toPath().resolve(nombre);
+    }
+
+}
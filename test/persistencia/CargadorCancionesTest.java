@@ -0,0 +1,171 @@
+package persistencia;
+
+import entidades.Cancion;
+import entidades.CancionCodificada;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import static listas_genericas.DatosPrueba.nuevaLista;
+import static listas_genericas.DatosPrueba.textos;
+import listas_genericas.ListaSimple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Pruebas de {@link CargadorCanciones}: campos entre comillas, tambien con
+ * saltos de linea, el encabezado, las filas invalidas, y que la carga en
+ * tramos paralelos de lo mismo que la secuencial.
+ *
+ * @author Carlos Álvarez
+ */
+public class CargadorCancionesTest {
+
+    @Rule
+    public TemporaryFolder carpeta = new TemporaryFolder();
+
+    @Test
+    public void interpretaComillasYEncabezado() throws Exception {
+        Path archivo = escribir("canciones.csv",
+                "Titulo,Artista,Duracion,Genero\r\n"
+                + "Uno,\"Apellido, Nombre\",3.5,Rock\r\n"
+                + "\"Dos \"\"en vivo\"\"\",Banda, 4 ,Jazz\n"
+                + "\"Tres\nlineas\r\nde titulo\",Banda,5,\"Pop\"\n"
+                + "\n"
+                + "Cuatro,Banda,6,Rock");
+        ListaSimple<Cancion> lista = nuevaLista(false);
+
+        ResultadoCarga resultado = new CargadorCanciones(',').cargar(archivo, lista);
+
+        assertEquals(4, resultado.getFilas());
+        assertEquals(0, resultado.getFilasInvalidas());
+        assertEquals(List.of(
+                "Cuatro|Banda|6.0|Rock",
+                "Tres\nlineas\r\nde titulo|Banda|5.0|Pop",
+                "Dos \"en vivo\"|Banda|4.0|Jazz",
+                "Uno|Apellido, Nombre|3.5|Rock"), textos(lista));
+    }
+
+    @Test
+    public void cuentaLasFilasInvalidas() throws Exception {
+        Path archivo = escribir("canciones.csv",
+                "Uno,Banda,3,Rock\n"
+                + "Faltan,Campos,3\n"
+                + "Sobran,Campos,3,Rock,Extra\n"
+                + " ,Banda,3,Rock\n"
+                + "Cero,Banda,0,Rock\n"
+                + "Negativa,Banda,-2,Rock\n"
+                + "Texto,Banda,tres,Rock\n"
+                + "Titulo,Banda,3,Rock\n");
+        ListaSimple<Cancion> lista = nuevaLista(false);
+
+        ResultadoCarga resultado = new CargadorCanciones(',').cargar(archivo, lista);
+
+        // El encabezado solo se reconoce en la primera fila; despues es una cancion mas.
+        assertEquals(2, resultado.getFilas());
+        assertEquals(6, resultado.getFilasInvalidas());
+        assertEquals(List.of("Titulo|Banda|3.0|Rock", "Uno|Banda|3.0|Rock"), textos(lista));
+    }
+
+    @Test
+    public void separaPorTabulacionLosArchivosTsv() throws Exception {
+        Path archivo = escribir("canciones.tsv", "titulo\tartista\tduracion\tgenero\nUno, Dos\tBanda\t3\tRock\n");
+        ListaSimple<Cancion> lista = nuevaLista(false);
+
+        ResultadoCarga resultado = CargadorCanciones.para(archivo).cargar(archivo, lista);
+
+        assertEquals(1, resultado.getFilas());
+        assertEquals(List.of("Uno, Dos|Banda|3.0|Rock"), textos(lista));
+    }
+
+    @Test
+    public void codificaLosTextosConElCodificadorDelCargador() throws Exception {
+        Path archivo = escribir("canciones.csv", "Uno,Banda,3,Rock\nDos,Banda,4,Jazz\n");
+        CargadorCanciones cargador = new CargadorCanciones(',');
+        cargador.setCodificarTextos(true);
+        ListaSimple<Cancion> lista = nuevaLista(false);
+
+        cargador.cargar(archivo, lista);
+
+        for (Cancion cancion : lista) {
+            assertSame(cargador.getCodificador(), ((CancionCodificada) cancion).getCodificador());
+        }
+        assertEquals(List.of("Dos|Banda|4.0|Jazz", "Uno|Banda|3.0|Rock"), textos(lista));
+        assertEquals(2, cargador.getCodificador().getGeneros().tamanio());
+    }
+
+    /**
+     * Los campos con saltos de linea ocupan buena parte del archivo, asi que
+     * muchos cortes nominales entre tramos caen entre comillas.
+     */
+    @Test
+    public void laCargaParalelaCoincideConLaSecuencial() throws Exception {
+        Path archivo = escribir("canciones.csv", contenidoAleatorio(3000));
+        CargadorCanciones secuencial = new CargadorCanciones(',');
+        ListaSimple<Cancion> esperada = nuevaLista(false);
+        ResultadoCarga esperado = secuencial.cargar(archivo, esperada);
+        assertTrue(esperado.getFilasInvalidas() > 0);
+
+        for (int cantidadTramos : new int[]{2, 3, 7, 16, 500}) {
+            CargadorCanciones paralelo = new CargadorCanciones(',');
+            paralelo.setParalelo(true);
+            paralelo.setCantidadTramos(cantidadTramos);
+            paralelo.setTamanioLote(64);
+            ListaSimple<Cancion> lista = nuevaLista(false);
+
+            ResultadoCarga resultado = paralelo.cargar(archivo, lista);
+
+            assertEquals(esperado.getFilas(), resultado.getFilas());
+            assertEquals(esperado.getFilasInvalidas(), resultado.getFilasInvalidas());
+            assertEquals(esperado.getFilas(), lista.tamanio());
+            assertEquals(textos(esperada), textos(lista));
+        }
+    }
+
+    @Test
+    public void masTramosQueFilas() throws Exception {
+        Path archivo = escribir("canciones.csv", "titulo,artista,duracion,genero\n\"A\n\",B,1,C\nD,E,2,F\n");
+        CargadorCanciones cargador = new CargadorCanciones(',');
+        cargador.setParalelo(true);
+        cargador.setCantidadTramos(40);
+        ListaSimple<Cancion> lista = nuevaLista(false);
+
+        ResultadoCarga resultado = cargador.cargar(archivo, lista);
+
+        assertEquals(2, resultado.getFilas());
+        assertEquals(List.of("D|E|2.0|F", "A\n|B|1.0|C"), textos(lista));
+    }
+
+    private static String contenidoAleatorio(int filas) {
+        Random aleatorio = new Random(11);
+        StringBuilder contenido = new StringBuilder("titulo,artista,duracion,genero\n");
+        for (int i = 0; i < filas; i++) {
+            int tipo = aleatorio.nextInt(8);
+            if (tipo == 0) {
+                contenido.append("Invalida").append(i).append(",Banda\n");
+            } else if (tipo < 3) {
+                contenido.append("\"Larga ").append(i);
+                for (int j = aleatorio.nextInt(20); j > 0; j--) {
+                    contenido.append("\nverso, \"\"").append(j).append("\"\"");
+                }
+                contenido.append("\",Banda,").append(1 + i % 9).append(",\"Rock\r\nLento\"\r\n");
+            } else {
+                contenido.append("T").append(i).append(",\"Artista ").append(i % 13).append("\",")
+                        .append(1 + i % 7).append(".5,Genero").append(i % 5).append('\n');
+            }
+        }
+        return contenido.toString();
+    }
+
+    private Path escribir(String nombre, String contenido) throws Exception {
+        Path archivo = carpeta.getRoot().toPath().resolve(nombre);
+        Files.write(archivo, contenido.getBytes(StandardCharsets.UTF_8));
+        return archivo;
+    }
+
+}
@@ -0,0 +1,110 @@
+package persistencia;
+
+import entidades.Cancion;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static listas_genericas.DatosPrueba.textos;
+import listas_genericas.ListaSimple;
+import listas_genericas.NodoSimple;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Pruebas de {@link SnapshotCanciones}: lo cargado debe coincidir con lo
+ * guardado, tambien en modo perezoso y decodificando desde varios hilos.
+ *
+ * @author Carlos Álvarez
+ */
+public class SnapshotCancionesTest {
+
+    private static final int CANCIONES = 500;
+
+    @Rule
+    public TemporaryFolder carpeta = new TemporaryFolder();
+
+    @Test
+    public void cargarDevuelveLoGuardado() throws Exception {
+        Path archivo = carpeta.getRoot().toPath().resolve("canciones.snap");
+        ListaSimple<Cancion> original = lista();
+        assertEquals(CANCIONES, SnapshotCanciones.guardar(original, archivo));
+
+        for (boolean perezosa : new boolean[]{false, true}) {
+            ListaSimple<Cancion> cargada = new ListaSimple<>(Cancion::getTitulo);
+            assertEquals(CANCIONES, SnapshotCanciones.cargar(archivo, cargada, perezosa));
+            assertEquals(textos(original), textos(cargada));
+        }
+        assertFalse(Files.exists(archivo.resolveSibling("canciones.snap.guardando")));
+    }
+
+    /**
+     * Guardar sobre el archivo del que se cargaron canciones perezosas no
+     * debe alterar las que todavia no se decodificaron.
+     */
+    @Test
+    public void guardarNoAlteraLasCancionesPendientes() throws Exception {
+        Path archivo = carpeta.getRoot().toPath().resolve("canciones.snap");
+        ListaSimple<Cancion> original = lista();
+        SnapshotCanciones.guardar(original, archivo);
+        ListaSimple<Cancion> cargada = new ListaSimple<>(Cancion::getTitulo);
+        SnapshotCanciones.cargar(archivo, cargada, true);
+
+        SnapshotCanciones.guardar(new ListaSimple<>(Cancion::getTitulo), archivo);
+
+        assertFalse(((CancionPerezosa) cargada.getPrimero().getDato()).isDecodificada());
+        assertEquals(textos(original), textos(cargada));
+    }
+
+    @Test
+    public void decodificarDesdeVariosHilos() throws Exception {
+        Path archivo = carpeta.getRoot().toPath().resolve("canciones.snap");
+        ListaSimple<Cancion> original = lista();
+        SnapshotCanciones.guardar(original, archivo);
+        List<String> esperados = textos(original);
+
+        for (int ronda = 0; ronda < 20; ronda++) {
+            ListaSimple<Cancion> cargada = new ListaSimple<>(Cancion::getTitulo);
+            SnapshotCanciones.cargar(archivo, cargada, true);
+            ExecutorService hilos = Executors.newFixedThreadPool(4);
+            try {
+                CountDownLatch largada = new CountDownLatch(1);
+                List<Future<List<String>>> resultados = new ArrayList<>();
+                for (int h = 0; h < 4; h++) {
+                    resultados.add(hilos.submit(() -> {
+                        largada.await();
+                        return textos(cargada);
+                    }));
+                }
+                largada.countDown();
+                for (Future<List<String>> resultado : resultados) {
+                    assertEquals(esperados, resultado.get(60, TimeUnit.SECONDS));
+                }
+            } finally {
+                hilos.shutdownNow();
+            }
+            for (NodoSimple<Cancion> p = cargada.getPrimero(); p != null; p = p.getSiguiente()) {
+                assertTrue(((CancionPerezosa) p.getDato()).isDecodificada());
+            }
+        }
+    }
+
+    private static ListaSimple<Cancion> lista() {
+        ListaSimple<Cancion> lista = new ListaSimple<>(Cancion::getTitulo);
+        for (int i = 0; i < CANCIONES; i++) {
+            lista.insertarFinal(new Cancion("Cancion " + i, i % 3 == 0 ? null : "Artista " + i % 7,
+                    i / 10f, "Género " + i % 5));
+        }
+        return lista;
+    }
+
+}
@@ -0,0 +1,153 @@
+package utilidades;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Pruebas de {@link LectorBufferado}: las lineas deben cortarse igual que con
+ * un lector de caracteres, y los numeros deben interpretarse con el mismo
+ * resultado, bit a bit, que {@link Float#parseFloat},
+ * {@link Double#parseDouble} y {@link Long#parseLong}.
+ *
+ * @author Carlos Álvarez
+ */
+public class LectorBufferadoTest {
+
+    private static final List<String> DECIMALES = List.of(
+            "4.57", "-0.5", "+3", ".5", "5.", "-0", "0.1", " 12.25 ", "1e3", "-2.5E-3",
+            "16777216", "16777217", "0.12345678901", "99999999999.9", "3.4028235e38",
+            "NaN", "-Infinity", "0x1p3", ".", "-", "+", "", "1.2.3", "12a", "1 2");
+
+    @Test
+    public void flotantesComoFloatParseFloat() {
+        List<String> lineas = new ArrayList<>(DECIMALES);
+        Random aleatorio = new Random(4);
+        for (int i = 0; i < 20_000; i++) {
+            lineas.add(decimalAleatorio(aleatorio));
+        }
+
+        LectorBufferado lector = lector(lineas);
+        for (String texto : lineas) {
+            assertTrue(lector.leerLinea());
+            Float esperado = null;
+            try {
+                esperado = Float.parseFloat(texto.trim());
+            } catch (NumberFormatException e) {
+                // Se compara abajo.
+            }
+            try {
+                float valor = lector.parsearFlotante();
+                assertEquals(texto, Float.floatToIntBits(esperado), Float.floatToIntBits(valor));
+            } catch (NumberFormatException e) {
+                assertEquals(texto, null, esperado);
+            }
+        }
+        assertFalse(lector.leerLinea());
+    }
+
+    @Test
+    public void doublesComoDoubleParseDouble() {
+        List<String> lineas = new ArrayList<>(DECIMALES);
+        Random aleatorio = new Random(8);
+        for (int i = 0; i < 20_000; i++) {
+            lineas.add(decimalAleatorio(aleatorio));
+        }
+
+        LectorBufferado lector = lector(lineas);
+        for (String texto : lineas) {
+            assertTrue(lector.leerLinea());
+            Double esperado = null;
+            try {
+                esperado = Double.parseDouble(texto.trim());
+            } catch (NumberFormatException e) {
+                // Se compara abajo.
+            }
+            try {
+                double valor = lector.parsearDouble();
+                assertEquals(texto, Double.doubleToLongBits(esperado), Double.doubleToLongBits(valor));
+            } catch (NumberFormatException e) {
+                assertEquals(texto, null, esperado);
+            }
+        }
+    }
+
+    @Test
+    public void enterosComoLongParseLongConRango() {
+        List<String> lineas = List.of(
+                "0", "42", " -17 ", "+5", "9223372036854775807", "-9223372036854775808",
+                "9223372036854775808", "-9223372036854775809", "99999999999999999999",
+                "", "-", "+", "1a", "1.0", "--1", "1 2", "100", "101", "-1");
+
+        LectorBufferado lector = lector(lineas);
+        for (String texto : lineas) {
+            assertTrue(lector.leerLinea());
+            assertEquals(texto, entero(texto, Long.MIN_VALUE, Long.MAX_VALUE),
+                    parsear(lector, Long.MIN_VALUE, Long.MAX_VALUE));
+            assertEquals(texto, entero(texto, 0, 100), parsear(lector, 0, 100));
+            assertEquals(texto, entero(texto, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                    parsear(lector, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void cortaLasLineasEntreBuffers() {
+        String larga = "x".repeat(200_000);
+        byte[] bytes = ("uno\r\n\ndos\r\n" + larga + "\nañadido\r").getBytes(StandardCharsets.UTF_8);
+        LectorBufferado lector = new LectorBufferado(new ByteArrayInputStream(bytes));
+
+        for (String esperada : List.of("uno", "", "dos", larga, "añadido")) {
+            assertTrue(lector.leerLinea());
+            assertEquals(esperada, lector.lineaComoString());
+        }
+        assertFalse(lector.leerLinea());
+    }
+
+    private static String decimalAleatorio(Random aleatorio) {
+        StringBuilder texto = new StringBuilder();
+        if (aleatorio.nextInt(4) == 0) {
+            texto.append('-');
+        }
+        texto.append(aleatorio.nextInt(aleatorio.nextBoolean() ? 100 : 100_000_000));
+        if (aleatorio.nextInt(5) > 0) {
+            texto.append('.');
+            for (int d = aleatorio.nextInt(12); d > 0; d--) {
+                texto.append(aleatorio.nextInt(10));
+            }
+        }
+        return texto.toString();
+    }
+
+    /**
+     * @return el entero de {@code Long.parseLong(texto.trim())} si esta en
+     * el rango, o {@code null} si no es valido.
+     */
+    private static Long entero(String texto, long minimo, long maximo) {
+        try {
+            long valor = Long.parseLong(texto.trim());
+            return valor >= minimo && valor <= maximo ? valor : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long parsear(LectorBufferado lector, long minimo, long maximo) {
+        try {
+            return lector.parsearEntero(minimo, maximo);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static LectorBufferado lector(List<String> lineas) {
+        byte[] bytes = String.join("\n", lineas).getBytes(StandardCharsets.UTF_8);
+        return new LectorBufferado(new ByteArrayInputStream(bytes));
+    }
+
+}
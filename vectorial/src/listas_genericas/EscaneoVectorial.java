@@ -0,0 +1,126 @@
+package listas_genericas;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Recorridos de {@link ColumnasCanciones} con la Vector API
+ * ({@code jdk.incubator.vector}), usando el ancho de vector preferido del
+ * procesador. Las ultimas posiciones que no completan un vector se recorren
+ * de forma escalar.
+ *
+ * Las sumas se acumulan en {@code float} por bloques de
+ * {@value #TAMANIO_BLOQUE} valores y cada bloque se suma en {@code double},
+ * por lo que pueden diferir de la version escalar en los ultimos digitos.
+ *
+ * Solo se carga desde {@link EscaneoColumnas#disponible()}. Se compila
+ * aparte del resto del proyecto, con el target {@code escaneo-vectorial}, y se
+ * usa cuando su jar esta en el classpath y se ejecuta con
+ * {@code --add-modules jdk.incubator.vector}.
+ *
+ * @author Carlos Álvarez
+ */
+final class EscaneoVectorial implements EscaneoColumnas {
+
+    private static final VectorSpecies<Float> FLOTANTES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> ENTEROS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> ENTEROS_FLOTANTES = VectorSpecies.of(int.class, FLOTANTES.vectorShape());
+    private static final int TAMANIO_BLOQUE = 1024;
+
+    @Override
+    public int contarEntre(float[] valores, int cantidad, float minimo, float maximo) {
+        int total = 0;
+        int i = 0;
+        for (int limite = FLOTANTES.loopBound(cantidad); i < limite; i += FLOTANTES.length()) {
+            total += entre(FloatVector.fromArray(FLOTANTES, valores, i), minimo, maximo).trueCount();
+        }
+        for (; i < cantidad; i++) {
+            if (valores[i] >= minimo && valores[i] <= maximo) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public int seleccionarEntre(float[] valores, int cantidad, float minimo, float maximo, int[] destino) {
+        int seleccionados = 0;
+        int i = 0;
+        for (int limite = FLOTANTES.loopBound(cantidad); i < limite; i += FLOTANTES.length()) {
+            long bits = entre(FloatVector.fromArray(FLOTANTES, valores, i), minimo, maximo).toLong();
+            while (bits != 0) {
+                destino[seleccionados++] = i + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        for (; i < cantidad; i++) {
+            if (valores[i] >= minimo && valores[i] <= maximo) {
+                destino[seleccionados++] = i;
+            }
+        }
+        return seleccionados;
+    }
+
+    @Override
+    public double sumar(float[] valores, int cantidad) {
+        double suma = 0;
+        int i = 0;
+        int limite = FLOTANTES.loopBound(cantidad);
+        while (i < limite) {
+            FloatVector acumulado = FloatVector.zero(FLOTANTES);
+            for (int finBloque = Math.min(limite, i + TAMANIO_BLOQUE); i < finBloque; i += FLOTANTES.length()) {
+                acumulado = acumulado.add(FloatVector.fromArray(FLOTANTES, valores, i));
+            }
+            suma += acumulado.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < cantidad; i++) {
+            suma += valores[i];
+        }
+        return suma;
+    }
+
+    @Override
+    public int contarIguales(int[] codigos, int cantidad, int codigo) {
+        int total = 0;
+        int i = 0;
+        for (int limite = ENTEROS.loopBound(cantidad); i < limite; i += ENTEROS.length()) {
+            total += IntVector.fromArray(ENTEROS, codigos, i).compare(VectorOperators.EQ, codigo).trueCount();
+        }
+        for (; i < cantidad; i++) {
+            if (codigos[i] == codigo) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public double sumarDonde(float[] valores, int[] codigos, int cantidad, int codigo) {
+        double suma = 0;
+        int i = 0;
+        int limite = FLOTANTES.loopBound(cantidad);
+        while (i < limite) {
+            FloatVector acumulado = FloatVector.zero(FLOTANTES);
+            for (int finBloque = Math.min(limite, i + TAMANIO_BLOQUE); i < finBloque; i += FLOTANTES.length()) {
+                VectorMask<Float> iguales = IntVector.fromArray(ENTEROS_FLOTANTES, codigos, i)
+                        .compare(VectorOperators.EQ, codigo).cast(FLOTANTES);
+                acumulado = acumulado.add(FloatVector.fromArray(FLOTANTES, valores, i), iguales);
+            }
+            suma += acumulado.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < cantidad; i++) {
+            if (codigos[i] == codigo) {
+                suma += valores[i];
+            }
+        }
+        return suma;
+    }
+
+    private static VectorMask<Float> entre(FloatVector vector, float minimo, float maximo) {
+        return vector.compare(VectorOperators.GE, minimo).and(vector.compare(VectorOperators.LE, maximo));
+    }
+
+}